@@ -0,0 +1,75 @@
+package com.raumania.bench;
+
+import com.raumania.core.MapLoader.LevelData;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.math.Vec2f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One step of {@link GameManager#checkCollisions(double)} with a growing number of balls and
+ * bricks.
+ *
+ * <p>The bricks are strong bricks and the balls are immortal, so every step sees the same number
+ * of objects no matter how long the benchmark runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final double STEP = 1.0 / 120;
+
+    @Param({"1", "16", "256", "1024"})
+    public int balls;
+
+    /** Rows of 13 strong bricks at the top of the play field. */
+    @Param({"0", "8", "20"})
+    public int brickRows;
+
+    private GameManager manager;
+
+    @Setup
+    public void setUp() {
+        JavaFxRuntime.start();
+        List<String> layout = new ArrayList<>();
+        for (int r = 0; r < GameManager.DEFAULT_ROWS; r++) {
+            layout.add((r < brickRows ? "1" : "0").repeat(GameManager.DEFAULT_COLS));
+        }
+        manager = new GameManager();
+        manager.initGame();
+        manager.setCurrentLvl(new LevelData(0, "collision-bench",
+                Map.of("0", "empty", "1", "strong"), layout, new ArrayList<>(), null));
+        manager.startGame();
+        Vec2f up = new Vec2f(0, -1);
+        for (int i = 1; i < balls; i++) {
+            manager.spawnAdditionalBall(manager.getWorldWidth() * 0.5, manager.getWorldHeight() - 120, up);
+        }
+        for (Ball ball : manager.getBallsList()) {
+            ball.setImmortal(true);
+        }
+    }
+
+    @Benchmark
+    public int checkCollisions() {
+        manager.checkCollisions(STEP);
+        return manager.getBallsList().size();
+    }
+}
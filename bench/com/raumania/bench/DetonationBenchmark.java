@@ -0,0 +1,74 @@
+package com.raumania.bench;
+
+import com.raumania.core.MapLoader.LevelData;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chain explosion through rows of explosive bricks.
+ *
+ * <p>The chain itself is private to {@link GameManager}, so the benchmark measures the collision
+ * step in which the ball hits the bottom row and the explosion spreads through every connected
+ * brick. The level is rebuilt before each invocation, which is why the mode is single shot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 200)
+@Measurement(iterations = 1000)
+@Fork(1)
+public class DetonationBenchmark {
+    /** Rows of explosive bricks, the chain destroys {@code 13 * rows} bricks. */
+    @Param({"1", "5", "20"})
+    public int rows;
+
+    private GameManager manager;
+    private LevelData level;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        JavaFxRuntime.start();
+        List<String> layout = new ArrayList<>();
+        for (int r = 0; r < GameManager.DEFAULT_ROWS; r++) {
+            layout.add((r < rows ? "1" : "0").repeat(GameManager.DEFAULT_COLS));
+        }
+        level = new LevelData(0, "detonation-bench", Map.of("0", "empty", "1", "explosive"),
+                layout, new ArrayList<>(), null);
+        manager = new GameManager();
+        manager.initGame();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        manager.setCurrentLvl(level);
+        manager.startGame();
+        // just below the bottom row, moving up: the first step hits it
+        Ball ball = manager.getBallsList().getFirst();
+        ball.setPosition(manager.getWorldWidth() * 0.5, rows * 20 + 2);
+        ball.setDirection(0, -1);
+        ball.setSpeed(400);
+    }
+
+    @Benchmark
+    public int detonate() {
+        manager.checkCollisions(1.0 / 60);
+        return manager.getBricks().size();
+    }
+}
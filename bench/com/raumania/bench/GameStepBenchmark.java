@@ -0,0 +1,75 @@
+package com.raumania.bench;
+
+import com.raumania.core.MapLoader.LevelData;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.math.Vec2f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full simulation step, {@link GameManager#update(double)}, in a running match.
+ *
+ * <p>The match never ends: a row of strong bricks shields the only normal brick, so the level is
+ * never cleared, and the balls are immortal, so no life is lost. Every step therefore does the
+ * same work: moving the balls and paddle, the collision sweep, the effect countdowns and the
+ * frame phase bookkeeping. Run with the {@code gc} profiler (the {@code bench} profile does) to
+ * check that a steady-state step allocates nothing: {@code gc.alloc.rate.norm} should stay at 0
+ * bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStepBenchmark {
+    private static final double STEP = 1.0 / 120;
+
+    @Param({"1", "16", "256"})
+    public int balls;
+
+    private GameManager manager;
+
+    @Setup
+    public void setUp() {
+        JavaFxRuntime.start();
+        List<String> layout = new ArrayList<>();
+        layout.add("1" + "0".repeat(GameManager.DEFAULT_COLS - 1));
+        layout.add("3".repeat(GameManager.DEFAULT_COLS));
+        manager = new GameManager(42);
+        manager.initGame();
+        manager.setCurrentLvl(new LevelData(0, "step-bench",
+                Map.of("0", "empty", "1", "normal", "3", "strong"), layout, new ArrayList<>(),
+                null));
+        manager.startGame();
+        Vec2f up = new Vec2f(0, -1);
+        for (int i = 1; i < balls; i++) {
+            manager.spawnAdditionalBall(manager.getWorldWidth() * 0.5,
+                    manager.getWorldHeight() - 120, up);
+        }
+        for (Ball ball : manager.getBallsList()) {
+            ball.setImmortal(true);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        manager.update(STEP);
+        return manager.getScore();
+    }
+}
@@ -0,0 +1,37 @@
+package com.raumania.bench;
+
+import com.raumania.core.HighScore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HighScore#addHighScore(String, String, int)}, including saving the list to disk.
+ *
+ * <p>The scores go to {@code highscores.json} in the working directory, which the {@code bench}
+ * profile sets to {@code target/}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighScoreBenchmark {
+    private int score;
+
+    @Benchmark
+    public int addHighScore() {
+        score = (score + 7919) % 100_000;
+        HighScore.getInstance().addHighScore("bench", "BENCH", score);
+        return HighScore.getInstance().getEntries().size();
+    }
+}
@@ -0,0 +1,30 @@
+package com.raumania.bench;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX runtime once per benchmark fork.
+ *
+ * <p>Game objects own image views and sprite sheets, so the toolkit has to be up before a
+ * {@link com.raumania.gameplay.manager.GameManager} or a sprite sheet can be created. On a machine
+ * without a display, run the benchmarks with {@code -Dglass.platform=Monocle
+ * -Dmonocle.platform=Headless}.
+ */
+final class JavaFxRuntime {
+    private static boolean started = false;
+
+    private JavaFxRuntime() {
+    }
+
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // already started by another benchmark in this fork
+        }
+        started = true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.raumania.bench;
+
+import com.raumania.core.CompiledLevel;
+import com.raumania.core.MapLoader;
+import com.raumania.core.MapLoader.LevelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a level: parsing its JSON file, and reading its compiled file past the level cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLoaderBenchmark {
+    @Param({"level_1", "level_5", "level_10"})
+    public String level;
+
+    @Benchmark
+    public LevelData loadLevel() {
+        return MapLoader.loadLevel(level);
+    }
+
+    @Benchmark
+    public CompiledLevel loadCompiledLevel() {
+        MapLoader.getLevelCache().clear();
+        return MapLoader.loadCompiledLevel(level);
+    }
+}
@@ -0,0 +1,104 @@
+package com.raumania.bench;
+
+import com.raumania.core.AStarInstructor;
+import com.raumania.core.CompiledLevel;
+import com.raumania.core.MapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AStarInstructor#findPath} on the brick layouts of the shipped levels.
+ *
+ * <p>Empty cells are walkable. The search runs to the middle of the bottom row, where the paddle
+ * is, from the empty cell farthest away from it that can still reach it, so every level gets its
+ * longest search instead of an unreachable start.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+    @Param({"level_1", "level_3", "level_5", "level_7", "level_10"})
+    public String level;
+
+    @Param({"false", "true"})
+    public boolean diagonals;
+
+    private final AStarInstructor instructor = new AStarInstructor();
+    private boolean[][] passable;
+    private int[] path;
+    private int startRow;
+    private int startCol;
+    private int goalRow;
+    private int goalCol;
+
+    @Setup
+    public void setUp() {
+        CompiledLevel compiled = MapLoader.loadCompiledLevel(level);
+        if (compiled == null) {
+            throw new IllegalStateException("Level not found: " + level);
+        }
+        int rows = compiled.getRows();
+        int cols = compiled.getCols();
+        passable = new boolean[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                passable[r][c] = compiled.getType(r, c) == CompiledLevel.EMPTY;
+            }
+        }
+        goalRow = rows - 1;
+        goalCol = cols / 2;
+        passable[goalRow][goalCol] = true;
+        path = new int[rows * cols];
+
+        // breadth-first from the goal, the last cell dequeued is the farthest reachable one
+        int[] queue = new int[rows * cols];
+        boolean[] seen = new boolean[rows * cols];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = goalRow * cols + goalCol;
+        seen[goalRow * cols + goalCol] = true;
+        int farthest = queue[0];
+        while (head < tail) {
+            int cell = queue[head++];
+            farthest = cell;
+            int r = cell / cols;
+            int c = cell % cols;
+            for (int k = 0; k < 4; k++) {
+                int nr = r + (k == 0 ? -1 : k == 1 ? 1 : 0);
+                int nc = c + (k == 2 ? -1 : k == 3 ? 1 : 0);
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols
+                        || !passable[nr][nc] || seen[nr * cols + nc]) {
+                    continue;
+                }
+                seen[nr * cols + nc] = true;
+                queue[tail++] = nr * cols + nc;
+            }
+        }
+        startRow = farthest / cols;
+        startCol = farthest % cols;
+    }
+
+    @Benchmark
+    public int findPath() {
+        return instructor.findPath(passable, startRow, startCol, goalRow, goalCol, diagonals, path);
+    }
+
+    @Benchmark
+    public Object findPathAllocating() {
+        return AStarInstructor.findPath(passable, startRow, startCol, goalRow, goalCol, diagonals);
+    }
+}
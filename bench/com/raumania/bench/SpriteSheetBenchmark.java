@@ -0,0 +1,41 @@
+package com.raumania.bench;
+
+import com.raumania.core.SpriteSheet;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpriteSheet#nextFrame()} on a 6 x 6 sheet of 16 px frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteSheetBenchmark {
+    private SpriteSheet sheet;
+
+    @Setup
+    public void setUp() {
+        JavaFxRuntime.start();
+        sheet = new SpriteSheet(new WritableImage(96, 96), 16, 16, 36, 6);
+    }
+
+    @Benchmark
+    public int nextFrame() {
+        sheet.nextFrame();
+        return sheet.getCurrentFrame();
+    }
+}
@@ -1,9 +1,9 @@
 package com.raumania.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * Simple A* pathfinding implementation for rectangular boolean grids.
@@ -11,13 +11,25 @@ import java.util.PriorityQueue;
  * <p>Usage: provide a 2D boolean grid where true = walkable, false = blocked. The algorithm returns
  * a list of int[2] coordinates {row, col} from start to goal (inclusive). If no path exists, an
  * empty list is returned.
+ *
+ * <p>Callers that search every frame (e.g. bosses) should keep an instance and use {@link
+ * #findPath(boolean[][], int, int, int, int, boolean, int[])}. The instance keeps its working
+ * arrays between searches and invalidates them with a generation counter instead of clearing
+ * them, the open set is an {@link IndexedMinHeap} of primitive cell indices, and the path is
+ * written into a buffer owned by the caller, so a search allocates nothing once the arrays have
+ * grown to the grid size. The movement rules are those of {@link GridMoves}.
  */
 public class AStarInstructor {
 
-    private static final int[] DIR4_R = {-1, 1, 0, 0};
-    private static final int[] DIR4_C = {0, 0, -1, 1};
-    private static final int[] DIR8_R = {-1, -1, -1, 0, 0, 1, 1, 1};
-    private static final int[] DIR8_C = {-1, 0, 1, -1, 1, -1, 0, 1};
+    // per-cell search state, valid only where stamp[i] == generation
+    private int[] stamp = new int[0];
+    private double[] g = new double[0];
+    private int[] parent = new int[0];
+    private boolean[] closed = new boolean[0];
+    private int generation;
+
+    // open set ordered by f
+    private final IndexedMinHeap open = new IndexedMinHeap();
 
     /**
      * Finds a path on a grid using A*.
@@ -33,151 +45,143 @@ public class AStarInstructor {
     public static List<int[]> findPath(
             boolean[][] passable, int sr, int sc, int gr, int gc, boolean allowDiagonals) {
         if (passable == null || passable.length == 0) return Collections.emptyList();
-        int rows = passable.length;
         int cols = passable[0].length;
-        if (!inBounds(sr, sc, rows, cols) || !inBounds(gr, gc, rows, cols))
-            return Collections.emptyList();
-        if (!passable[sr][sc] || !passable[gr][gc]) return Collections.emptyList();
-        if (sr == gr && sc == gc) {
-            List<int[]> single = new ArrayList<>();
-            single.add(new int[] {sr, sc});
-            return single;
-        }
+        int[] cells = new int[passable.length * cols];
+        int length = new AStarInstructor().findPath(passable, sr, sc, gr, gc, allowDiagonals, cells);
 
-        int n = rows * cols;
-        double[] g = new double[n];
-        int[] parent = new int[n];
-        boolean[] closed = new boolean[n];
-        for (int i = 0; i < n; i++) {
-            g[i] = Double.POSITIVE_INFINITY;
-            parent[i] = -1;
+        List<int[]> path = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            path.add(new int[] {cells[i] / cols, cells[i] % cols});
         }
+        return path;
+    }
+
+    /**
+     * Finds a path on a grid using A* and writes it into {@code out}.
+     *
+     * <p>The path is stored as cell indices {@code row * cols + col} from start to goal inclusive.
+     * A path never visits a cell twice, so a buffer of {@code rows * cols} entries is always large
+     * enough.
+     *
+     * @param passable boolean grid [rows][cols], true = walkable
+     * @param sr start row
+     * @param sc start col
+     * @param gr goal row
+     * @param gc goal col
+     * @param allowDiagonals whether 8-neighbour moves are allowed
+     * @param out receives the cell indices of the path
+     * @return the number of cells written to {@code out}, or 0 if there is no path
+     * @throws IllegalArgumentException if the path does not fit into {@code out}
+     */
+    public int findPath(
+            boolean[][] passable,
+            int sr,
+            int sc,
+            int gr,
+            int gc,
+            boolean allowDiagonals,
+            int[] out) {
+        if (passable == null || passable.length == 0) return 0;
+        int rows = passable.length;
+        int cols = passable[0].length;
+        if (!inBounds(sr, sc, rows, cols) || !inBounds(gr, gc, rows, cols)) return 0;
+        if (!passable[sr][sc] || !passable[gr][gc]) return 0;
 
         int startIdx = idx(sr, sc, cols);
         int goalIdx = idx(gr, gc, cols);
+        if (startIdx == goalIdx) {
+            checkCapacity(out, 1);
+            out[0] = startIdx;
+            return 1;
+        }
+
+        beginSearch(rows * cols);
+        touch(startIdx);
         g[startIdx] = 0.0;
-        double h0 = heuristic(sr, sc, gr, gc, allowDiagonals);
-        PriorityQueue<Node> open = new PriorityQueue<>();
-        open.add(new Node(startIdx, h0));
+        open.push(startIdx, GridMoves.estimate(sr, sc, gr, gc, allowDiagonals));
 
+        int[] dirR = allowDiagonals ? GridMoves.DIR8_R : GridMoves.DIR4_R;
+        int[] dirC = allowDiagonals ? GridMoves.DIR8_C : GridMoves.DIR4_C;
+        boolean found = false;
         while (!open.isEmpty()) {
-            Node cur = open.poll();
-            int curIdx = cur.idx;
-            if (closed[curIdx]) continue;
+            int curIdx = open.pop();
             closed[curIdx] = true;
-
-            if (curIdx == goalIdx) break;
+            if (curIdx == goalIdx) {
+                found = true;
+                break;
+            }
 
             int cr = curIdx / cols;
             int cc = curIdx % cols;
-
-            if (allowDiagonals) {
-                for (int k = 0; k < DIR8_R.length; k++) {
-                    int nr = cr + DIR8_R[k];
-                    int nc = cc + DIR8_C[k];
-                    considerNeighbor(
-                            passable,
-                            rows,
-                            cols,
-                            cr,
-                            cc,
-                            nr,
-                            nc,
-                            g,
-                            parent,
-                            closed,
-                            goalIdx,
-                            open,
-                            allowDiagonals);
-                }
-            } else {
-                for (int k = 0; k < DIR4_R.length; k++) {
-                    int nr = cr + DIR4_R[k];
-                    int nc = cc + DIR4_C[k];
-                    considerNeighbor(
-                            passable,
-                            rows,
-                            cols,
-                            cr,
-                            cc,
-                            nr,
-                            nc,
-                            g,
-                            parent,
-                            closed,
-                            goalIdx,
-                            open,
-                            allowDiagonals);
+            for (int k = 0; k < dirR.length; k++) {
+                int nr = cr + dirR[k];
+                int nc = cc + dirC[k];
+                if (!inBounds(nr, nc, rows, cols) || !passable[nr][nc]) continue;
+                int nidx = idx(nr, nc, cols);
+                touch(nidx);
+                if (closed[nidx]) continue;
+
+                double tentative = g[curIdx] + GridMoves.stepCost(cr, cc, nr, nc);
+                if (tentative < g[nidx]) {
+                    g[nidx] = tentative;
+                    parent[nidx] = curIdx;
+                    double f = tentative + GridMoves.estimate(nr, nc, gr, gc, allowDiagonals);
+                    if (open.contains(nidx)) {
+                        open.update(nidx, f);
+                    } else {
+                        open.push(nidx, f);
+                    }
                 }
             }
         }
+        if (!found) return 0;
 
-        if (parent[goalIdx] == -1 && startIdx != goalIdx) {
-            return Collections.emptyList();
+        // Reconstruct: count first, then fill the buffer backwards
+        int length = 0;
+        for (int cur = goalIdx; cur != -1; cur = parent[cur]) {
+            length++;
         }
-
-        // Reconstruct
-        List<int[]> path = new ArrayList<>();
-        int cur = goalIdx;
-        while (cur != -1) {
-            int r = cur / cols;
-            int c = cur % cols;
-            path.add(new int[] {r, c});
-            if (cur == startIdx) break;
-            cur = parent[cur];
+        checkCapacity(out, length);
+        int i = length;
+        for (int cur = goalIdx; cur != -1; cur = parent[cur]) {
+            out[--i] = cur;
         }
-        Collections.reverse(path);
-        return path;
+        return length;
     }
 
-    private static void considerNeighbor(
-            boolean[][] passable,
-            int rows,
-            int cols,
-            int cr,
-            int cc,
-            int nr,
-            int nc,
-            double[] g,
-            int[] parent,
-            boolean[] closed,
-            int goalIdx,
-            PriorityQueue<Node> open,
-            boolean diag) {
-        if (!inBounds(nr, nc, rows, cols)) return;
-        int nidx = idx(nr, nc, cols);
-        if (closed[nidx]) return;
-        if (!passable[nr][nc]) return;
-
-        double moveCost = ((nr == cr || nc == cc) ? 1.0 : Math.sqrt(2));
-        double tentative = g[idx(cr, cc, cols)] + moveCost;
-        if (tentative < g[nidx]) {
-            g[nidx] = tentative;
-            parent[nidx] = idx(cr, cc, cols);
-            int gr = goalIdx / cols;
-            int gc = goalIdx % cols;
-            double f = tentative + heuristic(nr, nc, gr, gc, diag);
-            open.add(new Node(nidx, f));
+    /** Starts a new search, growing the working arrays if the grid is larger than before. */
+    private void beginSearch(int n) {
+        if (stamp.length < n) {
+            stamp = new int[n];
+            g = new double[n];
+            parent = new int[n];
+            closed = new boolean[n];
+            generation = 0;
         }
+        generation++;
+        if (generation == 0) {
+            // wrapped around: old stamps could collide with the new generation
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        open.ensureCapacity(n);
+        open.clear();
     }
 
-    private record Node(int idx,double f) implements Comparable<Node> {
-
-        @Override
-            public int compareTo(Node o) {
-                return Double.compare(this.f, o.f);
-            }
+    /** Lazily resets the state of a cell the first time it is seen in the current search. */
+    private void touch(int i) {
+        if (stamp[i] != generation) {
+            stamp[i] = generation;
+            g[i] = Double.POSITIVE_INFINITY;
+            parent[i] = -1;
+            closed[i] = false;
         }
+    }
 
-    private static double heuristic(int r1, int c1, int r2, int c2, boolean diag) {
-        int dx = Math.abs(r1 - r2);
-        int dy = Math.abs(c1 - c2);
-        if (diag) {
-            // Euclidean distance
-            return Math.hypot(dx, dy);
-        } else {
-            // Manhattan
-            return dx + dy;
+    private static void checkCapacity(int[] out, int length) {
+        if (out.length < length) {
+            throw new IllegalArgumentException(
+                    "Output buffer too small: need " + length + ", got " + out.length);
         }
     }
 
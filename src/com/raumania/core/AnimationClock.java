@@ -0,0 +1,89 @@
+package com.raumania.core;
+
+/**
+ * The single clock that drives every sprite animation of the game.
+ *
+ * <p>Playing {@link SpriteSheet}s register here instead of starting an {@link
+ * javafx.animation.AnimationTimer} each. The game loop calls {@link #advance(double)} once per
+ * frame, which steps all live sprites in one pass over a compact array; a sprite is removed in
+ * constant time by swapping the last one into its slot. Since the clock only moves when the game
+ * loop advances it, all animations freeze while the game is paused. A tick costs O(active
+ * sprites) and allocates nothing.
+ */
+public final class AnimationClock {
+    private static final AnimationClock instance = new AnimationClock();
+
+    private SpriteSheet[] sprites = new SpriteSheet[64];
+    private int count;
+    private double time;
+
+    private AnimationClock() {
+    }
+
+    /**
+     * Get the instance of AnimationClock.
+     *
+     * @return the singleton instance
+     */
+    public static AnimationClock getInstance() {
+        return instance;
+    }
+
+    /**
+     * Advances the clock and every playing sprite.
+     *
+     * @param seconds time since the previous call
+     */
+    public void advance(double seconds) {
+        time += seconds;
+        for (int i = 0; i < count; i++) {
+            sprites[i].advance(seconds);
+        }
+    }
+
+    /**
+     * Returns the total time the clock has been advanced by, for animations that are drawn
+     * without a {@link SpriteSheet}.
+     *
+     * @return the animation time in seconds
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the number of sprites currently playing.
+     *
+     * @return the active sprite count
+     */
+    public int getActiveCount() {
+        return count;
+    }
+
+    /** Starts driving a sprite. Does nothing if it is already playing. */
+    void add(SpriteSheet sprite) {
+        if (sprite.clockSlot >= 0) {
+            return;
+        }
+        if (count == sprites.length) {
+            SpriteSheet[] grown = new SpriteSheet[count * 2];
+            System.arraycopy(sprites, 0, grown, 0, count);
+            sprites = grown;
+        }
+        sprite.clockSlot = count;
+        sprites[count++] = sprite;
+    }
+
+    /** Stops driving a sprite. Does nothing if it is not playing. */
+    void remove(SpriteSheet sprite) {
+        int slot = sprite.clockSlot;
+        if (slot < 0) {
+            return;
+        }
+        SpriteSheet last = sprites[--count];
+        sprites[slot] = last;
+        last.clockSlot = slot;
+        sprites[count] = null;
+        sprite.clockSlot = -1;
+    }
+}
@@ -0,0 +1,287 @@
+package com.raumania.core;
+
+import com.raumania.core.MapLoader.BossData;
+import com.raumania.core.MapLoader.LevelData;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A level in the compact binary format produced by {@link LevelCompiler}.
+ *
+ * <p>The JSON files in {@code resources/levels} stay the authoring format. Compiled, a level is a
+ * small header, a byte grid of brick types, a byte grid of brick colours and a table of bosses:
+ *
+ * <pre>
+ * int    magic 'ARKL'
+ * short  format version
+ * int    checksum of the JSON source, see {@link #sourceChecksum(byte[])}
+ * int    level number
+ * short  rows, short cols
+ * short  name length, UTF-8 name bytes
+ * byte   brick type  [rows * cols], index into {@link #BRICK_TYPES}
+ * byte   brick colour[rows * cols], {@link #RANDOM_COLOR} for a random colour
+ * short  boss count, then per boss: byte type (index into {@link #BOSS_TYPES}), int x, int y
+ * </pre>
+ *
+ * <p>All values are big-endian. {@link #read(ByteBuffer)} does not copy the grids: the cells are
+ * read straight from the buffer, which may be a memory-mapped file. Only the name is decoded.
+ *
+ * <p>The checksum of the JSON file the level was compiled from lets {@link MapLoader} notice a
+ * compiled level that is older than its source, and load the JSON instead.
+ */
+public final class CompiledLevel {
+    public static final int MAGIC = 0x41524B4C;
+    public static final short VERSION = 2;
+    /** Brick type names by type code, as understood by the brick factory. */
+    public static final String[] BRICK_TYPES = {"empty", "normal", "strong", "invisible", "explosive"};
+    public static final int EMPTY = 0;
+    /** Boss type names by type code. */
+    public static final String[] BOSS_TYPES = {"pyramid"};
+    /** Colour code of a brick that gets a random colour when the level is built. */
+    public static final int RANDOM_COLOR = -1;
+
+    private final ByteBuffer data;
+    private final int sourceChecksum;
+    private final int levelNumber;
+    private final String name;
+    private final int rows;
+    private final int cols;
+    private final int typesOffset;
+    private final int colorsOffset;
+    private final byte[] bossTypes;
+    private final int[] bossX;
+    private final int[] bossY;
+
+    private CompiledLevel(ByteBuffer data, int sourceChecksum, int levelNumber, String name,
+                          int rows, int cols, int typesOffset, byte[] bossTypes, int[] bossX,
+                          int[] bossY) {
+        this.data = data;
+        this.sourceChecksum = sourceChecksum;
+        this.levelNumber = levelNumber;
+        this.name = name;
+        this.rows = rows;
+        this.cols = cols;
+        this.typesOffset = typesOffset;
+        this.colorsOffset = typesOffset + rows * cols;
+        this.bossTypes = bossTypes;
+        this.bossX = bossX;
+        this.bossY = bossY;
+    }
+
+    /**
+     * Reads a compiled level. The buffer is read from its current position and must not be
+     * modified afterwards.
+     *
+     * @param buffer the compiled level
+     * @return the level, backed by {@code buffer}
+     * @throws IllegalArgumentException if the buffer does not hold a compiled level
+     */
+    public static CompiledLevel read(ByteBuffer buffer) {
+        ByteBuffer data = buffer.slice().asReadOnlyBuffer();
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a compiled level");
+            }
+            short version = data.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported level format version: " + version);
+            }
+            int sourceChecksum = data.getInt();
+            int levelNumber = data.getInt();
+            int rows = data.getShort();
+            int cols = data.getShort();
+            byte[] nameBytes = new byte[data.getShort()];
+            data.get(nameBytes);
+            int typesOffset = data.position();
+
+            data.position(typesOffset + 2 * rows * cols);
+            int bossCount = data.getShort();
+            byte[] bossTypes = new byte[bossCount];
+            int[] bossX = new int[bossCount];
+            int[] bossY = new int[bossCount];
+            for (int i = 0; i < bossCount; i++) {
+                bossTypes[i] = data.get();
+                bossX[i] = data.getInt();
+                bossY[i] = data.getInt();
+            }
+            return new CompiledLevel(data, sourceChecksum, levelNumber,
+                    new String(nameBytes, StandardCharsets.UTF_8), rows, cols, typesOffset,
+                    bossTypes, bossX, bossY);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupted compiled level", e);
+        }
+    }
+
+    /**
+     * Compiles a level from its JSON form. Rows shorter than the longest one are padded with
+     * empty cells.
+     *
+     * @param level the parsed JSON level
+     * @return the compiled level, backed by a heap buffer
+     * @throws IllegalArgumentException if the level uses an unknown brick or boss type
+     */
+    public static CompiledLevel compile(LevelData level) {
+        return read(ByteBuffer.wrap(toBytes(level)));
+    }
+
+    /**
+     * Encodes a level from its JSON form into the binary format, without a source checksum.
+     *
+     * @param level the parsed JSON level
+     * @return the compiled bytes
+     * @throws IllegalArgumentException if the level uses an unknown brick or boss type
+     */
+    public static byte[] toBytes(LevelData level) {
+        return toBytes(level, 0);
+    }
+
+    /**
+     * Encodes a level from its JSON form into the binary format.
+     *
+     * @param level          the parsed JSON level
+     * @param sourceChecksum checksum of the JSON file, see {@link #sourceChecksum(byte[])}
+     * @return the compiled bytes
+     * @throws IllegalArgumentException if the level uses an unknown brick or boss type
+     */
+    public static byte[] toBytes(LevelData level, int sourceChecksum) {
+        List<String> layout = level.layout() == null ? List.of() : level.layout();
+        List<String> colors = level.colors();
+        boolean hasColors = colors != null && colors.size() == layout.size();
+        Map<String, String> legend = level.legend() == null ? Map.of() : level.legend();
+        List<BossData> bosses = level.bosses() == null ? List.of() : level.bosses();
+        byte[] name = (level.name() == null ? "" : level.name()).getBytes(StandardCharsets.UTF_8);
+
+        int rows = layout.size();
+        int cols = 0;
+        for (String row : layout) {
+            cols = Math.max(cols, row.length());
+        }
+        ByteBuffer out = ByteBuffer.allocate(
+                4 + 2 + 4 + 4 + 2 + 2 + 2 + name.length + 2 * rows * cols + 2 + 9 * bosses.size());
+        out.putInt(MAGIC).putShort(VERSION).putInt(sourceChecksum).putInt(level.levelNumber())
+                .putShort((short) rows).putShort((short) cols)
+                .putShort((short) name.length).put(name);
+
+        for (String row : layout) {
+            for (int c = 0; c < cols; c++) {
+                out.put((byte) (c < row.length() ? brickType(legend, row.charAt(c)) : EMPTY));
+            }
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int color = RANDOM_COLOR;
+                if (hasColors && c < colors.get(r).length()) {
+                    color = colors.get(r).charAt(c) - '0';
+                }
+                out.put((byte) color);
+            }
+        }
+
+        out.putShort((short) bosses.size());
+        for (BossData boss : bosses) {
+            out.put((byte) indexOf(BOSS_TYPES, boss.type(), "Boss"));
+            out.putInt(boss.x());
+            out.putInt(boss.y());
+        }
+        return out.array();
+    }
+
+    /**
+     * Computes the checksum of a JSON level file that is stored in the level compiled from it.
+     *
+     * @param json the bytes of the JSON file
+     * @return the CRC-32 of the bytes
+     */
+    public static int sourceChecksum(byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return (int) crc.getValue();
+    }
+
+    private static int brickType(Map<String, String> legend, char symbol) {
+        return indexOf(BRICK_TYPES, legend.get(String.valueOf(symbol)), "Brick");
+    }
+
+    private static int indexOf(String[] names, String name, String kind) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(kind + " type not exist: " + name);
+    }
+
+    /**
+     * Returns the checksum of the JSON file the level was compiled from.
+     *
+     * @return the checksum, 0 if the level was not compiled from a file
+     */
+    public int getSourceChecksum() {
+        return sourceChecksum;
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the type of the brick in a cell.
+     *
+     * @param r row of the cell
+     * @param c col of the cell
+     * @return an index into {@link #BRICK_TYPES}, {@link #EMPTY} for no brick
+     */
+    public int getType(int r, int c) {
+        return data.get(typesOffset + r * cols + c);
+    }
+
+    /**
+     * Returns the colour of the brick in a cell.
+     *
+     * @param r row of the cell
+     * @param c col of the cell
+     * @return the colour index, or {@link #RANDOM_COLOR}
+     */
+    public int getColor(int r, int c) {
+        return data.get(colorsOffset + r * cols + c);
+    }
+
+    public int getBossCount() {
+        return bossTypes.length;
+    }
+
+    /**
+     * Returns the type of a boss.
+     *
+     * @param i index of the boss
+     * @return an index into {@link #BOSS_TYPES}
+     */
+    public int getBossType(int i) {
+        return bossTypes[i];
+    }
+
+    public int getBossX(int i) {
+        return bossX[i];
+    }
+
+    public int getBossY(int i) {
+        return bossY[i];
+    }
+}
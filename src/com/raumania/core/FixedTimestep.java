@@ -0,0 +1,106 @@
+package com.raumania.core;
+
+/**
+ * Accumulator that turns variable frame times into a whole number of fixed simulation steps.
+ * <p>
+ * Every rendered frame the caller passes the real time elapsed since the previous frame to
+ * {@link #advance(double)} and then runs the simulation exactly that many times with
+ * {@link #getStepSeconds()}. The leftover time is kept for the next frame, and
+ * {@link #getAlpha()} tells the renderer how far it is between the last two simulation states.
+ * </p>
+ * <p>
+ * At most {@code maxStepsPerFrame} steps are produced per frame. If a frame took longer than
+ * that (e.g. after a GC pause or while the window was dragged), the extra time is dropped so
+ * the game slows down briefly instead of spiralling into ever longer catch-up frames.
+ * </p>
+ */
+public class FixedTimestep {
+    public static final int DEFAULT_RATE = 120;
+    public static final int DEFAULT_MAX_STEPS = 8;
+
+    private final int rate;
+    private final double stepSeconds;
+    private final int maxStepsPerFrame;
+    private double accumulator;
+    private long droppedSteps;
+
+    /**
+     * Creates a timestep running at {@value #DEFAULT_RATE} Hz.
+     */
+    public FixedTimestep() {
+        this(DEFAULT_RATE, DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * Creates a timestep.
+     *
+     * @param rate             simulation steps per second (> 0)
+     * @param maxStepsPerFrame upper bound of steps returned by a single {@link #advance} (> 0)
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public FixedTimestep(int rate, int maxStepsPerFrame) {
+        if (rate <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("rate and maxStepsPerFrame must be positive");
+        }
+        this.rate = rate;
+        this.stepSeconds = 1.0 / rate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds the elapsed real time and returns how many simulation steps should run now.
+     *
+     * @param frameSeconds real time since the previous frame, in seconds (negative values count as 0)
+     * @return the number of fixed steps to simulate, between 0 and {@code maxStepsPerFrame}
+     */
+    public int advance(double frameSeconds) {
+        if (frameSeconds > 0) {
+            accumulator += frameSeconds;
+        }
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps > maxStepsPerFrame) {
+            droppedSteps += steps - maxStepsPerFrame;
+            steps = maxStepsPerFrame;
+            // keep only the fractional part so the next frame starts fresh
+            accumulator = accumulator % stepSeconds;
+        } else {
+            accumulator -= steps * stepSeconds;
+        }
+        return steps;
+    }
+
+    /**
+     * Returns the interpolation factor between the previous and the current simulation state.
+     *
+     * @return a value in {@code [0, 1)}
+     */
+    public double getAlpha() {
+        return Math.min(1.0, accumulator / stepSeconds);
+    }
+
+    /** Discards any accumulated time, e.g. when the game is resumed after a pause. */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * Returns how many steps have been skipped because a frame exceeded the step cap.
+     *
+     * @return the total number of dropped steps
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
@@ -0,0 +1,246 @@
+package com.raumania.core;
+
+import java.util.Arrays;
+
+/**
+ * Shared navigation field ("Dijkstra map") towards a single goal cell.
+ *
+ * <p>Instead of every agent searching its own path to the same target, the field stores the
+ * distance from every cell to the goal, and an agent simply steps to the neighbour that is closest
+ * to the goal. The distances are kept by an {@link IncrementalPlanner}, an incremental Dijkstra:
+ * after a cell changes only the cells whose distance actually changed are expanded again. The
+ * field is rebuilt lazily by {@link #update()}, at most once per frame and only if the grid or the
+ * goal has changed, so its cost does not depend on the number of agents reading it.
+ *
+ * <p>Cells that cannot reach the goal get a fallback field: within each walled-off pocket, the
+ * agents are led to the cell of the pocket that is closest (in a straight line) to the goal and
+ * wait there until a wall opens.
+ *
+ * <p>Movement rules match {@link IncrementalPlanner}, see {@link GridMoves}. Like the planner,
+ * the field reads the caller's {@code passable} grid directly and every change must be reported
+ * through {@link #cellChanged(int, int)}.
+ */
+public class FlowField {
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final boolean[][] passable;
+    private final int rows;
+    private final int cols;
+    private final IncrementalPlanner planner;
+
+    // number of steps to the waiting cell of the pocket, NONE for cells that can reach the goal
+    private final int[] fallback;
+    // visit marks and BFS queue of the fallback pass
+    private final int[] mark;
+    private final int[] queue;
+    private int pass;
+
+    private int goal = -1;
+    private boolean dirty;
+    private int version;
+
+    /**
+     * Creates a field over a grid. Call {@link #setGoal(int, int)} before reading it.
+     *
+     * @param passable boolean grid [rows][cols], true = walkable; read on every update
+     */
+    public FlowField(boolean[][] passable) {
+        this.passable = passable;
+        this.rows = passable.length;
+        this.cols = rows == 0 ? 0 : passable[0].length;
+        this.planner = new IncrementalPlanner(passable);
+        int n = rows * cols;
+        fallback = new int[n];
+        mark = new int[n];
+        queue = new int[n];
+    }
+
+    /**
+     * Moves the goal. The field is rebuilt on the next {@link #update()}.
+     *
+     * @param r goal row
+     * @param c goal col
+     */
+    public void setGoal(int r, int c) {
+        int s = Math.max(0, Math.min(r, rows - 1)) * cols + Math.max(0, Math.min(c, cols - 1));
+        if (s == goal) return;
+        goal = s;
+        planner.setGoal(r, c);
+        dirty = true;
+    }
+
+    /**
+     * Reports that the walkability of a cell in the {@code passable} grid has changed.
+     *
+     * @param r row of the changed cell
+     * @param c col of the changed cell
+     */
+    public void cellChanged(int r, int c) {
+        if (goal < 0 || !inBounds(r, c)) return;
+        planner.cellChanged(r, c);
+        dirty = true;
+    }
+
+    /** Brings the field up to date if the grid or the goal changed since the last call. */
+    public void update() {
+        if (!dirty) return;
+        planner.computeAll();
+        buildFallback();
+        dirty = false;
+        version++;
+    }
+
+    /**
+     * Returns the cell an agent standing on {@code (r, c)} should move to next.
+     *
+     * <p>On the goal cell, and on the waiting cell of a pocket that cannot reach the goal, the
+     * cell itself is returned. An agent that overlaps a blocked cell is led out to the best
+     * walkable neighbour.
+     *
+     * @param r row of the agent's cell
+     * @param c col of the agent's cell
+     * @return the next cell as {@code row * cols + col}, or -1 if the agent is outside the grid
+     *     or boxed in
+     */
+    public int nextCell(int r, int c) {
+        if (goal < 0 || !inBounds(r, c)) return -1;
+        int u = r * cols + c;
+        if (u == goal) return u;
+        boolean walkable = passable[r][c];
+
+        // towards the goal
+        int best = -1;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < GridMoves.DIR8_R.length; k++) {
+            int nr = r + GridMoves.DIR8_R[k];
+            int nc = c + GridMoves.DIR8_C[k];
+            if (!inBounds(nr, nc) || !walkable(nr, nc)) continue;
+            double cost = planner.getDistance(nr, nc) + GridMoves.stepCost(r, c, nr, nc);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = nr * cols + nc;
+            }
+        }
+        if (best >= 0) return best;
+
+        // no way to the goal: towards the waiting cell of the pocket
+        int bestSteps = walkable ? fallback[u] : NONE;
+        if (bestSteps == 0) return u;
+        for (int k = 0; k < GridMoves.DIR8_R.length; k++) {
+            int nr = r + GridMoves.DIR8_R[k];
+            int nc = c + GridMoves.DIR8_C[k];
+            if (!inBounds(nr, nc) || !walkable(nr, nc)) continue;
+            int s = nr * cols + nc;
+            if (fallback[s] < bestSteps) {
+                bestSteps = fallback[s];
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether the goal can be reached from a cell.
+     *
+     * @param r row of the cell
+     * @param c col of the cell
+     * @return {@code true} if there is a path to the goal
+     */
+    public boolean isReachable(int r, int c) {
+        return planner.getDistance(r, c) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a counter that is incremented every time the field is rebuilt.
+     *
+     * @return the current version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of columns of the grid, to decode the cell indices returned by {@link
+     * #nextCell(int, int)}.
+     *
+     * @return the column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    private void buildFallback() {
+        Arrays.fill(fallback, NONE);
+        pass++;
+        if (pass == 0) {
+            Arrays.fill(mark, 0);
+            pass = 1;
+        }
+        int goalR = goal / cols;
+        int goalC = goal % cols;
+        for (int s = 0; s < fallback.length; s++) {
+            int r = s / cols;
+            int c = s % cols;
+            if (mark[s] == pass || !passable[r][c] || isReachable(r, c)) continue;
+
+            // flood the pocket and pick the cell closest to the goal
+            int tail = flood(s, -1);
+            int waiting = s;
+            double waitingDist = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < tail; i++) {
+                int q = queue[i];
+                double d = GridMoves.estimate(q / cols, q % cols, goalR, goalC, true);
+                if (d < waitingDist) {
+                    waitingDist = d;
+                    waiting = q;
+                }
+            }
+            // second flood from the waiting cell gives the step counts
+            flood(waiting, s);
+        }
+    }
+
+    /**
+     * Breadth-first flood over an unreachable pocket. With {@code seed == -1} the pocket is marked
+     * as visited; otherwise its step counts to {@code from} are written into {@link #fallback}.
+     */
+    private int flood(int from, int seed) {
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        if (seed < 0) {
+            mark[from] = pass;
+        } else {
+            fallback[from] = 0;
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            int ur = u / cols;
+            int uc = u % cols;
+            for (int k = 0; k < GridMoves.DIR8_R.length; k++) {
+                int nr = ur + GridMoves.DIR8_R[k];
+                int nc = uc + GridMoves.DIR8_C[k];
+                if (!inBounds(nr, nc) || !passable[nr][nc]) continue;
+                int v = nr * cols + nc;
+                if (seed < 0) {
+                    if (mark[v] == pass) continue;
+                    mark[v] = pass;
+                } else {
+                    if (fallback[v] != NONE) continue;
+                    fallback[v] = fallback[u] + 1;
+                }
+                queue[tail++] = v;
+            }
+        }
+        return tail;
+    }
+
+    private boolean walkable(int r, int c) {
+        return passable[r][c] || r * cols + c == goal;
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
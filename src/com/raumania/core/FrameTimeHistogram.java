@@ -0,0 +1,114 @@
+package com.raumania.core;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations, used for frame time percentiles.
+ *
+ * <p>Durations are counted in buckets of equal width; everything longer than the last bucket
+ * lands in an overflow bucket. Recording a duration is a division and an array increment, and
+ * nothing is allocated after construction, so the histogram can be fed every frame. A percentile
+ * is reported as the upper edge of the bucket it falls into, i.e. it is accurate to one bucket
+ * width, and never exceeds the longest duration recorded.
+ */
+public class FrameTimeHistogram {
+    /** Width of a bucket unless configured otherwise: 0.05 ms. */
+    public static final long DEFAULT_BUCKET_NANOS = 50_000;
+    /** Number of buckets unless configured otherwise, covering 100 ms. */
+    public static final int DEFAULT_BUCKETS = 2000;
+
+    private final long bucketNanos;
+    // one more than the number of buckets: the last entry counts the overflow
+    private final int[] counts;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Creates a histogram of {@value #DEFAULT_BUCKETS} buckets of 0.05 ms.
+     */
+    public FrameTimeHistogram() {
+        this(DEFAULT_BUCKET_NANOS, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param bucketNanos width of a bucket in nanoseconds
+     * @param buckets     number of buckets before the overflow bucket
+     * @throws IllegalArgumentException if an argument is not positive
+     */
+    public FrameTimeHistogram(long bucketNanos, int buckets) {
+        if (bucketNanos <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("bucketNanos and buckets must be positive");
+        }
+        this.bucketNanos = bucketNanos;
+        this.counts = new int[buckets + 1];
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values count as 0
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        int bucket = (int) Math.min(nanos / bucketNanos, counts.length - 1);
+        counts[bucket]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Returns the duration below which a given share of the recorded durations lie.
+     *
+     * @param percent the percentile, e.g. {@code 99} for p99
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentileNanos(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                if (i == counts.length - 1) {
+                    return maxNanos;
+                }
+                return Math.min((i + 1) * bucketNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /** Forgets every recorded duration. */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+}
@@ -0,0 +1,88 @@
+package com.raumania.core;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The seeded random number generator behind every random decision of a match.
+ *
+ * <p>It is a SplitMix64 generator: a 64-bit counter advanced by a constant and passed through a
+ * mixing function. It is not synchronized and costs a few arithmetic operations per number, and
+ * the same seed always gives the same numbers on every JVM, so a match can be replayed from its
+ * seed. The other methods of {@link RandomGenerator} ({@code nextInt(bound)}, {@code
+ * nextDouble()}, ...) are derived from {@link #nextLong()}.
+ *
+ * <p>{@link #split()} derives an independent generator. Giving each kind of decision its own
+ * split stream (power-up drops, ball angles, ...) keeps them apart: one more roll in one stream
+ * does not shift the numbers of the others. Not thread-safe, each thread needs its own split.
+ */
+public final class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    // mixed into the seed of a match to derive the stream of randomly generated levels
+    private static final long LEVEL_SALT = 0x6c65766c5f67656eL;
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed the seed, every seed is valid
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Returns a seed for a new match, different on every call.
+     *
+     * @return the seed
+     */
+    public static long newSeed() {
+        return mix64(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns the generator that lays out a random level for a match.
+     *
+     * <p>It is derived from the seed with a salt, so it shares no numbers with the streams
+     * {@link com.raumania.gameplay.manager.GameManager#setSeed(long)} splits from the same seed:
+     * where the bricks are does not decide which of them drop power-ups.
+     *
+     * @param seed the seed of the match
+     * @return a new generator
+     */
+    public static GameRandom forLevel(long seed) {
+        return new GameRandom(seed ^ LEVEL_SALT).split();
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Derives an independent generator and advances this one.
+     *
+     * @return a new generator
+     */
+    public GameRandom split() {
+        return new GameRandom(mix64(nextLong() ^ GOLDEN_GAMMA));
+    }
+
+    /**
+     * Returns the seed this generator was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
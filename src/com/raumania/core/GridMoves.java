@@ -0,0 +1,42 @@
+package com.raumania.core;
+
+/**
+ * Movement rules shared by the grid searches ({@link AStarInstructor}, {@link IncrementalPlanner},
+ * {@link FlowField}): the 4 or 8 neighbours of a cell, the cost of a step and the distance
+ * estimate between two cells.
+ *
+ * <p>A straight step costs 1 and a diagonal step sqrt(2). The estimate is the straight-line
+ * distance when diagonals are allowed and the Manhattan distance otherwise; both never exceed the
+ * real path cost, so A* with them finds shortest paths.
+ */
+final class GridMoves {
+    static final int[] DIR4_R = {-1, 1, 0, 0};
+    static final int[] DIR4_C = {0, 0, -1, 1};
+    static final int[] DIR8_R = {-1, -1, -1, 0, 0, 1, 1, 1};
+    static final int[] DIR8_C = {-1, 0, 1, -1, 1, -1, 0, 1};
+    static final double SQRT2 = Math.sqrt(2);
+
+    private GridMoves() {
+    }
+
+    /**
+     * Returns the cost of a step between two neighbouring cells.
+     *
+     * @return 1 for a straight step, sqrt(2) for a diagonal one
+     */
+    static double stepCost(int r1, int c1, int r2, int c2) {
+        return (r1 == r2 || c1 == c2) ? 1.0 : SQRT2;
+    }
+
+    /**
+     * Estimates the cost of the path between two cells.
+     *
+     * @param diagonals whether 8-neighbour moves are allowed
+     * @return the Euclidean distance with diagonals, the Manhattan distance without
+     */
+    static double estimate(int r1, int c1, int r2, int c2, boolean diagonals) {
+        int dr = Math.abs(r1 - r2);
+        int dc = Math.abs(c1 - c2);
+        return diagonals ? Math.hypot(dr, dc) : dr + dc;
+    }
+}
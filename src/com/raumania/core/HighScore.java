@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.exc.StreamReadException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DatabindException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raumania.core.jfr.HighScoreSaveEvent;
 
 import java.io.File;
 import java.io.IOException;
@@ -71,20 +72,33 @@ public class HighScore {
     }
 
     private void saveHighScores() {
+        HighScoreSaveEvent event = new HighScoreSaveEvent();
+        event.begin();
+        boolean saved = writeHighScores();
+        if (event.shouldCommit()) {
+            event.entries = entries.size();
+            event.success = saved;
+            event.commit();
+        }
+    }
+
+    private boolean writeHighScores() {
         File file = new File(HIGHSCORE_FILE);
         if (!file.exists()) {
             try {
                file.createNewFile();
             } catch (IOException e) {
                 System.err.println("Error creating high scores file!");
-                return;
+                return false;
             }
         }
         ObjectMapper mapper = new ObjectMapper();
         try {
             mapper.writeValue(file, entries);
+            return true;
         } catch (IOException e) {
             System.err.println("Error saving high scores file!" + e);
+            return false;
         }
     }
 
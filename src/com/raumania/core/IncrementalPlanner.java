@@ -0,0 +1,173 @@
+package com.raumania.core;
+
+import java.util.Arrays;
+
+/**
+ * Incremental shortest distances from every cell of a grid to one goal cell.
+ *
+ * <p>Where {@link AStarInstructor} answers each query from scratch, this planner keeps its
+ * distances between queries and only repairs the part affected by a change: it is the backward
+ * search of D* Lite (Lifelong Planning A*) without an agent, so no heuristic is needed and the
+ * search order is the one of Dijkstra's algorithm. When a cell changes, {@link
+ * #cellChanged(int, int)} re-examines just that cell and its neighbours, and the next {@link
+ * #computeAll()} expands only the cells whose distance actually changed. Moving the goal restarts
+ * the search, which is cheap because the goal (the paddle column) changes much less often than
+ * the grid.
+ *
+ * <p>Movement rules match {@link AStarInstructor} with diagonals allowed, see {@link GridMoves}.
+ * The goal cell is always treated as walkable. The planner reads the caller's {@code passable}
+ * grid directly, so the caller must report every change of it through {@link #cellChanged(int,
+ * int)}. Like {@link AStarInstructor}, the queue is an {@link IndexedMinHeap} of primitive cell
+ * indices and no memory is allocated after construction.
+ */
+public class IncrementalPlanner {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    private final boolean[][] passable;
+    private final int rows;
+    private final int cols;
+
+    // g is the distance as of the last expansion, rhs the one-step lookahead from the neighbours
+    private final double[] g;
+    private final double[] rhs;
+    // inconsistent cells (g != rhs) ordered by min(g, rhs)
+    private final IndexedMinHeap queue = new IndexedMinHeap();
+
+    private int goal = -1;
+    private long expansions;
+
+    /**
+     * Creates a planner over a grid.
+     *
+     * @param passable boolean grid [rows][cols], true = walkable; read on every query
+     */
+    public IncrementalPlanner(boolean[][] passable) {
+        this.passable = passable;
+        this.rows = passable.length;
+        this.cols = rows == 0 ? 0 : passable[0].length;
+        int n = rows * cols;
+        g = new double[n];
+        rhs = new double[n];
+        queue.ensureCapacity(n);
+    }
+
+    /**
+     * Moves the goal, restarting the search.
+     *
+     * @param r goal row
+     * @param c goal col
+     */
+    public void setGoal(int r, int c) {
+        int s = Math.max(0, Math.min(r, rows - 1)) * cols + Math.max(0, Math.min(c, cols - 1));
+        if (s == goal) return;
+        goal = s;
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        queue.clear();
+        rhs[goal] = 0;
+        queue.push(goal, 0);
+    }
+
+    /**
+     * Reports that the walkability of a cell in the {@code passable} grid has changed.
+     *
+     * @param r row of the changed cell
+     * @param c col of the changed cell
+     */
+    public void cellChanged(int r, int c) {
+        if (goal < 0 || !inBounds(r, c)) return;
+        int u = r * cols + c;
+        updateVertex(u);
+        updateNeighbours(u);
+    }
+
+    /**
+     * Brings the distance of every cell up to date. After a change only the cells whose distance
+     * actually changed are expanded again, which is what {@link FlowField} relies on.
+     */
+    public void computeAll() {
+        while (!queue.isEmpty()) {
+            int u = queue.pop();
+            expansions++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+            }
+            updateNeighbours(u);
+        }
+    }
+
+    /**
+     * Returns the cost of the shortest path from a cell to the goal as of the last {@link
+     * #computeAll()}.
+     *
+     * @param r row of the cell
+     * @param c col of the cell
+     * @return the distance, or {@link Double#POSITIVE_INFINITY} if the goal cannot be reached
+     */
+    public double getDistance(int r, int c) {
+        if (goal < 0 || !inBounds(r, c)) return INF;
+        return g[r * cols + c];
+    }
+
+    /**
+     * Returns the total number of cells expanded since construction. Useful to check that updates
+     * after small changes stay cheap.
+     *
+     * @return the expansion count
+     */
+    public long getExpansions() {
+        return expansions;
+    }
+
+    private void updateNeighbours(int u) {
+        int ur = u / cols;
+        int uc = u % cols;
+        for (int k = 0; k < GridMoves.DIR8_R.length; k++) {
+            int nr = ur + GridMoves.DIR8_R[k];
+            int nc = uc + GridMoves.DIR8_C[k];
+            if (inBounds(nr, nc)) updateVertex(nr * cols + nc);
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u != goal) {
+            double best = INF;
+            int ur = u / cols;
+            int uc = u % cols;
+            if (!blocked(u)) {
+                for (int k = 0; k < GridMoves.DIR8_R.length; k++) {
+                    int nr = ur + GridMoves.DIR8_R[k];
+                    int nc = uc + GridMoves.DIR8_C[k];
+                    if (!inBounds(nr, nc)) continue;
+                    int s = nr * cols + nc;
+                    if (blocked(s)) continue;
+                    double cost = GridMoves.stepCost(ur, uc, nr, nc) + g[s];
+                    if (cost < best) best = cost;
+                }
+            }
+            rhs[u] = best;
+        }
+        if (g[u] != rhs[u]) {
+            double key = Math.min(g[u], rhs[u]);
+            if (queue.contains(u)) {
+                queue.update(u, key);
+            } else {
+                queue.push(u, key);
+            }
+        } else if (queue.contains(u)) {
+            queue.remove(u);
+        }
+    }
+
+    private boolean blocked(int s) {
+        return s != goal && !passable[s / cols][s % cols];
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
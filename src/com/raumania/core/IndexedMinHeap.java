@@ -0,0 +1,147 @@
+package com.raumania.core;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of grid cell indices ordered by a {@code double} key, shared by the grid
+ * searches ({@link AStarInstructor}, {@link IncrementalPlanner}).
+ *
+ * <p>The heap remembers where every cell is stored, so the key of a queued cell can be changed
+ * and a cell can be removed in O(log n) without searching for it. Cells are plain indices
+ * {@code row * cols + col} and nothing is allocated after the arrays have grown to the grid size.
+ * Cells with equal keys come out in a fixed order that only depends on the order of the calls.
+ */
+final class IndexedMinHeap {
+    private int[] heap = new int[0];
+    private double[] keys = new double[0];
+    // index of the cell in the heap, or -1 when it is not queued
+    private int[] pos = new int[0];
+    private int size;
+
+    /**
+     * Makes room for the cells {@code 0 .. n - 1}. Growing empties the heap.
+     *
+     * @param n number of cells
+     */
+    void ensureCapacity(int n) {
+        if (pos.length >= n) return;
+        heap = new int[n];
+        keys = new double[n];
+        pos = new int[n];
+        Arrays.fill(pos, -1);
+        size = 0;
+    }
+
+    /** Removes every cell, in time proportional to the number of queued cells. */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int cell) {
+        return pos[cell] >= 0;
+    }
+
+    /** Returns the cell with the smallest key without removing it. */
+    int peek() {
+        return heap[0];
+    }
+
+    /** Returns the smallest key. */
+    double peekKey() {
+        return keys[0];
+    }
+
+    /**
+     * Queues a cell that is not queued yet.
+     *
+     * @param cell the cell
+     * @param key  its key
+     */
+    void push(int cell, double key) {
+        int i = size++;
+        heap[i] = cell;
+        keys[i] = key;
+        pos[cell] = i;
+        siftUp(i);
+    }
+
+    /** Removes and returns the cell with the smallest key. */
+    int pop() {
+        int top = heap[0];
+        remove(top);
+        return top;
+    }
+
+    /**
+     * Changes the key of a queued cell, in either direction.
+     *
+     * @param cell the cell
+     * @param key  its new key
+     */
+    void update(int cell, double key) {
+        int i = pos[cell];
+        keys[i] = key;
+        siftUp(i);
+        siftDown(pos[cell]);
+    }
+
+    /**
+     * Removes a queued cell.
+     *
+     * @param cell the cell
+     */
+    void remove(int cell) {
+        int i = pos[cell];
+        pos[cell] = -1;
+        size--;
+        if (i == size) return;
+        int moved = heap[size];
+        heap[i] = moved;
+        keys[i] = keys[size];
+        pos[moved] = i;
+        siftUp(i);
+        siftDown(pos[moved]);
+    }
+
+    private void siftUp(int i) {
+        int cell = heap[i];
+        double key = keys[i];
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (keys[up] <= key) break;
+            heap[i] = heap[up];
+            keys[i] = keys[up];
+            pos[heap[i]] = i;
+            i = up;
+        }
+        heap[i] = cell;
+        keys[i] = key;
+        pos[cell] = i;
+    }
+
+    private void siftDown(int i) {
+        int cell = heap[i];
+        double key = keys[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (key <= keys[child]) break;
+            heap[i] = heap[child];
+            keys[i] = keys[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = cell;
+        keys[i] = key;
+        pos[cell] = i;
+    }
+}
@@ -0,0 +1,183 @@
+package com.raumania.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of loaded levels, evicting the least recently used level when full.
+ *
+ * <p>Every entry is the pending or finished load of a level, so callers asking for the same
+ * level at the same time share a single load, whether it was started by {@link #get(String)} on
+ * the FX thread or by {@link #prefetch(String)} on the background thread. A level that could not
+ * be loaded is not kept, the next request tries again.
+ *
+ * <p>Hits, misses, evictions and prefetches are counted; a {@link #get(String)} that finds a
+ * prefetch still running counts as a hit and waits for it.
+ */
+public class LevelCache {
+    private final int capacity;
+    private final Function<String, CompiledLevel> loader;
+    // access order: iteration starts at the least recently used level
+    private final LinkedHashMap<String, CompletableFuture<CompiledLevel>> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private ExecutorService prefetcher;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long prefetches;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity maximum number of levels kept
+     * @param loader loads a level by name, returning {@code null} if it does not exist
+     */
+    public LevelCache(int capacity, Function<String, CompiledLevel> loader) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns a level, loading it on the calling thread on a miss.
+     *
+     * @param name level name
+     * @return the level, or {@code null} if it could not be loaded
+     */
+    public CompiledLevel get(String name) {
+        CompletableFuture<CompiledLevel> entry;
+        boolean load = false;
+        synchronized (this) {
+            entry = entries.get(name);
+            if (entry != null) {
+                hits++;
+            } else {
+                misses++;
+                entry = new CompletableFuture<>();
+                put(name, entry);
+                load = true;
+            }
+        }
+        if (load) {
+            load(name, entry);
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts loading a level on the background thread, unless it is cached or already loading.
+     *
+     * @param name level name
+     */
+    public void prefetch(String name) {
+        CompletableFuture<CompiledLevel> entry;
+        synchronized (this) {
+            if (entries.containsKey(name)) {
+                return;
+            }
+            prefetches++;
+            entry = new CompletableFuture<>();
+            put(name, entry);
+            if (prefetcher == null) {
+                prefetcher = Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "level-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+        prefetcher.execute(() -> load(name, entry));
+    }
+
+    private void load(String name, CompletableFuture<CompiledLevel> entry) {
+        CompiledLevel level;
+        try {
+            level = loader.apply(name);
+        } catch (RuntimeException e) {
+            discard(name, entry);
+            entry.completeExceptionally(e);
+            return;
+        }
+        if (level == null) {
+            discard(name, entry);
+        }
+        entry.complete(level);
+    }
+
+    private synchronized void discard(String name, CompletableFuture<CompiledLevel> entry) {
+        entries.remove(name, entry);
+    }
+
+    private void put(String name, CompletableFuture<CompiledLevel> entry) {
+        entries.put(name, entry);
+        Iterator<Map.Entry<String, CompletableFuture<CompiledLevel>>> it =
+                entries.entrySet().iterator();
+        while (entries.size() > capacity && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Checks whether a level is cached or being loaded, without counting a hit.
+     *
+     * @param name level name
+     * @return {@code true} if the level is in the cache
+     */
+    public synchronized boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /** Removes every level from the cache. The counters are kept. */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /** Resets the hit, miss, eviction and prefetch counters to zero. */
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        prefetches = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized long getPrefetches() {
+        return prefetches;
+    }
+
+    public synchronized int getCount() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
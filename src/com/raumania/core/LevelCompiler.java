@@ -0,0 +1,81 @@
+package com.raumania.core;
+
+import com.raumania.core.MapLoader.LevelData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiles the JSON levels of a directory into the binary {@link CompiledLevel} format.
+ *
+ * <p>Every {@code <name>.json} gets a {@code <name>.lvl} next to it, which {@link
+ * MapLoader#loadCompiledLevel(String)} then prefers over the JSON file as long as the checksum of
+ * the JSON stored in it still matches. An edited level is loaded from its JSON until it is
+ * compiled again:
+ *
+ * <pre>
+ * java com.raumania.core.LevelCompiler [levels directory, default resources/levels]
+ * </pre>
+ */
+public final class LevelCompiler {
+
+    private LevelCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "resources/levels");
+        int compiled = compileAll(dir);
+        System.out.println("Compiled " + compiled + " level(s) in " + dir);
+    }
+
+    /**
+     * Compiles every JSON level in a directory.
+     *
+     * @param dir the levels directory
+     * @return the number of levels compiled
+     * @throws IOException if a level cannot be read or written
+     */
+    public static int compileAll(Path dir) throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path json : files) {
+                String file = json.getFileName().toString();
+                Path target = json.resolveSibling(
+                        file.substring(0, file.length() - ".json".length())
+                                + MapLoader.COMPILED_EXTENSION);
+                compile(json, target);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compiles one JSON level.
+     *
+     * @param json the JSON level
+     * @param target where to write the compiled level
+     * @throws IOException if the level cannot be read or written
+     */
+    public static void compile(Path json, Path target) throws IOException {
+        byte[] source = Files.readAllBytes(json);
+        LevelData level;
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(source),
+                StandardCharsets.UTF_8)) {
+            level = MapLoader.parseLevel(reader);
+        }
+        byte[] bytes;
+        try {
+            bytes = CompiledLevel.toBytes(level, CompiledLevel.sourceChecksum(source));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid level " + json + ": " + e.getMessage(), e);
+        }
+        Files.write(target, bytes);
+    }
+}
@@ -4,16 +4,34 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raumania.core.jfr.LevelLoadEvent;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 
 public class MapLoader {
     private static final MapLoader instance = new MapLoader();
     private static final String LEVELS_PATH = "/resources/levels/";
+    /** Extension of the levels compiled by {@link LevelCompiler}. */
+    public static final String COMPILED_EXTENSION = ".lvl";
+    // thread-safe once configured, shared by all loads
+    private static final ObjectMapper mapper = new ObjectMapper();
+    /** Number of compiled levels kept in memory. */
+    public static final int LEVEL_CACHE_SIZE = 5;
+    // compiled levels are never modified after loading, so the same level is handed out
+    private static final LevelCache levelCache =
+            new LevelCache(LEVEL_CACHE_SIZE, MapLoader::readCompiledLevel);
 
     private MapLoader() {}
 
@@ -21,21 +39,192 @@ public class MapLoader {
         return instance;
     }
 
+    /**
+     * Load a level from its JSON file in resources/levels folder. The JSON form is for authoring
+     * and is parsed on every call; use {@link #loadCompiledLevel(String)} to play a level.
+     *
+     * @param levelName level file name without extension (e.g. "level_1")
+     * @return the level, or {@code null} if it could not be loaded
+     */
     public static LevelData loadLevel(String levelName) {
-        String path = LEVELS_PATH + levelName + ".json";
-        try (InputStream stream = MapLoader.class.getResourceAsStream(path)) {
-            if (stream == null) {
-                throw new RuntimeException("Level file not found: " + path);
+        return readLevel(levelName);
+    }
+
+    /**
+     * Returns the name of a numbered level.
+     *
+     * @param levelNumber the level number, starting at 1
+     * @return the level file name without extension (e.g. "level_1")
+     */
+    public static String levelName(int levelNumber) {
+        return "level_" + levelNumber;
+    }
+
+    /**
+     * Load a level for playing. The compiled {@value #COMPILED_EXTENSION} file is used if there is
+     * one and it was compiled from the current JSON file, memory-mapped when the resources are
+     * plain files; otherwise the JSON file is parsed and compiled in memory. The last
+     * {@value #LEVEL_CACHE_SIZE} levels used are kept in the {@link #getLevelCache() level cache}.
+     *
+     * @param levelName level file name without extension (e.g. "level_1")
+     * @return the level, or {@code null} if it could not be loaded
+     */
+    public static CompiledLevel loadCompiledLevel(String levelName) {
+        return levelCache.get(levelName);
+    }
+
+    /**
+     * Starts loading a level and the levels before and after it in the background, so switching
+     * to them or retrying is instant. Levels already cached are skipped.
+     *
+     * @param levelNumber the level being played or shown, starting at 1
+     */
+    public static void prefetchAround(int levelNumber) {
+        for (int n = levelNumber - 1; n <= levelNumber + 1; n++) {
+            if (n > 0 && hasLevel(levelName(n))) {
+                levelCache.prefetch(levelName(n));
             }
+        }
+    }
+
+    /**
+     * Returns the cache behind {@link #loadCompiledLevel(String)}, e.g. to read its counters.
+     *
+     * @return the shared level cache
+     */
+    public static LevelCache getLevelCache() {
+        return levelCache;
+    }
 
-            ObjectMapper mapper = new ObjectMapper();
-            try (InputStreamReader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
-                return mapper.readValue(reader, LevelData.class);
+    /**
+     * Checks whether a level file exists, without parsing it.
+     *
+     * @param levelName level file name without extension (e.g. "level_1")
+     * @return {@code true} if the level can be loaded
+     */
+    public static boolean hasLevel(String levelName) {
+        return MapLoader.class.getResource(LEVELS_PATH + levelName + COMPILED_EXTENSION) != null
+                || MapLoader.class.getResource(LEVELS_PATH + levelName + ".json") != null;
+    }
+
+    /**
+     * Parses a level in the JSON authoring format.
+     *
+     * @param reader the JSON text
+     * @return the parsed level
+     * @throws IOException if the JSON cannot be read or does not describe a level
+     */
+    public static LevelData parseLevel(Reader reader) throws IOException {
+        return mapper.readValue(reader, LevelData.class);
+    }
+
+    private static CompiledLevel readCompiledLevel(String levelName) {
+        return readCompiledLevel(levelName,
+                MapLoader.class.getResource(LEVELS_PATH + levelName + COMPILED_EXTENSION),
+                MapLoader.class.getResource(LEVELS_PATH + levelName + ".json"));
+    }
+
+    /**
+     * Loads a level from its compiled file, falling back to the JSON file when the compiled one
+     * is missing, unreadable or was compiled from a different version of the JSON.
+     *
+     * @param levelName level name, for messages
+     * @param compiled  the compiled level, or {@code null}
+     * @param json      the JSON level, or {@code null}
+     * @return the level, or {@code null} if it could not be loaded
+     */
+    static CompiledLevel readCompiledLevel(String levelName, URL compiled, URL json) {
+        if (compiled == null) {
+            return compileJson(levelName, json);
+        }
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        CompiledLevel level = null;
+        try {
+            level = CompiledLevel.read(mapOrRead(compiled));
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            System.err.println("Error loading compiled level: " + levelName);
+            e.printStackTrace();
+        } finally {
+            if (event.shouldCommit()) {
+                event.level = levelName;
+                event.compiled = true;
+                event.rows = level == null ? 0 : level.getRows();
+                event.success = level != null;
+                event.commit();
+            }
+        }
+        if (json == null) {
+            return level;
+        }
+        if (level != null && level.getSourceChecksum() == checksumOf(json)) {
+            return level;
+        }
+        if (level != null) {
+            System.err.println("Compiled level " + levelName + " is older than its JSON file,"
+                    + " run LevelCompiler to update it");
+        }
+        return compileJson(levelName, json);
+    }
+
+    private static CompiledLevel compileJson(String levelName, URL json) {
+        LevelData level = readLevel(levelName, json);
+        return level == null ? null : CompiledLevel.compile(level);
+    }
+
+    private static int checksumOf(URL url) {
+        try (InputStream stream = url.openStream()) {
+            return CompiledLevel.sourceChecksum(stream.readAllBytes());
+        } catch (IOException e) {
+            // unreadable source: keep the compiled level, the JSON would fail to load as well
+            return 0;
+        }
+    }
+
+    /** Maps a level file into memory, or copies it into a direct buffer if it is inside a jar. */
+    private static ByteBuffer mapOrRead(URL url) throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()),
+                    StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream stream = url.openStream()) {
+            byte[] bytes = stream.readAllBytes();
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        }
+    }
+
+    private static LevelData readLevel(String levelName) {
+        return readLevel(levelName, MapLoader.class.getResource(LEVELS_PATH + levelName + ".json"));
+    }
+
+    private static LevelData readLevel(String levelName, URL url) {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        LevelData level = null;
+        try {
+            if (url == null) {
+                throw new RuntimeException("Level file not found: "
+                        + LEVELS_PATH + levelName + ".json");
+            }
+            try (InputStreamReader reader =
+                         new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                level = parseLevel(reader);
+                return level;
             }
         } catch (Exception e) {
             System.err.println("Error loading level: " + levelName);
             e.printStackTrace();
             return null;
+        } finally {
+            if (event.shouldCommit()) {
+                event.level = levelName;
+                event.compiled = false;
+                event.rows = level == null || level.layout() == null ? 0 : level.layout().size();
+                event.success = level != null;
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,153 @@
+package com.raumania.core;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of reusable objects.
+ *
+ * <p>Objects that are created often and live briefly (balls, power-ups, hit and explosion effects)
+ * are returned with {@link #release(Object)} when they leave the game and handed out again by
+ * {@link #acquire()} instead of allocating a new object, its JavaFX node and its sprite sheet.
+ * The caller resets an acquired object to its new state. At most {@link #getCapacity()} idle
+ * objects are kept; objects released while the pool is full are left to the garbage collector.
+ *
+ * <p>The pool counts the objects it created, reused, took back and dropped, see {@link
+ * #toString()}. It is not thread-safe and is only used on the FX thread.
+ *
+ * @param <T> type of the pooled objects
+ */
+public class ObjectPool<T> {
+    /** Number of idle objects kept by a pool unless configured otherwise. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> idle = new ArrayDeque<>();
+    private int capacity;
+    private long created;
+    private long reused;
+    private long released;
+    private long dropped;
+
+    /**
+     * Creates an empty pool keeping at most {@link #DEFAULT_CAPACITY} idle objects.
+     *
+     * @param name name of the pool, used in reports
+     * @param factory creates a new object when the pool is empty
+     */
+    public ObjectPool(String name, Supplier<T> factory) {
+        this(name, factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param name name of the pool, used in reports
+     * @param factory creates a new object when the pool is empty
+     * @param capacity maximum number of idle objects kept
+     */
+    public ObjectPool(String name, Supplier<T> factory, int capacity) {
+        this.name = name;
+        this.factory = factory;
+        setCapacity(capacity);
+    }
+
+    /**
+     * Returns an idle object, or a new one if the pool is empty.
+     *
+     * @return an object that still needs to be reset by the caller
+     */
+    public T acquire() {
+        T object = idle.pollLast();
+        if (object != null) {
+            reused++;
+            return object;
+        }
+        created++;
+        return factory.get();
+    }
+
+    /**
+     * Returns an object to the pool. The caller must not use it afterwards.
+     *
+     * @param object the object to return
+     */
+    public void release(T object) {
+        if (idle.size() >= capacity) {
+            dropped++;
+            return;
+        }
+        released++;
+        idle.addLast(object);
+    }
+
+    /**
+     * Changes the maximum number of idle objects kept, dropping the extra ones.
+     *
+     * @param capacity the new capacity, 0 disables pooling
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        while (idle.size() > capacity) {
+            idle.pollFirst();
+            dropped++;
+        }
+    }
+
+    /** Drops every idle object. The counters are kept. */
+    public void clear() {
+        idle.clear();
+    }
+
+    /** Resets the created, reused, released and dropped counters to zero. */
+    public void resetStats() {
+        created = 0;
+        reused = 0;
+        released = 0;
+        dropped = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getReused() {
+        return reused;
+    }
+
+    public long getReleased() {
+        return released;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns a one-line summary of the pool's counters.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s pool: %d/%d idle, %d created, %d reused, %d released, %d dropped",
+                name, idle.size(), capacity, created, reused, released, dropped);
+    }
+}
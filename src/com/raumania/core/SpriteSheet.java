@@ -1,20 +1,39 @@
 package com.raumania.core;
 
-import javafx.animation.AnimationTimer;
+import com.raumania.utils.ResourcesLoader;
+import com.raumania.utils.TextureAtlas;
+
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An animation made of equally sized frames laid out in a grid on one image.
+ *
+ * <p>While playing, the sprite is advanced by the shared {@link AnimationClock}. The viewport of
+ * each frame is computed once and shared by all sprite sheets with the same layout, so switching
+ * frames does not allocate. Sprite sheets created with {@link #load(String, int, int, int, int)}
+ * show their frames straight from the {@link TextureAtlas}.
+ */
 public class SpriteSheet {
+    // viewports per frame index, keyed by origin, frame size and layout
+    private static final Map<Layout, Rectangle2D[]> VIEWPORTS = new HashMap<>();
+
+    private record Layout(int x, int y, int width, int height, int totalFrames, int columns) {
+    }
+
     private final Image img;
     private final ImageView view;
-    private final AnimationTimer timer;
-    private final int width;
-    private final int height;
+    private final Rectangle2D[] viewports;
     private final int totalFrames;
-    private final int columns;
     private int currentFrame = 0;
     private double fps = 1.0;
+    private double elapsed;
+    // index in the clock's sprite array, -1 while stopped
+    int clockSlot = -1;
 
     /**
      * Constructs a new SpriteSheet with the given image and frame dimensions.
@@ -26,25 +45,40 @@ public class SpriteSheet {
      * @param columns the number of columns in the sprite sheet
      */
     public SpriteSheet(Image image, int width, int height, int totalFrames, int columns) {
+        this(image, 0, 0, width, height, totalFrames, columns);
+    }
+
+    private SpriteSheet(Image image, int originX, int originY, int width, int height,
+                        int totalFrames, int columns) {
         this.img = image;
-        this.width = width;
-        this.height = height;
-        this.view = new ImageView(img);
-        this.view.setViewport(new Rectangle2D(0, 0, width, height));
-        this.columns = columns;
         this.totalFrames = totalFrames;
-        this.timer =
-                new AnimationTimer() {
-                    private long lastUpdate = 0;
+        this.viewports = viewports(
+                new Layout(originX, originY, width, height, totalFrames, columns));
+        this.view = new ImageView(img);
+        this.view.setViewport(viewports[0]);
+    }
 
-                    @Override
-                    public void handle(long now) {
-                        if (now - lastUpdate >= 1_000_000_000 / fps) {
-                            nextFrame();
-                            lastUpdate = now;
-                        }
-                    }
-                };
+    /**
+     * Creates a sprite sheet for an image in resources/images. If the image is packed into the
+     * {@link TextureAtlas}, the frames are cut from the atlas and nothing is decoded.
+     *
+     * @param filename Only image file name (e.g. "ve_explosion.png")
+     * @param width the width of each frame
+     * @param height the height of each frame
+     * @param totalFrames the total number of frames in the sprite sheet
+     * @param columns the number of columns in the sprite sheet
+     * @return a new sprite sheet
+     */
+    public static SpriteSheet load(String filename, int width, int height, int totalFrames,
+                                   int columns) {
+        TextureAtlas atlas = ResourcesLoader.getAtlas();
+        Rectangle2D region = atlas.getRegion(filename);
+        if (region == null) {
+            return new SpriteSheet(ResourcesLoader.loadImage(filename), width, height,
+                    totalFrames, columns);
+        }
+        return new SpriteSheet(atlas.getImage(), (int) region.getMinX(), (int) region.getMinY(),
+                width, height, totalFrames, columns);
     }
 
     /**
@@ -66,6 +100,19 @@ public class SpriteSheet {
                 (int) (image.getWidth() / width));
     }
 
+    private static Rectangle2D[] viewports(Layout layout) {
+        return VIEWPORTS.computeIfAbsent(layout, l -> {
+            Rectangle2D[] frames = new Rectangle2D[l.totalFrames()];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = new Rectangle2D(
+                        l.x() + (i % l.columns()) * l.width(),
+                        l.y() + (i / l.columns()) * l.height(),
+                        l.width(), l.height());
+            }
+            return frames;
+        });
+    }
+
     /**
      * Returns the ImageView used to render this sprite sheet.
      *
@@ -92,19 +139,48 @@ public class SpriteSheet {
     /** Advances to the next frame in the sprite sheet animation. */
     public void nextFrame() {
         currentFrame = (currentFrame + 1) % totalFrames;
-        int x = (currentFrame % columns) * height;
-        int y = (currentFrame / columns) * width;
-        view.setViewport(new Rectangle2D(x, y, width, height));
+        view.setViewport(viewports[currentFrame]);
+    }
+
+    /**
+     * Called by the {@link AnimationClock} while playing. Moves on by at most one frame per call,
+     * so no frame (in particular the final one) is ever skipped.
+     *
+     * @param seconds time since the previous call
+     */
+    void advance(double seconds) {
+        elapsed += seconds;
+        double frameDuration = 1.0 / fps;
+        if (elapsed >= frameDuration) {
+            elapsed = Math.min(elapsed - frameDuration, frameDuration);
+            nextFrame();
+        }
+    }
+
+    /** Rewinds the animation to its first frame, e.g. before a pooled effect is played again. */
+    public void rewind() {
+        currentFrame = 0;
+        elapsed = 0;
+        view.setViewport(viewports[0]);
     }
 
     /** Plays the sprite sheet animation. */
     public void play() {
-        timer.start();
+        AnimationClock.getInstance().add(this);
     }
 
     /** Stops the sprite sheet animation. */
     public void stop() {
-        timer.stop();
+        AnimationClock.getInstance().remove(this);
+    }
+
+    /**
+     * Checks whether the animation is currently driven by the {@link AnimationClock}.
+     *
+     * @return {@code true} between {@link #play()} and {@link #stop()}
+     */
+    public boolean isPlaying() {
+        return clockSlot >= 0;
     }
 
     public boolean isFinalFrame() {
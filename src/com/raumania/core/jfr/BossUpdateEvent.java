@@ -0,0 +1,44 @@
+package com.raumania.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One update of a single boss: following the navigation field towards the paddle, or moving
+ * at random when the field has no way there.
+ */
+@Name("com.raumania.BossUpdate")
+@Label("Boss Update")
+@Category({"Arkanoid", "Game Loop"})
+@Description("Movement of one boss during a simulation step")
+@StackTrace(false)
+public class BossUpdateEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(BossUpdateEvent.class);
+
+    @Label("Following Path")
+    @Description("Whether the boss followed the navigation field instead of moving at random")
+    public boolean followingPath;
+
+    @Label("Bricks")
+    @Description("Bricks near the boss that were checked for collisions")
+    public int bricks;
+
+    /**
+     * Begins a boss update if a running recording has this event enabled.
+     *
+     * @return the begun event, or {@code null} if the update is not recorded
+     */
+    public static BossUpdateEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        BossUpdateEvent event = new BossUpdateEvent();
+        event.begin();
+        return event;
+    }
+}
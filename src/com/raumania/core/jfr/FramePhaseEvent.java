@@ -0,0 +1,86 @@
+package com.raumania.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One phase of a simulation step, e.g. the collision pass.
+ *
+ * <p>Typical use. Unless a recording with this event enabled is running, {@link #beginIfEnabled()}
+ * returns {@code null} and nothing is allocated:
+ *
+ * <pre>
+ * FramePhaseEvent event = FramePhaseEvent.beginIfEnabled();
+ * checkCollisions(dt);
+ * if (event != null) {
+ *     event.commit(FramePhaseEvent.COLLISIONS, balls.size(), bricks.size(), powerUps.size(), bosses.size());
+ * }
+ * </pre>
+ */
+@Name("com.raumania.FramePhase")
+@Label("Frame Phase")
+@Category({"Arkanoid", "Game Loop"})
+@Description("A phase of a simulation step with the number of entities it worked on")
+@StackTrace(false)
+public class FramePhaseEvent extends Event {
+    public static final String EFFECTS = "effects";
+    public static final String MOVEMENT = "movement";
+    public static final String COLLISIONS = "collisions";
+    public static final String BOSSES = "bosses";
+
+    private static final EventType TYPE = EventType.getEventType(FramePhaseEvent.class);
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Balls")
+    public int balls;
+
+    @Label("Bricks")
+    public int bricks;
+
+    @Label("Power-ups")
+    public int powerUps;
+
+    @Label("Bosses")
+    public int bosses;
+
+    /**
+     * Begins a phase if a running recording has this event enabled.
+     *
+     * @return the begun event, or {@code null} if the phase is not recorded
+     */
+    public static FramePhaseEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        FramePhaseEvent event = new FramePhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the phase and records it if the event is enabled.
+     *
+     * @param phase    name of the phase, one of the constants of this class
+     * @param balls    number of balls
+     * @param bricks   number of bricks
+     * @param powerUps number of falling power-ups
+     * @param bosses   number of bosses
+     */
+    public void commit(String phase, int balls, int bricks, int powerUps, int bosses) {
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.balls = balls;
+            this.bricks = bricks;
+            this.powerUps = powerUps;
+            this.bosses = bosses;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.raumania.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Writing the high score list to disk.
+ */
+@Name("com.raumania.HighScoreSave")
+@Label("High Score Save")
+@Category({"Arkanoid", "Resources"})
+@Description("Serialising and writing the high score file")
+public class HighScoreSaveEvent extends Event {
+    @Label("Entries")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
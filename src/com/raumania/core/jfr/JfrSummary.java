@@ -0,0 +1,184 @@
+package com.raumania.core.jfr;
+
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarises the game's events in a flight recording, one line per phase.
+ *
+ * <p>Events of the same type are grouped, frame phases additionally by their phase. Each line
+ * gives the number of events, their total and mean duration, the 50th and 99th percentile and
+ * the longest one, followed by the mean of the event's counters (balls, bricks, ...):
+ *
+ * <pre>
+ * java -XX:StartFlightRecording:settings=jfr/arkanoid.jfc,filename=game.jfr ...
+ * java com.raumania.core.jfr.JfrSummary game.jfr
+ * </pre>
+ */
+public final class JfrSummary {
+    /** Prefix of the names of the game's events. */
+    public static final String EVENT_PREFIX = "com.raumania.";
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java com.raumania.core.jfr.JfrSummary <recording.jfr>");
+            System.exit(1);
+        }
+        System.out.print(format(summarize(Path.of(args[0]))));
+    }
+
+    /**
+     * Reads a recording and groups the game's events by phase.
+     *
+     * @param recording the {@code .jfr} file
+     * @return one summary per phase, the most expensive in total first
+     * @throws IOException if the recording cannot be read
+     */
+    public static List<PhaseSummary> summarize(Path recording) throws IOException {
+        Map<String, PhaseSummary> phases = new LinkedHashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String type = event.getEventType().getName();
+                if (!type.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                String name = type.substring(EVENT_PREFIX.length());
+                if (event.hasField("phase") && event.getString("phase") != null) {
+                    name += " " + event.getString("phase");
+                }
+                phases.computeIfAbsent(name, PhaseSummary::new).add(event);
+            }
+        }
+        List<PhaseSummary> result = new ArrayList<>(phases.values());
+        result.sort(Comparator.comparingLong(PhaseSummary::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Formats summaries as a table.
+     *
+     * @param phases the summaries
+     * @return the table, one line per phase
+     */
+    public static String format(List<PhaseSummary> phases) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-28s %8s %10s %9s %9s %9s %9s  %s%n", "phase", "count",
+                "total ms", "mean us", "p50 us", "p99 us", "max us", "mean counters"));
+        for (PhaseSummary phase : phases) {
+            out.append(String.format("%-28s %8d %10.2f %9.1f %9.1f %9.1f %9.1f ", phase.getName(),
+                    phase.getCount(), phase.getTotalNanos() / 1e6, phase.getMeanNanos() / 1e3,
+                    phase.getPercentileNanos(50) / 1e3, phase.getPercentileNanos(99) / 1e3,
+                    phase.getMaxNanos() / 1e3));
+            for (String counter : phase.getCounters()) {
+                out.append(String.format(" %s %.1f", counter, phase.getMean(counter)));
+            }
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    /**
+     * Durations and counters of the events of one phase.
+     */
+    public static class PhaseSummary {
+        private final String name;
+        private long[] durations = new long[64];
+        private int count;
+        private long totalNanos;
+        private final Map<String, Long> counterTotals = new LinkedHashMap<>();
+        private boolean sorted;
+
+        PhaseSummary(String name) {
+            this.name = name;
+        }
+
+        void add(RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+            totalNanos += nanos;
+            sorted = false;
+            for (ValueDescriptor field : event.getFields()) {
+                String type = field.getTypeName();
+                if ((type.equals("int") || type.equals("long"))
+                        && !field.getName().equals("startTime")
+                        && !field.getName().equals("duration")) {
+                    counterTotals.merge(field.getName(), event.getLong(field.getName()), Long::sum);
+                }
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        public long getMaxNanos() {
+            return getPercentileNanos(100);
+        }
+
+        /**
+         * Returns a percentile of the durations.
+         *
+         * @param percent the percentile, e.g. {@code 99} for p99
+         * @return the duration in nanoseconds, 0 if there are no events
+         */
+        public long getPercentileNanos(double percent) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(durations, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.max(1, Math.ceil(percent / 100.0 * count));
+            return durations[Math.min(rank, count) - 1];
+        }
+
+        /**
+         * Returns the names of the integer fields of the events, e.g. {@code balls}.
+         *
+         * @return the counter names
+         */
+        public List<String> getCounters() {
+            return new ArrayList<>(counterTotals.keySet());
+        }
+
+        /**
+         * Returns the mean value of a counter over the events.
+         *
+         * @param counter the field name
+         * @return the mean, 0 if the events have no such field
+         */
+        public double getMean(String counter) {
+            return count == 0 ? 0 : counterTotals.getOrDefault(counter, 0L) / (double) count;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.raumania.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading a level from the resources, either its JSON authoring file or its compiled file.
+ * Levels served by the level cache are not read again and emit nothing.
+ */
+@Name("com.raumania.LevelLoad")
+@Label("Level Load")
+@Category({"Arkanoid", "Resources"})
+@Description("Reading and parsing a level file")
+public class LevelLoadEvent extends Event {
+    @Label("Level")
+    public String level;
+
+    @Label("Compiled")
+    @Description("Whether the compiled binary file was read instead of the JSON file")
+    public boolean compiled;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,120 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.Ball;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-arrays copy of the motion state of the balls, used during the physics pass.
+ * <p>
+ * At the start of a step {@link GameManager} loads the position, direction, speed and size of
+ * every {@link Ball} into parallel arrays with {@link #load(List)}, sweeps the balls by index and
+ * writes each ball back with {@link #store(int)} when it is done (or before an event lets other
+ * code look at it). Between steps the {@link Ball} objects hold the state as before, so the rest
+ * of the game does not see the store.
+ * </p>
+ */
+public class BallStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    Ball[] balls = new Ball[INITIAL_CAPACITY];
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    double[] radius = new double[INITIAL_CAPACITY];
+    double[] height = new double[INITIAL_CAPACITY];
+    double[] dirX = new double[INITIAL_CAPACITY];
+    double[] dirY = new double[INITIAL_CAPACITY];
+    double[] speed = new double[INITIAL_CAPACITY];
+    double[] acceleration = new double[INITIAL_CAPACITY];
+    boolean[] immortal = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Replaces the content of the store with the current state of {@code list}.
+     *
+     * @param list the balls, in the order they are swept
+     */
+    public void load(List<Ball> list) {
+        int count = list.size();
+        if (count > balls.length) {
+            grow(Math.max(count, balls.length * 2));
+        }
+        // drop the balls of the previous step that are gone
+        if (count < size) {
+            Arrays.fill(balls, count, size, null);
+        }
+        size = count;
+        for (int i = 0; i < size; i++) {
+            Ball ball = list.get(i);
+            balls[i] = ball;
+            x[i] = ball.getX();
+            y[i] = ball.getY();
+            radius[i] = ball.getRadius();
+            height[i] = ball.getHeight();
+            dirX[i] = ball.getDirectionX();
+            dirY[i] = ball.getDirectionY();
+            speed[i] = ball.getSpeed();
+            acceleration[i] = ball.getAcceleration();
+            immortal[i] = ball.isImmortal();
+        }
+    }
+
+    /**
+     * Writes the position, direction and speed in a slot back to its ball.
+     *
+     * @param i the slot of the ball
+     */
+    public void store(int i) {
+        Ball ball = balls[i];
+        ball.setPosition(x[i], y[i]);
+        ball.getDirection().set(dirX[i], dirY[i]);
+        ball.setSpeed(speed[i]);
+    }
+
+    /**
+     * Sets the direction of a ball, normalized unless it is zero.
+     *
+     * @param i  the slot of the ball
+     * @param dx x component of the direction
+     * @param dy y component of the direction
+     */
+    public void setDirection(int i, double dx, double dy) {
+        double len = Math.sqrt(dx * dx + dy * dy);
+        if (len != 0) {
+            dx /= len;
+            dy /= len;
+        }
+        dirX[i] = dx;
+        dirY[i] = dy;
+    }
+
+    private void grow(int capacity) {
+        balls = Arrays.copyOf(balls, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        height = Arrays.copyOf(height, capacity);
+        dirX = Arrays.copyOf(dirX, capacity);
+        dirY = Arrays.copyOf(dirY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        acceleration = Arrays.copyOf(acceleration, capacity);
+        immortal = Arrays.copyOf(immortal, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Ball getBall(int i) {
+        return balls[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+}
@@ -0,0 +1,225 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.core.GameObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform-grid spatial index of the bricks in a level.
+ * <p>
+ * Every cell is exactly one brick in size ({@link Brick#BRICK_WIDTH} x {@link Brick#BRICK_HEIGHT}),
+ * so the grid mirrors the {@code layout} occupancy grid of {@link GameManager}. A query only visits
+ * the cells touched by an object's bounding box instead of scanning every brick in the level.
+ * </p>
+ * <p>
+ * Cells are stored in chunks of {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE} that are only
+ * allocated while they hold a brick, and released again when their last brick is removed. On a
+ * large, mostly empty level memory therefore grows with the area that actually has bricks, and a
+ * query skips a whole empty chunk at once.
+ * </p>
+ */
+public class BrickGrid {
+    /** Width and height of a chunk, in cells. */
+    public static final int CHUNK_SIZE = 16;
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int rows;
+    private final int cols;
+    private final int chunkCols;
+    private final Chunk[] chunks;
+    private int chunkCount;
+
+    /** A block of cells, allocated while at least one of them holds a brick. */
+    private static final class Chunk {
+        private final Brick[] cells = new Brick[CHUNK_SIZE * CHUNK_SIZE];
+        private int count;
+    }
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param rows number of brick rows
+     * @param cols number of brick columns
+     */
+    public BrickGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkCols = (cols + CHUNK_MASK) >> CHUNK_SHIFT;
+        int chunkRows = (rows + CHUNK_MASK) >> CHUNK_SHIFT;
+        this.chunks = new Chunk[chunkRows * chunkCols];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the row of the cell containing the top-left corner of the given object.
+     *
+     * @param object the object to locate
+     * @return the row index (may be out of bounds)
+     */
+    public static int rowOf(GameObject object) {
+        return (int) (object.getY() / Brick.BRICK_HEIGHT);
+    }
+
+    /**
+     * Returns the column of the cell containing the top-left corner of the given object.
+     *
+     * @param object the object to locate
+     * @return the column index (may be out of bounds)
+     */
+    public static int colOf(GameObject object) {
+        return (int) (object.getX() / Brick.BRICK_WIDTH);
+    }
+
+    /**
+     * Places a brick into the cell matching its position.
+     *
+     * @param brick the brick to add
+     * @throws IllegalArgumentException if the brick lies outside the grid
+     */
+    public void add(Brick brick) {
+        int r = rowOf(brick);
+        int c = colOf(brick);
+        if (!inBounds(r, c)) {
+            throw new IllegalArgumentException("Brick outside grid: row " + r + ", col " + c);
+        }
+        int index = chunkIndex(r, c);
+        Chunk chunk = chunks[index];
+        if (chunk == null) {
+            chunk = new Chunk();
+            chunks[index] = chunk;
+            chunkCount++;
+        }
+        int cell = cellIndex(r, c);
+        if (chunk.cells[cell] == null) {
+            chunk.count++;
+        }
+        chunk.cells[cell] = brick;
+    }
+
+    /**
+     * Removes a brick from its cell. Does nothing if the cell holds another brick (or none).
+     *
+     * @param brick the brick to remove
+     * @return {@code true} if the brick was removed
+     */
+    public boolean remove(Brick brick) {
+        int r = rowOf(brick);
+        int c = colOf(brick);
+        if (!inBounds(r, c)) {
+            return false;
+        }
+        int index = chunkIndex(r, c);
+        Chunk chunk = chunks[index];
+        if (chunk == null || chunk.cells[cellIndex(r, c)] != brick) {
+            return false;
+        }
+        chunk.cells[cellIndex(r, c)] = null;
+        if (--chunk.count == 0) {
+            chunks[index] = null;
+            chunkCount--;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the brick stored at the given cell.
+     *
+     * @param r row index
+     * @param c column index
+     * @return the brick, or {@code null} if the cell is empty or out of bounds
+     */
+    public Brick get(int r, int c) {
+        if (!inBounds(r, c)) {
+            return null;
+        }
+        Chunk chunk = chunks[chunkIndex(r, c)];
+        return chunk == null ? null : chunk.cells[cellIndex(r, c)];
+    }
+
+    /**
+     * Collects the bricks whose cells are touched by the bounding box of {@code object}.
+     * <p>
+     * Cell boundaries are treated as inclusive, matching {@link GameObject#checkOverlap}, so a box
+     * whose edge lies exactly on a cell border also reports the neighbouring cell. Candidates are
+     * appended in row-major order, which is the same order bricks are created in by
+     * {@link GameManager#initGame()}. Callers still need a narrow-phase overlap test.
+     * </p>
+     *
+     * @param object the object whose bounding box is queried
+     * @param out    list the candidates are appended to (not cleared)
+     */
+    public void query(GameObject object, List<Brick> out) {
+        query(object.getX(), object.getY(), object.getWidth(), object.getHeight(), out);
+    }
+
+    /**
+     * Collects the bricks whose cells are touched by the given box, e.g. the bounds swept by a
+     * moving ball during one step. Same rules as {@link #query(GameObject, List)}.
+     *
+     * @param x   box left
+     * @param y   box top
+     * @param w   box width
+     * @param h   box height
+     * @param out list the candidates are appended to (not cleared)
+     */
+    public void query(double x, double y, double w, double h, List<Brick> out) {
+        int r0 = Math.max(0, (int) Math.ceil(y / Brick.BRICK_HEIGHT) - 1);
+        int c0 = Math.max(0, (int) Math.ceil(x / Brick.BRICK_WIDTH) - 1);
+        int r1 = Math.min(rows - 1, (int) Math.floor((y + h) / Brick.BRICK_HEIGHT));
+        int c1 = Math.min(cols - 1, (int) Math.floor((x + w) / Brick.BRICK_WIDTH));
+        for (int r = r0; r <= r1; r++) {
+            int c = c0;
+            while (c <= c1) {
+                // cells up to the end of this chunk or of the query, whichever comes first
+                int end = Math.min(c1, c | CHUNK_MASK);
+                Chunk chunk = chunks[chunkIndex(r, c)];
+                if (chunk != null) {
+                    for (int cc = c; cc <= end; cc++) {
+                        Brick brick = chunk.cells[cellIndex(r, cc)];
+                        if (brick != null) {
+                            out.add(brick);
+                        }
+                    }
+                }
+                c = end + 1;
+            }
+        }
+    }
+
+    /** Removes all bricks from the grid. */
+    public void clear() {
+        Arrays.fill(chunks, null);
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns the number of chunks currently allocated.
+     *
+     * @return the allocated chunk count
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    private int chunkIndex(int r, int c) {
+        return (r >> CHUNK_SHIFT) * chunkCols + (c >> CHUNK_SHIFT);
+    }
+
+    private static int cellIndex(int r, int c) {
+        return ((r & CHUNK_MASK) << CHUNK_SHIFT) | (c & CHUNK_MASK);
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
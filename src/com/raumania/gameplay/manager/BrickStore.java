@@ -0,0 +1,120 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.brick.StrongBrick;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays copy of the bricks of a level.
+ * <p>
+ * The position and size of every brick are kept in parallel arrays, so the collision sweep of
+ * {@link GameManager} reads them linearly from a few primitive arrays instead of following a
+ * reference to every {@link Brick}. The {@link Brick} objects stay the view used by the rest of
+ * the game (hits, rendering, events, bosses) and the only place their hit points are kept.
+ * </p>
+ * <p>
+ * Slots are dense and match the index of each brick in {@link GameManager#getBricks()}: a removed
+ * brick is replaced by the last one, exactly like in the list. Bricks never move, so the
+ * positions never go stale.
+ * </p>
+ */
+public class BrickStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    Brick[] bricks = new Brick[INITIAL_CAPACITY];
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    double[] width = new double[INITIAL_CAPACITY];
+    double[] height = new double[INITIAL_CAPACITY];
+    private int size;
+    // bricks that are not strong, the level is cleared when none are left
+    private int breakable;
+
+    /**
+     * Appends a brick.
+     *
+     * @param brick the brick
+     * @return the slot of the brick
+     */
+    public int add(Brick brick) {
+        if (size == bricks.length) {
+            grow();
+        }
+        int slot = size++;
+        bricks[slot] = brick;
+        x[slot] = brick.getX();
+        y[slot] = brick.getY();
+        width[slot] = brick.getWidth();
+        height[slot] = brick.getHeight();
+        if (!(brick instanceof StrongBrick)) {
+            breakable++;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the brick in a slot; the last brick moves into the freed slot.
+     *
+     * @param slot the slot to free
+     * @return the brick now in {@code slot}, or {@code null} if the removed brick was the last
+     */
+    public Brick removeAt(int slot) {
+        if (!(bricks[slot] instanceof StrongBrick)) {
+            breakable--;
+        }
+        int last = --size;
+        Brick moved = null;
+        if (slot != last) {
+            moved = bricks[last];
+            bricks[slot] = moved;
+            x[slot] = x[last];
+            y[slot] = y[last];
+            width[slot] = width[last];
+            height[slot] = height[last];
+        }
+        bricks[last] = null;
+        return moved;
+    }
+
+    /** Removes every brick. */
+    public void clear() {
+        Arrays.fill(bricks, 0, size, null);
+        size = 0;
+        breakable = 0;
+    }
+
+    private void grow() {
+        int capacity = bricks.length * 2;
+        bricks = Arrays.copyOf(bricks, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bricks that can still be destroyed.
+     *
+     * @return the count of bricks that are not strong bricks
+     */
+    public int getBreakableCount() {
+        return breakable;
+    }
+
+    public Brick getBrick(int slot) {
+        return bricks[slot];
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+}
@@ -1,16 +1,19 @@
 package com.raumania.gameplay.manager;
 
+import com.raumania.gameplay.objects.powerup.PowerUp;
 import com.raumania.gameplay.objects.powerup.PowerUpType;
 
 public class EffectCountDown {
     private double startTime;
     private final double duration;
     private final PowerUpType effectType;
+    private final PowerUp source;
 
-    public EffectCountDown(double startTime, double duration, PowerUpType effectType) {
+    public EffectCountDown(double startTime, double duration, PowerUp source) {
         this.startTime = startTime;
         this.duration = duration;
-        this.effectType = effectType;
+        this.effectType = source.getType();
+        this.source = source;
     }
 
     public double getTimeRemaining(double now) {
@@ -32,4 +35,13 @@ public class EffectCountDown {
     public PowerUpType getEffectType() {
         return effectType;
     }
+
+    /**
+     * Returns the power-up whose effect this countdown tracks.
+     *
+     * @return the power-up that applied the effect
+     */
+    public PowerUp getSource() {
+        return source;
+    }
 }
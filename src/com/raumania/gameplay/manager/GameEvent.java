@@ -0,0 +1,59 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.core.GameObject;
+
+/**
+ * Something that happened inside the simulation run by {@link GameManager}.
+ * <p>
+ * Events are emitted synchronously while the simulation updates. They carry no rendering
+ * information; a presentation layer listening to them decides how to show each one
+ * (adding or removing nodes, spawning visual effects, playing sounds, ...).
+ * </p>
+ *
+ * @param type    what happened
+ * @param subject the game object the event is about, or {@code null} (e.g. state changes)
+ * @param x       x-coordinate where the event happened (meaning depends on the type)
+ * @param y       y-coordinate where the event happened (meaning depends on the type)
+ */
+public record GameEvent(Type type, GameObject subject, double x, double y) {
+
+    /**
+     * Creates an event located at the top-left corner of its subject.
+     *
+     * @param type    what happened
+     * @param subject the game object the event is about
+     */
+    public GameEvent(Type type, GameObject subject) {
+        this(type, subject, subject != null ? subject.getX() : 0, subject != null ? subject.getY() : 0);
+    }
+
+    /** All kinds of simulation events. */
+    public enum Type {
+        /** The level was (re)initialized; the subject is the new paddle. */
+        LEVEL_RESET,
+        /** The {@link GameManager.GameState} changed. */
+        STATE_CHANGED,
+        BALL_SPAWNED,
+        /** A ball left the playfield and was removed. */
+        BALL_LOST,
+        /** A ball bounced off the paddle. */
+        PADDLE_HIT,
+        BRICK_SPAWNED,
+        /** A ball touched a brick; {@code x, y} is the ball center. */
+        BRICK_HIT,
+        /** A brick was caught in an explosion. */
+        BRICK_EXPLODED,
+        /** A brick was removed from the level. */
+        BRICK_DESTROYED,
+        POWER_UP_SPAWNED,
+        /** A power-up reached the paddle and was applied. */
+        POWER_UP_COLLECTED,
+        /** A power-up fell off the playfield. */
+        POWER_UP_LOST,
+        BOSS_SPAWNED,
+        /** A boss was destroyed by a ball. */
+        BOSS_DESTROYED,
+        /** A boss reached the paddle or left the playfield. */
+        BOSS_ESCAPED
+    }
+}
@@ -0,0 +1,12 @@
+package com.raumania.gameplay.manager;
+
+/** Receives the {@link GameEvent}s emitted by a {@link GameManager}. */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Called synchronously, on the thread updating the simulation, for every event.
+     *
+     * @param event the event
+     */
+    void onGameEvent(GameEvent event);
+}
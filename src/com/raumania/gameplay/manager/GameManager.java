@@ -1,27 +1,19 @@
 package com.raumania.gameplay.manager;
 
-import com.raumania.core.AudioManager;
+import com.raumania.core.CompiledLevel;
+import com.raumania.core.FlowField;
+import com.raumania.core.GameRandom;
+import com.raumania.core.ObjectPool;
 import com.raumania.core.MapLoader.*;
+import com.raumania.core.jfr.FramePhaseEvent;
 import com.raumania.gameplay.objects.*;
 import com.raumania.gameplay.objects.boss.Boss;
 import com.raumania.gameplay.objects.boss.Pyramid;
 import com.raumania.gameplay.objects.brick.*;
+import com.raumania.gameplay.objects.core.GameObject;
 import com.raumania.gameplay.objects.powerup.*;
-import com.raumania.gameplay.objects.visualeffect.BrickHit;
-import com.raumania.gameplay.objects.visualeffect.Explosion;
-import com.raumania.gameplay.objects.visualeffect.VisualEffect;
 import com.raumania.gui.screen.GameScreen;
 import com.raumania.math.Vec2f;
-import com.raumania.utils.ResourcesLoader;
-
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
-import javafx.scene.layout.Pane;
 
 import java.util.*;
 
@@ -29,56 +21,162 @@ import java.util.*;
  * Manages the overall game state, including all major game objects such as
  * the {@link Paddle}, {@link Ball}s, and {@link Brick}s.
  * <p>
- * This class is responsible for initializing objects, updating their logic
- * every frame, and adding their visual representations to the JavaFX scene graph.
+ * This class is responsible for initializing objects and updating their logic
+ * every frame. It is a pure simulation: it never touches the JavaFX scene graph
+ * and can run without the FX toolkit. Everything a presentation layer needs to
+ * know is published as {@link GameEvent}s to the registered {@link GameEventListener}s
+ * (see {@link com.raumania.gui.render.SceneGraphRenderer}).
  * </p>
  */
 public class GameManager {
     private static final int INITIAL_LIVES = 3;
+    /** Size of the brick grid of a level that fits the screen exactly. */
+    public static final int DEFAULT_ROWS = 28;
+    public static final int DEFAULT_COLS = 13;
+    // room below the bricks for the paddle, kept for every level size
+    private static final double BOTTOM_MARGIN =
+            GameScreen.GAME_HEIGHT - DEFAULT_ROWS * Brick.BRICK_HEIGHT;
+    private static final int MAX_BOUNCES = 4;
+    private static final double CONTACT_TIME_EPSILON = 1e-9;
+    private static final int[] NEIGHBOUR_R = {-1, 1, 0, 0};
+    private static final int[] NEIGHBOUR_C = {0, 0, -1, 1};
 
-    private final Pane root;
+    private final List<GameEventListener> listeners = new ArrayList<>();
     private final List<Ball> balls = new ArrayList<>();
     private final List<Brick> bricks = new ArrayList<>();
     private final List<PowerUp> powerUps = new ArrayList<>();
-    private final ObjectProperty<GameState> gameState = new SimpleObjectProperty<>(GameState.RUNNING);
     private final List<EffectCountDown> effectCountDownList = new ArrayList<>();
     private final List<Boss> bosses = new ArrayList<>();
-    private final List<VisualEffect> visualEffects = new ArrayList<>();
+    // lost balls are reused by the next spawn, see spawnAdditionalBall
+    private final ObjectPool<Ball> ballPool = new ObjectPool<>("ball", () -> new Ball(0, 0));
+    // structure-of-arrays state read by the collision pass, see moveBall
+    private final BrickStore brickStore = new BrickStore();
+    private final BallStore ballStore = new BallStore();
+    private final List<Brick> collidedBricks = new ArrayList<>();
+    // every brick hit by any ball during the current step
+    private final List<Brick> allCollidedBricks = new ArrayList<>();
+    // state of the earliest contact found while sweeping a ball, reused between sweeps
+    private final SweptCollision.Hit sweepHit = new SweptCollision.Hit();
+    private double contactTime;
+    private double contactNormalX;
+    private double contactNormalY;
+    private boolean contactFlipX;
+    private boolean contactFlipY;
+    private boolean contactPaddle;
+    private GameState gameState = GameState.RUNNING;
     private Paddle paddle;
     private Ball mainBall = null;
     private int score = 0;
+    private double elapsedTime = 0;
 
     public int getLives() {
         return lives;
     }
 
     private int lives = INITIAL_LIVES;
-    private LevelData currentLvl;
+    private CompiledLevel currentLevel;
     private boolean[][] layout;
+    private BrickGrid brickGrid;
+    // index in the bricks list and the brick store of the brick in each grid cell, -1 if empty,
+    // so a brick can be removed in O(1)
+    private int[] brickSlots;
+    // breadth-first chain of an explosion and the per-cell marks of its visited cells
+    private final List<Brick> detonationQueue = new ArrayList<>();
+    private int[] detonationMarks = new int[0];
+    private int detonationPass;
+    // navigation towards the paddle, computed once per change and read by every boss
+    private FlowField bossField;
+    // size of the current level's world in pixels, at least the size of the screen
+    private double worldWidth = GameScreen.GAME_WIDTH;
+    private double worldHeight = GameScreen.GAME_HEIGHT;
+    // time spent in the collision pass and in boss AI since creation, read by the performance HUD
+    private long collisionNanos;
+    private long bossNanos;
+    // seed of the match and one random stream per kind of decision, see setSeed
+    private long seed;
+    private GameRandom powerUpRandom;
+    private GameRandom ballRandom;
+    private GameRandom colorRandom;
+    private GameRandom bossRandom;
     /**
-     * Creates a new {@code GameManager} and attaches it to the given root pane.
+     * Creates a new {@code GameManager} with an empty level and a new random seed.
      */
     public GameManager() {
-        this.root = new Pane();
+        this(GameRandom.newSeed());
+    }
+
+    /**
+     * Creates a new {@code GameManager} with an empty level whose random decisions follow a
+     * seed, so the same seed and the same inputs play out the same match.
+     *
+     * @param seed the seed of the match
+     */
+    public GameManager(long seed) {
+        setSeed(seed);
         initGame();
+    }
+
+    /**
+     * Restarts every random decision of the game from a seed.
+     * <p>
+     * Power-up drops, the angles of new balls, random brick colours and boss movement each draw
+     * from their own stream split from a {@link GameRandom}, so a change in how often one of them
+     * rolls does not change the others. The streams are not reset by {@link #initGame()}: set
+     * the seed before loading the level to replay a match.
+     * </p>
+     *
+     * @param seed the seed of the match
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        GameRandom random = new GameRandom(seed);
+        powerUpRandom = random.split();
+        ballRandom = random.split();
+        colorRandom = random.split();
+        bossRandom = random.split();
+    }
+
+    /**
+     * Returns the seed set by the constructor or {@link #setSeed(long)}.
+     *
+     * @return the seed of the match
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    GameRandom getPowerUpRandom() {
+        return powerUpRandom;
+    }
 
-        Background bg = new Background(new BackgroundImage(
-                ResourcesLoader.loadImage("gamepane_bg.png"),
-                BackgroundRepeat.NO_REPEAT,
-                BackgroundRepeat.NO_REPEAT,
-                BackgroundPosition.CENTER,
-                new BackgroundSize(1.0, 1.0, true, true, false, false)
-        ));
-        root.setBackground(bg);
+    /**
+     * Registers a listener that receives every {@link GameEvent} emitted from now on.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(GameEventListener listener) {
+        listeners.add(listener);
     }
 
     /**
-     * Returns the root {@link Pane} where the game objects are rendered.
+     * Unregisters a previously added listener.
      *
-     * @return the root pane of the game
+     * @param listener the listener to remove
      */
-    public Pane getRoot() {
-        return root;
+    public void removeListener(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void emit(GameEvent.Type type, GameObject subject) {
+        if (!listeners.isEmpty()) {
+            emit(new GameEvent(type, subject));
+        }
+    }
+
+    private void emit(GameEvent event) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameEvent(event);
+        }
     }
 
     /**
@@ -92,70 +190,95 @@ public class GameManager {
 
         score = 0;
         lives = INITIAL_LIVES;
+        elapsedTime = 0;
         bricks.clear();
+        brickStore.clear();
+        for (Ball ball : balls) {
+            ballPool.release(ball);
+        }
         balls.clear();
+        // stop the animations of objects dropped by the reset
+        for (PowerUp powerUp : powerUps) {
+            PowerUpFactory.release(powerUp);
+        }
+        for (EffectCountDown effectCountDown : effectCountDownList) {
+            PowerUpFactory.release(effectCountDown.getSource());
+        }
+        for (Boss boss : bosses) {
+            boss.deactivate();
+        }
         powerUps.clear();
         effectCountDownList.clear();
         bosses.clear();
-        visualEffects.clear();
-        root.getChildren().clear();
-        layout = new boolean[28][13];
-        gameState.set(GameState.READY);
+        mainBall = null;
+        // the world is sized by the level, but never smaller than the screen
+        int rows = DEFAULT_ROWS;
+        int cols = DEFAULT_COLS;
+        if (currentLevel != null) {
+            rows = Math.max(rows, currentLevel.getRows());
+            cols = Math.max(cols, currentLevel.getCols());
+        }
+        worldWidth = cols * Brick.BRICK_WIDTH;
+        worldHeight = rows * Brick.BRICK_HEIGHT + BOTTOM_MARGIN;
+        layout = new boolean[rows][cols];
+        bossField = new FlowField(layout);
+        brickGrid = new BrickGrid(rows, cols);
+        brickSlots = new int[rows * cols];
+        Arrays.fill(brickSlots, -1);
 
-        paddle = new Paddle((GameScreen.GAME_WIDTH - Paddle.PADDLE_WIDTH) * 0.5, GameScreen.GAME_HEIGHT - 80,
+        paddle = new Paddle((worldWidth - Paddle.PADDLE_WIDTH) * 0.5, worldHeight - 80,
                 Paddle.PADDLE_WIDTH, Paddle.PADDLE_HEIGHT);
-        root.getChildren().add(paddle.getTexture());
+        paddle.setBounds(worldWidth, worldHeight);
+        emit(GameEvent.Type.LEVEL_RESET, paddle);
+        setGameState(GameState.READY);
 
         spawnAdditionalBall(paddle.getX() + Paddle.PADDLE_WIDTH*0.5, paddle.getY(), new Vec2f(0,0));
         Ball firstBall = balls.get(0);
         firstBall.setSpeed(0);
-        firstBall.setDirection(new Vec2f(0, 0));
+        firstBall.setDirection(0, 0);
 
         // put here because we need to access paddle and balls
-        if (currentLvl == null) {
+        if (currentLevel == null) {
             return;
         }
 
-        List<String> colorRows = currentLvl.colors();
-        boolean hasColors = (colorRows != null && colorRows.size() == currentLvl.layout().size());
-
-        if (currentLvl.bosses() != null) {
-            for (BossData bossData : currentLvl.bosses()) {
-                Boss boss = null;
-                switch (bossData.type()) {
-                    case "pyramid":
-                        boss = new Pyramid(bossData.x(), bossData.y(), Boss.BOSS_SIZE, Boss.BOSS_SIZE);
-                        break;
-                }
-                if (boss != null) {
-                    bosses.add(boss);
-                    root.getChildren().add(boss.getTexture());
-                    //root.getChildren().add(boss.getBossPathLine());
-                }
+        for (int i = 0; i < currentLevel.getBossCount(); i++) {
+            Boss boss = null;
+            switch (CompiledLevel.BOSS_TYPES[currentLevel.getBossType(i)]) {
+                case "pyramid":
+                    boss = new Pyramid(currentLevel.getBossX(i), currentLevel.getBossY(i),
+                            Boss.BOSS_SIZE, Boss.BOSS_SIZE);
+                    break;
+            }
+            if (boss != null) {
+                boss.setBounds(worldWidth, worldHeight);
+                boss.randomizeDirection(bossRandom);
+                bosses.add(boss);
+                emit(GameEvent.Type.BOSS_SPAWNED, boss);
             }
         }
 
-        for (int r = 0; r < currentLvl.layout().size(); r++) {
-            String row = currentLvl.layout().get(r);
-            String rowColor = hasColors ? colorRows.get(r) : null;
-            for (int c = 0; c < row.length(); c++) {
+        for (int r = 0; r < currentLevel.getRows(); r++) {
+            for (int c = 0; c < currentLevel.getCols(); c++) {
                 layout[r][c] = true;
-                char type = row.charAt(c);
-                int color = 0;
-                if (rowColor != null) {
-                    color = rowColor.charAt(c) - '0';
-                } else {
-                    color = new Random().nextInt(9);
+                int type = currentLevel.getType(r, c);
+                if (type == CompiledLevel.EMPTY) {
+                    continue;
+                }
+                int color = currentLevel.getColor(r, c);
+                if (color == CompiledLevel.RANDOM_COLOR) {
+                    color = colorRandom.nextInt(9);
                 }
                 double x = c * Brick.BRICK_WIDTH;
                 double y = r * Brick.BRICK_HEIGHT;
 
-                String brickType = currentLvl.legend().get(String.valueOf(type));
-                Brick brick = BrickFactory.createBrick(brickType, x, y, color);
+                Brick brick = BrickFactory.createBrick(CompiledLevel.BRICK_TYPES[type], x, y, color);
 
                 if (brick != null) {
+                    brickSlots[r * brickGrid.getCols() + c] = brickStore.add(brick);
                     bricks.add(brick);
-                    root.getChildren().add(brick.getTexture());
+                    brickGrid.add(brick);
+                    emit(GameEvent.Type.BRICK_SPAWNED, brick);
                     layout[r][c] = false;
                 }
             }
@@ -170,264 +293,168 @@ public class GameManager {
      * This method is invoked when an {@link ExplosiveBrick} is destroyed.
      * It performs a breadth-first search (BFS) starting from {@code start},
      * propagating explosions through all neighboring explosive bricks.
+     * Neighbours are looked up in the {@link BrickGrid} and victims are removed
+     * with {@link #removeBrick}, so the cost is linear in the length of the chain.
      * <br>
      * During propagation, each affected non-strong brick in the four cardinal
      * directions is destroyed, the {@code layout} occupancy grid and game
-     * {@code score} are updated, and an {@link Explosion} visual effect and
-     * explosion sound are played.
+     * {@code score} are updated, and a {@link GameEvent.Type#BRICK_EXPLODED}
+     * event is emitted for it.
      * </p>
      * @param start the {@link Brick} whose destruction triggers the detonation;
      *              must already exist in the current {@code bricks} list.
      */
     private void detonateNeighbors(Brick start) {
-        ArrayDeque<Brick> q = new ArrayDeque<>();
-        q.add(start);
-        boolean[][] visited = new boolean[28][13];
-        int startR = (int)(start.getY() / Brick.BRICK_HEIGHT);
-        int startC = (int)(start.getX() / Brick.BRICK_WIDTH);
-        visited[startR][startC] = true;
-        ArrayList<Brick> removeBricks = new ArrayList<>();
-        while (!q.isEmpty()) {
-            Brick brick = q.poll();
-            int r = (int)(brick.getY() / Brick.BRICK_HEIGHT);
-            int c = (int)(brick.getX() / Brick.BRICK_WIDTH);
-            for (int dr = -1; dr <= 1; dr++) {
-                for (int dc = -1; dc <= 1; dc++) {
-                    if (dr * dc != 0) {
-                        continue;
-                    }
-                    int newR = r + dr;
-                    int newC = c + dc;
-                    if (newR < 0 || newR >= 28 || newC < 0 || newC >= 13) {
-                        continue;
-                    }
-                    if (visited[newR][newC]) {
-                        continue;
-                    }
-                    Brick victim = null;
-                    for (Brick otherBrick: bricks) {
-                        if ((int)(otherBrick.getY() / Brick.BRICK_HEIGHT) != newR) {
-                            continue;
-                        }
-                        if ((int)(otherBrick.getX() / Brick.BRICK_WIDTH) != newC) {
-                            continue;
-                        }
-                        victim = otherBrick;
-                        break;
-                    }
-                    visited[newR][newC] = true;
-                    if (victim == null) {
-                        continue;
-                    }
-                    if (victim instanceof StrongBrick) {
-                        continue;
-                    }
-                    VisualEffect ve = new Explosion(victim.getX(), victim.getY(), Brick.BRICK_WIDTH,
-                            Brick.BRICK_HEIGHT);
-                    visualEffects.add(ve);
-                    ve.play();
-                    AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
-                    root.getChildren().add(ve.getTexture());
-                    if (!layout[newR][newC]) {
-                        removeBricks.add(victim);
-                    }
-                    if (victim instanceof ExplosiveBrick) {
-                        q.add(victim);
-                    }
+        int cols = brickGrid.getCols();
+        beginDetonation();
+        detonationQueue.clear();
+        detonationQueue.add(start);
+        detonationMarks[BrickGrid.rowOf(start) * cols + BrickGrid.colOf(start)] = detonationPass;
+        // the queue doubles as the list of victims: everything after the start gets removed
+        for (int head = 0; head < detonationQueue.size(); head++) {
+            Brick brick = detonationQueue.get(head);
+            if (head > 0 && !(brick instanceof ExplosiveBrick)) {
+                continue;
+            }
+            int r = BrickGrid.rowOf(brick);
+            int c = BrickGrid.colOf(brick);
+            for (int k = 0; k < 4; k++) {
+                int newR = r + NEIGHBOUR_R[k];
+                int newC = c + NEIGHBOUR_C[k];
+                Brick victim = brickGrid.get(newR, newC);
+                if (victim == null || detonationMarks[newR * cols + newC] == detonationPass) {
+                    continue;
                 }
+                detonationMarks[newR * cols + newC] = detonationPass;
+                if (victim instanceof StrongBrick) {
+                    continue;
+                }
+                emit(GameEvent.Type.BRICK_EXPLODED, victim);
+                detonationQueue.add(victim);
             }
         }
-        for (Brick brick: removeBricks) {
-            int r = (int)(brick.getY() / Brick.BRICK_HEIGHT);
-            int c = (int)(brick.getX() / Brick.BRICK_WIDTH);
-            root.getChildren().remove(brick.getTexture());
-            bricks.remove(brick);
-            layout[r][c] = true;
-            score += 1;
+        for (int i = 1; i < detonationQueue.size(); i++) {
+            removeBrick(detonationQueue.get(i));
+        }
+        detonationQueue.clear();
+    }
+
+    /** Starts a new detonation, invalidating the marks of the previous one. */
+    private void beginDetonation() {
+        int cells = brickGrid.getRows() * brickGrid.getCols();
+        if (detonationMarks.length < cells) {
+            detonationMarks = new int[cells];
+            detonationPass = 0;
+        }
+        detonationPass++;
+        if (detonationPass == 0) {
+            Arrays.fill(detonationMarks, 0);
+            detonationPass = 1;
+        }
+    }
+
+    /**
+     * Removes a destroyed brick from the level in constant time: from the {@code bricks} list
+     * and the {@link BrickStore} (the last brick takes its place, see {@link #brickSlots}), the
+     * grid and the {@code layout} occupancy grid. Also awards the point and emits {@link GameEvent.Type#BRICK_DESTROYED}.
+     *
+     * @param brick the brick to remove
+     */
+    private void removeBrick(Brick brick) {
+        int r = BrickGrid.rowOf(brick);
+        int c = BrickGrid.colOf(brick);
+        int cell = r * brickGrid.getCols() + c;
+        int slot = brickSlots[cell];
+        Brick last = bricks.removeLast();
+        brickStore.removeAt(slot);
+        if (last != brick) {
+            bricks.set(slot, last);
+            brickSlots[BrickGrid.rowOf(last) * brickGrid.getCols() + BrickGrid.colOf(last)] = slot;
         }
+        brickSlots[cell] = -1;
+        brickGrid.remove(brick);
+        layout[r][c] = true;
+        notifyCellChanged(r, c);
+        score += 1;
+        emit(GameEvent.Type.BRICK_DESTROYED, brick);
     }
 
     /**
-     * Detects and resolves collisions between all active game objects.
+     * Moves the balls and resolves collisions between all active game objects.
      * <p>
      * Handles collisions between:
      * <ul>
-     *   <li>{@link Ball} and {@link Paddle}</li>
-     *   <li>{@link Ball} and {@link Brick}</li>
+     *   <li>{@link Ball} and walls, {@link Paddle}, {@link Brick} (swept, see {@link #moveBall})</li>
      *   <li>{@link Ball} and {@link Boss}</li>
      *   <li>{@link Paddle} and {@link PowerUp}</li>
      * </ul>
      * Updates score, spawns power-ups, triggers explosions, and removes destroyed entities.
      * </p>
      *
-     * @param dt delta time in seconds since the last frame
+     * @param dt length of the simulation step in seconds
      */
     public void checkCollisions(double dt) {
-        List<Brick> allCollidedBricks = new ArrayList<>();
-        for (Iterator<Ball> ballIterator = balls.iterator(); ballIterator.hasNext();) {
-            Ball ball = ballIterator.next();
+        allCollidedBricks.clear();
+        ballStore.load(balls);
+        for (int i = 0; i < ballStore.size(); i++) {
+            if (ballStore.balls[i].isActive()) {
+                moveBall(i, dt, allCollidedBricks);
+            }
+        }
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
             if (!ball.isActive()) {
-                root.getChildren().remove(ball.getView());
                 if (ball == mainBall) {
                     mainBall = null;
                 }
-                ballIterator.remove();
-                continue;
-            }
-            if (ball.checkOverlap(paddle)) {
-                AudioManager.getInstance().playSFX(AudioManager.PADDLE_HIT);
-                double sign = (ball.getDirection().y > 0) ? 1 : -1;
-
-                ball.setPosition(ball.getX(), paddle.getY() - sign*ball.getHeight());
-                double paddleCenter = paddle.getX() + paddle.getWidth() * 0.5;
-                double ballCenter = ball.getX() + ball.getRadius();
-                double t = (ballCenter - paddleCenter) / (paddle.getWidth() * 0.5);
-                t = Math.max(-1, Math.min(1, t));
-                double maxAngle = Math.toRadians(60);
-                double angle = t * maxAngle;
-                double dx = Math.sin(angle);
-                double dy = - sign*Math.cos(angle);
-                ball.setDirection(new Vec2f(dx, dy));
-            }
-            List<Brick> collidedBricks = new ArrayList<>();
-            for (Iterator<Brick> it = bricks.iterator(); it.hasNext();) {
-                Brick brick = it.next();
-                if (ball.checkOverlap(brick)) {
-                    collidedBricks.add(brick);
-                    VisualEffect hit = new BrickHit(ball.getView().getCenterX(), ball.getView().getCenterY(),
-                            35, 35, brick.getColorIndex());
-                    visualEffects.add(hit);
-                    root.getChildren().add(hit.getTexture());
-                    AudioManager.getInstance().playSFX(AudioManager.BRICK_HIT);
-                    hit.play();
-                }
-            }
-            if (collidedBricks.size() == 3) {
-                Brick chosenBrick = collidedBricks.get(0);
-                for (int i = 0; i < 3; i++) {
-                    for (int j = 0; j < 3; j++) {
-                        if (j == i) {
-                            continue;
-                        }
-                        for (int k = 0; k < 3; k++) {
-                            if (k == i || k == j) {
-                                continue;
-                            }
-                            Brick brick1 = collidedBricks.get(i);
-                            Brick brick2 = collidedBricks.get(j);
-                            Brick brick3 = collidedBricks.get(k);
-                            if (brick1.getX() == brick2.getX() && brick1.getY() == brick3.getY()) {
-                                chosenBrick = brick1;
-                                break;
-                            }
-                        }
-                    }
-                }
-                collidedBricks.remove(chosenBrick);
-            }
-            if (collidedBricks.size() == 1) {
-                ball.update(- dt);
-                Brick brick = collidedBricks.get(0);
-                allCollidedBricks.add(brick);
-                Vec2f direction = ball.getDirection();
-                double velocityX = ball.getSpeed() * direction.x;
-                double timeEntryX;
-                if (velocityX > 0) {
-                    timeEntryX = (brick.getX() - ball.getWidth() - ball.getX()) / velocityX;
-                } else if (velocityX < 0) {
-                    timeEntryX = (brick.getX() + brick.getWidth() - ball.getX()) / velocityX;
-                } else {
-                    timeEntryX = Double.NEGATIVE_INFINITY;
-                }
-                double velocityY = ball.getSpeed() * direction.y;
-                double timeEntryY;
-                if (velocityY > 0) {
-                    timeEntryY = (brick.getY() - ball.getHeight() - ball.getY()) / velocityY;
-                } else if (velocityY < 0) {
-                    timeEntryY = (brick.getY() + brick.getHeight() - ball.getY()) / velocityY;
-                } else {
-                    timeEntryY = Double.NEGATIVE_INFINITY;
-                }
-                if (timeEntryX > timeEntryY) {
-                    ball.bounceHorizontally();
-                } else {
-                    ball.bounceVertically();
-                }
-            } else if (collidedBricks.size() == 2) {
-                ball.update(-dt);
-                Brick brick1 = collidedBricks.get(0);
-                Brick brick2 = collidedBricks.get(1);
-                allCollidedBricks.add(brick1);
-                allCollidedBricks.add(brick2);
-                if (brick1.getX() == brick2.getX()) {
-                    ball.bounceHorizontally();
-                } else if (brick1.getY() == brick2.getY()) {
-                    ball.bounceVertically();
-                } else {
-                    ball.bounceHorizontally();
-                    ball.bounceVertically();
-                }
-            }
-
-            for (Iterator<Boss> it = bosses.iterator(); it.hasNext();) {
-                Boss boss = it.next();
-                if (ball.checkOverlap(boss)) {
-                    score += 1;
-                    VisualEffect ve = new Explosion(boss.getX(), boss.getY(), Boss.BOSS_SIZE*1.2, Boss.BOSS_SIZE*1.2);
-                    visualEffects.add(ve);
-                    ve.play();
-                    AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
-                    root.getChildren().add(ve.getTexture());
-                    root.getChildren().remove(boss.getTexture());
-                    it.remove();
-                }
+                balls.remove(i--);
+                emit(GameEvent.Type.BALL_LOST, ball);
+                ballPool.release(ball);
             }
         }
 //        allCollidedBricks = allCollidedBricks.stream().distinct().toList();
-        for (Brick brick: allCollidedBricks) {
+        for (int i = 0; i < allCollidedBricks.size(); i++) {
+            Brick brick = allCollidedBricks.get(i);
             brick.takeHit();
             if (brick.isDestroyed()) {
                 if (brick instanceof ExplosiveBrick) {
-                    VisualEffect ve = new Explosion(brick.getX(), brick.getY(), Brick.BRICK_WIDTH,
-                            Brick.BRICK_HEIGHT);
-                    visualEffects.add(ve);
-                    ve.play();
-                    AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
-                    root.getChildren().add(ve.getTexture());
+                    emit(GameEvent.Type.BRICK_EXPLODED, brick);
                     detonateNeighbors(brick);
                 }
             }
         }
-        for (Iterator<Brick> it = allCollidedBricks.iterator(); it.hasNext();) {
-            Brick brick = it.next();
+        for (int i = 0; i < allCollidedBricks.size(); i++) {
+            Brick brick = allCollidedBricks.get(i);
             if (brick.isDestroyed()) {
-                if (!layout[(int) (brick.getY() / Brick.BRICK_HEIGHT)][(int) (brick.getX() / Brick.BRICK_WIDTH)]) {
-                    root.getChildren().remove(brick.getTexture());
-                    bricks.remove(brick);
-                    layout[(int)(brick.getY()/Brick.BRICK_HEIGHT)][(int)(brick.getX()/Brick.BRICK_WIDTH)] = true;
-                    score += 1;
+                if (brickGrid.get(BrickGrid.rowOf(brick), BrickGrid.colOf(brick)) == brick) {
+                    removeBrick(brick);
                     // 40% to spawn powerup
-                    PowerUp powerUp = PowerUpFactory.createRandomPowerUp(brick.getX(), brick.getY(), 30, 30, 0.4);
+                    PowerUp powerUp = PowerUpFactory.createRandomPowerUp(
+                            powerUpRandom, brick.getX(), brick.getY(), 30, 30, 0.4);
                     if (powerUp != null) {
-                        root.getChildren().add(powerUp.getTexture());
+                        powerUp.setBounds(worldWidth, worldHeight);
                         powerUps.add(powerUp);
+                        emit(GameEvent.Type.POWER_UP_SPAWNED, powerUp);
                     }
                 }
             }
         }
 
-        for (Iterator<PowerUp> it = powerUps.iterator(); it.hasNext();) {
-            PowerUp powerUp = it.next();
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
             if (!powerUp.isActive()) {
-                it.remove();
+                powerUps.remove(i--);
+                emit(GameEvent.Type.POWER_UP_LOST, powerUp);
+                PowerUpFactory.release(powerUp);
                 continue;
             }
 
             if (powerUp.checkOverlap(paddle)) {
                 powerUp.applyEffect(this);
 
-                double curTime = System.currentTimeMillis() / 1000.0;
+                double curTime = elapsedTime;
                 PowerUpType type = powerUp.getType();
+                boolean timed = false;
 
                 if (type != PowerUpType.ADD_BALL) {
                     if (effectCountDownList.stream().anyMatch(x -> x.getEffectType() == type)) {
@@ -437,37 +464,236 @@ public class GameManager {
                             }
                         });
                     } else {
-                        effectCountDownList.add(new EffectCountDown(curTime, powerUp.getDuration(), type));
+                        effectCountDownList.add(new EffectCountDown(curTime, powerUp.getDuration(), powerUp));
+                        timed = true;
                     }
                 }
 
-
-                root.getChildren().remove(powerUp.getTexture());
                 powerUp.deactivate();
-                it.remove();
+                powerUps.remove(i--);
+                emit(GameEvent.Type.POWER_UP_COLLECTED, powerUp);
+                // a timed power-up is released once its countdown runs out
+                if (!timed) {
+                    PowerUpFactory.release(powerUp);
+                }
             }
         }
     }
 
     /**
-     * Returns the current level data.
+     * Advances a ball by one step using continuous collision detection.
+     * <p>
+     * The ball's path is swept against the walls, the bricks along the path, the paddle and
+     * the bosses. At the earliest contact the ball is moved there, deflected, and continues with
+     * the rest of its step, up to {@value #MAX_BOUNCES} times. Bricks touched at the same moment
+     * (e.g. the seam between two neighbours) are all hit and deflect the ball together.
+     * Bosses are destroyed by the ball but do not deflect it.
+     * </p>
+     * <p>
+     * The ball is read from and moved in the {@link BallStore}, the bricks are read from the
+     * {@link BrickStore}; the {@link Ball} object is updated before every event it is the
+     * subject of and at the end of the step.
+     * </p>
      *
-     * @return the currently loaded {@link LevelData}
+     * @param i          slot of the ball in the ball store
+     * @param dt         length of the simulation step in seconds
+     * @param hitBricks  receives every brick hit during this step
      */
-    public LevelData getCurrentLvl() {
-        return currentLvl;
+    private void moveBall(int i, double dt, List<Brick> hitBricks) {
+        BallStore b = ballStore;
+        b.speed[i] = Math.max(0, b.speed[i] + b.acceleration[i] * dt);
+        double r = b.radius[i];
+        double remaining = 1.0;
+        for (int bounce = 0; bounce <= MAX_BOUNCES && remaining > 0; bounce++) {
+            double dx = b.dirX[i] * b.speed[i] * dt * remaining;
+            double dy = b.dirY[i] * b.speed[i] * dt * remaining;
+            if (dx == 0 && dy == 0) {
+                break;
+            }
+            double cx = b.x[i] + r;
+            double cy = b.y[i] + r;
+
+            contactTime = Double.POSITIVE_INFINITY;
+            collidedBricks.clear();
+            if (SweptCollision.sweepCircleWalls(cx, cy, r, dx, dy, worldWidth,
+                    worldHeight, b.immortal[i], sweepHit)) {
+                addContact(null, false);
+            }
+            sweepBricks(cx, cy, r, dx, dy);
+            if (SweptCollision.sweepCircleAabb(cx, cy, r, dx, dy, paddle.getX(), paddle.getY(),
+                    paddle.getWidth(), paddle.getHeight(), sweepHit)) {
+                addContact(null, true);
+            }
+
+            double travel = Math.min(contactTime, 1.0);
+            for (int k = 0; k < bosses.size(); k++) {
+                Boss boss = bosses.get(k);
+                if (SweptCollision.sweepCircleAabb(cx, cy, r, dx * travel, dy * travel, boss.getX(),
+                        boss.getY(), boss.getWidth(), boss.getHeight(), sweepHit)
+                        || SweptCollision.circleOverlapsAabb(cx, cy, r, boss.getX(), boss.getY(),
+                        boss.getWidth(), boss.getHeight())) {
+                    score += 1;
+                    boss.deactivate();
+                    bosses.remove(k--);
+                    emit(GameEvent.Type.BOSS_DESTROYED, boss);
+                }
+            }
+
+            b.x[i] += dx * travel;
+            b.y[i] += dy * travel;
+            if (contactTime > 1.0) {
+                break;
+            }
+            remaining *= 1.0 - contactTime;
+            for (int k = 0; k < collidedBricks.size(); k++) {
+                Brick brick = collidedBricks.get(k);
+                hitBricks.add(brick);
+                if (!listeners.isEmpty()) {
+                    emit(new GameEvent(GameEvent.Type.BRICK_HIT, brick,
+                            b.x[i] + r, b.y[i] + r));
+                }
+            }
+            if (contactPaddle && contactNormalY < 0) {
+                bounceOffPaddle(i);
+            } else if (contactFlipX || contactFlipY) {
+                if (contactFlipX) {
+                    b.dirX[i] = -b.dirX[i];
+                }
+                if (contactFlipY) {
+                    b.dirY[i] = -b.dirY[i];
+                }
+            } else {
+                // rounded corner: mirror the direction on the contact normal
+                double dot = b.dirX[i] * contactNormalX + b.dirY[i] * contactNormalY;
+                b.setDirection(i, b.dirX[i] - 2 * dot * contactNormalX,
+                        b.dirY[i] - 2 * dot * contactNormalY);
+            }
+            if (contactPaddle) {
+                b.store(i);
+                emit(GameEvent.Type.PADDLE_HIT, b.balls[i]);
+            }
+        }
+
+        // the paddle itself may have moved into the ball
+        if (SweptCollision.circleOverlapsAabb(b.x[i] + r, b.y[i] + r, r, paddle.getX(),
+                paddle.getY(), paddle.getWidth(), paddle.getHeight())
+                && b.y[i] + r < paddle.getY() + paddle.getHeight() * 0.5) {
+            b.y[i] = paddle.getY() - b.height[i];
+            if (b.dirY[i] > 0) {
+                bounceOffPaddle(i);
+                b.store(i);
+                emit(GameEvent.Type.PADDLE_HIT, b.balls[i]);
+            }
+        }
+        b.store(i);
+        b.balls[i].checkCollisionWithBoundary();
+    }
+
+    /**
+     * Sweeps a ball against the bricks in the cells touched by its swept bounds, the same cells
+     * {@link BrickGrid#query(double, double, double, double, List)} would visit, reading the
+     * bricks from the {@link BrickStore} in row-major order.
+     */
+    private void sweepBricks(double cx, double cy, double r, double dx, double dy) {
+        double minX = Math.min(cx, cx + dx) - r;
+        double minY = Math.min(cy, cy + dy) - r;
+        int cols = brickGrid.getCols();
+        int r0 = Math.max(0, (int) Math.ceil(minY / Brick.BRICK_HEIGHT) - 1);
+        int c0 = Math.max(0, (int) Math.ceil(minX / Brick.BRICK_WIDTH) - 1);
+        int r1 = Math.min(brickGrid.getRows() - 1,
+                (int) Math.floor((minY + Math.abs(dy) + 2 * r) / Brick.BRICK_HEIGHT));
+        int c1 = Math.min(cols - 1,
+                (int) Math.floor((minX + Math.abs(dx) + 2 * r) / Brick.BRICK_WIDTH));
+        BrickStore s = brickStore;
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                int slot = brickSlots[row * cols + col];
+                if (slot >= 0 && SweptCollision.sweepCircleAabb(cx, cy, r, dx, dy, s.x[slot],
+                        s.y[slot], s.width[slot], s.height[slot], sweepHit)) {
+                    addContact(s.bricks[slot], false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the contact in {@link #sweepHit} if it is the earliest one of the current sweep,
+     * or merges it with the earliest one when both happen at the same time.
+     *
+     * @param brick  the brick that was hit, or {@code null}
+     * @param isPaddle whether the paddle was hit
+     */
+    private void addContact(Brick brick, boolean isPaddle) {
+        double t = sweepHit.getTime();
+        if (t > contactTime + CONTACT_TIME_EPSILON) {
+            return;
+        }
+        if (t < contactTime - CONTACT_TIME_EPSILON) {
+            contactTime = t;
+            collidedBricks.clear();
+            contactPaddle = false;
+            contactFlipX = false;
+            contactFlipY = false;
+            contactNormalX = sweepHit.getNormalX();
+            contactNormalY = sweepHit.getNormalY();
+        }
+        if (brick != null) {
+            collidedBricks.add(brick);
+        }
+        contactPaddle |= isPaddle;
+        if (sweepHit.getNormalY() == 0) {
+            contactFlipX = true;
+        } else if (sweepHit.getNormalX() == 0) {
+            contactFlipY = true;
+        }
+    }
+
+    /**
+     * Sends the ball upwards with an angle that depends on where it hit the paddle:
+     * the center returns it straight up, the edges up to 60 degrees sideways.
+     *
+     * @param i slot in the ball store of the ball touching the top of the paddle
+     */
+    private void bounceOffPaddle(int i) {
+        double paddleCenter = paddle.getX() + paddle.getWidth() * 0.5;
+        double ballCenter = ballStore.x[i] + ballStore.radius[i];
+        double t = (ballCenter - paddleCenter) / (paddle.getWidth() * 0.5);
+        t = Math.max(-1, Math.min(1, t));
+        double maxAngle = Math.toRadians(60);
+        double angle = t * maxAngle;
+        ballStore.dirX[i] = Math.sin(angle);
+        ballStore.dirY[i] = -Math.cos(angle);
+    }
+
+    /**
+     * Returns the current level.
+     *
+     * @return the currently loaded {@link CompiledLevel}, or {@code null} for an empty level
+     */
+    public CompiledLevel getCurrentLevel() {
+        return currentLevel;
     }
 
     /**
      * Sets the current level and reinitializes the game state.
      *
-     * @param lvl the level data to load
+     * @param level the level to load, or {@code null} for an empty level
      */
-    public void setCurrentLvl(LevelData lvl) {
-        currentLvl = lvl;
+    public void setCurrentLevel(CompiledLevel level) {
+        currentLevel = level;
         initGame();
     }
 
+    /**
+     * Compiles a level from its JSON form, sets it as the current level and reinitializes the
+     * game state.
+     *
+     * @param lvl the level data to load, or {@code null} for an empty level
+     */
+    public void setCurrentLvl(LevelData lvl) {
+        setCurrentLevel(lvl == null ? null : CompiledLevel.compile(lvl));
+    }
+
     /**
      * Returns the current player score.
      *
@@ -488,12 +714,29 @@ public class GameManager {
      * @return the current game state
      */
     public GameState getGameState() {
-        return gameState.get();
+        return gameState;
     }
 
-    /** Sets the current {@link GameState}. */
+    /**
+     * Sets the current {@link GameState} and emits {@link GameEvent.Type#STATE_CHANGED}
+     * if it differs from the previous one.
+     */
     public void setGameState(GameState gameState) {
-        this.gameState.set(gameState);
+        if (this.gameState == gameState) {
+            return;
+        }
+        this.gameState = gameState;
+        emit(GameEvent.Type.STATE_CHANGED, null);
+    }
+
+    /**
+     * Returns the simulated time in seconds spent in {@link GameState#RUNNING} since the
+     * level was initialized. Power-up durations are measured against this clock.
+     *
+     * @return the elapsed simulation time in seconds
+     */
+    public double getElapsedTime() {
+        return elapsedTime;
     }
 
     /**
@@ -505,6 +748,33 @@ public class GameManager {
         return balls;
     }
 
+    /**
+     * Returns all bricks currently in the level.
+     *
+     * @return list of bricks
+     */
+    public List<Brick> getBricks() {
+        return bricks;
+    }
+
+    /**
+     * Returns all falling {@link PowerUp}s.
+     *
+     * @return list of power-ups
+     */
+    public List<PowerUp> getPowerUps() {
+        return powerUps;
+    }
+
+    /**
+     * Returns all active {@link Boss}es.
+     *
+     * @return list of bosses
+     */
+    public List<Boss> getBosses() {
+        return bosses;
+    }
+
     /**
      * Returns the player’s {@link Paddle}.
      *
@@ -515,25 +785,76 @@ public class GameManager {
     }
 
     /**
-     * Returns the list of currently active effect countdowns.
+     * Returns the pool that lost balls are returned to and new balls are taken from.
      *
-     * @return the list of {@link EffectCountDown} objects
+     * @return the ball pool
      */
-    public List<EffectCountDown> getEffectCountDownList() {
-        return effectCountDownList;
+    public ObjectPool<Ball> getBallPool() {
+        return ballPool;
     }
 
     /**
-     * Returns the observable property representing the current {@link GameState}.
-     * <p>
-     * This property can be observed by the UI to react to state changes,
-     * such as transitioning to a game-over screen.
-     * </p>
+     * Returns the width of the current level's world, at least {@link GameScreen#GAME_WIDTH}.
      *
-     * @return the {@link ObjectProperty} for the game state
+     * @return the world width in pixels
      */
-    public ObjectProperty<GameState> gameStateProperty() {
-        return gameState;
+    public double getWorldWidth() {
+        return worldWidth;
+    }
+
+    /**
+     * Returns the height of the current level's world, at least {@link GameScreen#GAME_HEIGHT}.
+     *
+     * @return the world height in pixels
+     */
+    public double getWorldHeight() {
+        return worldHeight;
+    }
+
+    /**
+     * Returns the structure-of-arrays copy of the bricks of the current level.
+     *
+     * @return the brick store, in the same order as {@link #getBricks()}
+     */
+    public BrickStore getBrickStore() {
+        return brickStore;
+    }
+
+    /**
+     * Returns the spatial index of the bricks of the current level.
+     *
+     * @return the brick grid
+     */
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    /**
+     * Returns the total time {@link #update(double)} spent in {@link #checkCollisions(double)}.
+     *
+     * @return the time in nanoseconds since this manager was created
+     */
+    public long getCollisionNanos() {
+        return collisionNanos;
+    }
+
+    /**
+     * Returns the total time {@link #update(double)} spent moving the bosses and their
+     * navigation field.
+     *
+     * @return the time in nanoseconds since this manager was created
+     */
+    public long getBossNanos() {
+        return bossNanos;
+    }
+
+    /**
+     * Returns the list of currently active effect countdowns.
+     *
+     * @return the list of {@link EffectCountDown} objects
+     */
+    public List<EffectCountDown> getEffectCountDownList() {
+        return effectCountDownList;
     }
 
     /**
@@ -541,7 +862,7 @@ public class GameManager {
      * typically called when all balls are lost or all bricks are cleared.
      */
     public void gameOver() {
-        gameState.set(GameState.GAME_OVER);
+        setGameState(GameState.GAME_OVER);
     }
 
     /**
@@ -550,8 +871,8 @@ public class GameManager {
      * @return {@code true} if all destructible bricks are cleared
      */
     public boolean isWinner() {
-        return gameState.get() == GameState.GAME_OVER
-                && bricks.stream().allMatch(brick -> brick instanceof StrongBrick)
+        return gameState == GameState.GAME_OVER
+                && brickStore.getBreakableCount() == 0
                 && !balls.isEmpty();
     }
 
@@ -562,57 +883,69 @@ public class GameManager {
      * - In {@code RUNNING}: updates all entities and checks collisions.<br>
      * - Ends the game if all balls are lost or all destructible bricks are gone.
      * </p>
+     * <p>
+     * The screens call this with a constant step (see {@link com.raumania.core.FixedTimestep}),
+     * so the outcome of a match only depends on its inputs, not on the display frame rate.
+     * </p>
+     * <p>
+     * Each phase of a running step is reported to the flight recorder as a
+     * {@link FramePhaseEvent}.
+     * </p>
      *
-     * @param dt delta time in seconds since the last frame
+     * @param dt length of the simulation step in seconds
      */
     public void update(double dt) {
-        if (gameState.get() == GameState.READY) {
+        if (gameState == GameState.READY || gameState == GameState.RUNNING) {
+            savePreviousPositions();
+        }
+        if (gameState == GameState.READY) {
             paddle.update(dt);
             double ballX = paddle.getX() + (paddle.getWidth() - Ball.BALL_RADIUS * 2) / 2.0;
             double ballY = paddle.getY() - Ball.BALL_RADIUS * 2 - 1;
             balls.getFirst().setPosition(ballX, ballY);
-            balls.getFirst().updateView();
             return;
         }
-        if (gameState.get() != GameState.RUNNING) {
+        if (gameState != GameState.RUNNING) {
             return;
         }
-        for (Ball ball : balls) {
-            ball.update(dt);
-        }
-        for (PowerUp powerUp : powerUps) {
-            powerUp.update(dt);
+        elapsedTime += dt;
+        FramePhaseEvent phase = FramePhaseEvent.beginIfEnabled();
+        updateEffectCountDowns();
+        commitPhase(phase, FramePhaseEvent.EFFECTS);
+
+        phase = FramePhaseEvent.beginIfEnabled();
+        for (int i = 0; i < powerUps.size(); i++) {
+            powerUps.get(i).update(dt);
         }
         paddle.update(dt);
+        commitPhase(phase, FramePhaseEvent.MOVEMENT);
+
+        phase = FramePhaseEvent.beginIfEnabled();
+        long start = System.nanoTime();
         checkCollisions(dt);
+        long collided = System.nanoTime();
+        collisionNanos += collided - start;
+        commitPhase(phase, FramePhaseEvent.COLLISIONS);
 
-        for (Iterator<VisualEffect> it = visualEffects.iterator(); it.hasNext();) {
-            VisualEffect ve = it.next();
-            if (ve.getTextureSheet().isFinalFrame()) {
-                root.getChildren().remove(ve.getTexture());
-                it.remove();
-            }
+        phase = FramePhaseEvent.beginIfEnabled();
+        // The field follows the paddle column; it is only rebuilt when the goal or the grid changed
+        if (!bosses.isEmpty()) {
+            int goalCol = (int) ((paddle.getX() + paddle.getWidth() * 0.5) / Brick.BRICK_WIDTH);
+            bossField.setGoal(layout.length - 1, goalCol);
+            bossField.update();
         }
-        // Update boss path each frame to reflect paddle movement and boss position
-        for (Iterator<Boss> iterator = bosses.iterator(); iterator.hasNext();) {
-            Boss boss = iterator.next();
-            int newScore = boss.bossUpdate(dt, paddle, layout, root, bricks, getScore());
+        for (int i = 0; i < bosses.size(); i++) {
+            Boss boss = bosses.get(i);
+            int newScore = boss.bossUpdate(dt, paddle, bossField, brickGrid, getScore());
             setScore(newScore);
             if (!boss.isActive()) {
-                // Tạo hiệu ứng nổ tại vị trí boss
-                 VisualEffect explosion = new Explosion(
-                        boss.getX(),
-                        boss.getY(),
-                        Boss.BOSS_SIZE*1.2,
-                        Boss.BOSS_SIZE*1.2
-                );
-                visualEffects.add(explosion);
-                root.getChildren().add(explosion.getTexture());
                 // Xóa boss khỏi danh sách
-                iterator.remove();
-                boss = null;
+                bosses.remove(i--);
+                emit(GameEvent.Type.BOSS_ESCAPED, boss);
             }
         }
+        bossNanos += System.nanoTime() - collided;
+        commitPhase(phase, FramePhaseEvent.BOSSES);
 
         if (balls.isEmpty()) {
             // No balls left - lose condition
@@ -622,12 +955,54 @@ public class GameManager {
             } else {
                 respawnBall();
             }
-        } else if (bricks.stream().allMatch((b) -> b instanceof StrongBrick)) {
+        } else if (brickStore.getBreakableCount() == 0) {
             // All bricks destroyed - win condition
             gameOver();
         }
     }
 
+    /**
+     * Records a phase of {@link #update(double)} for the flight recorder, with the number of
+     * entities at its end. Does nothing unless a recording has the event enabled.
+     *
+     * @param event the event begun at the start of the phase, {@code null} if not recorded
+     * @param phase name of the phase
+     */
+    private void commitPhase(FramePhaseEvent event, String phase) {
+        if (event == null) {
+            return;
+        }
+        event.commit(phase, balls.size(), bricks.size(), powerUps.size(), bosses.size());
+    }
+
+    /**
+     * Tells the bosses' navigation field that a cell of {@code layout} has changed,
+     * so it can repair its distances instead of starting over.
+     *
+     * @param r row of the cell
+     * @param c column of the cell
+     */
+    private void notifyCellChanged(int r, int c) {
+        bossField.cellChanged(r, c);
+    }
+
+    /**
+     * Snapshots the position of every moving object so the renderer can interpolate
+     * between this step and the next one.
+     */
+    private void savePreviousPositions() {
+        paddle.savePreviousPosition();
+        for (int i = 0; i < balls.size(); i++) {
+            balls.get(i).savePreviousPosition();
+        }
+        for (int i = 0; i < powerUps.size(); i++) {
+            powerUps.get(i).savePreviousPosition();
+        }
+        for (int i = 0; i < bosses.size(); i++) {
+            bosses.get(i).savePreviousPosition();
+        }
+    }
+
     /**
      * Starts the main gameplay when the game is in {@link GameState#READY}.
      * <p>
@@ -637,29 +1012,54 @@ public class GameManager {
      * </p>
      */
     public void startGame() {
-        if (gameState.get() == GameState.READY) {
+        if (gameState == GameState.READY) {
             balls.get(0).setSpeed(Ball.BALL_SPEED);
-            balls.get(0).setDirection(new Vec2f(0, -1));
-            gameState.set(GameState.RUNNING);
+            balls.get(0).setDirection(0, -1);
+            setGameState(GameState.RUNNING);
+        }
+    }
+
+    /**
+     * Reverts the effects of power-ups whose countdown has run out.
+     * <p>
+     * Durations are measured in simulation time ({@link #getElapsedTime()}), so effects
+     * expire deterministically and stay frozen while the game is paused.
+     * </p>
+     */
+    private void updateEffectCountDowns() {
+        for (int i = 0; i < effectCountDownList.size(); i++) {
+            EffectCountDown effectCountDown = effectCountDownList.get(i);
+            if (effectCountDown.getTimeRemaining(elapsedTime) <= 0) {
+                effectCountDown.getSource().removeEffect(this);
+                PowerUpFactory.release(effectCountDown.getSource());
+                effectCountDownList.remove(i--);
+            }
         }
     }
 
     /**
      * Spawns an additional {@link Ball} at the given position and direction.
+     * <p>
+     * The ball is taken from the pool of lost balls when possible.
+     * </p>
      *
      * @param x   x-coordinate of spawn position
      * @param y   y-coordinate of spawn position
      * @param dir initial direction of the ball
      */
     public void spawnAdditionalBall(double x, double y, Vec2f dir) {
-        Ball ball = new Ball(x, y);
-        Vec2f newDir;
-        newDir = dir.rotate( (Math.random() > 0.5 ? 1 : -1) * (Math.random()*55 + 45) );
+        Ball ball = ballPool.acquire();
+        ball.reset(x, y);
+        ball.setBounds(worldWidth, worldHeight);
+        // rotated straight into the ball's own direction, dir may belong to another ball
+        Vec2f newDir = dir.rotateInto(
+                (ballRandom.nextBoolean() ? 1 : -1) * (ballRandom.nextDouble() * 55 + 45),
+                ball.getDirection());
         if (newDir.y == 0) newDir.y = newDir.x;
         else if ( Math.abs(newDir.x/newDir.y) >= 3.73) newDir.y = newDir.x;
-        ball.setDirection(newDir);
+        ball.setDirection(newDir.x, newDir.y);
         balls.add(ball);
-        root.getChildren().add(ball.getView());
+        emit(GameEvent.Type.BALL_SPAWNED, ball);
     }
 
     /**
@@ -680,10 +1080,10 @@ public class GameManager {
         );
         Ball firstBall = balls.get(0);
         firstBall.setSpeed(0);
-        firstBall.setDirection(new Vec2f(0, 0));
+        firstBall.setDirection(0, 0);
 
         // Set game state back to READY
-        gameState.set(GameState.READY);
+        setGameState(GameState.READY);
     }
 
     /**
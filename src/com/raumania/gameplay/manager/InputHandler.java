@@ -1,20 +1,49 @@
 package com.raumania.gameplay.manager;
 
-import javafx.application.Platform;
+import com.raumania.gameplay.objects.Paddle;
 import javafx.scene.input.KeyCode;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Turns the key events of one player into paddle movement.
+ * <p>
+ * The key handlers only record timestamped transitions of the player's keys into an
+ * {@link InputRing}. The game loop calls {@link #poll()} once per simulation step, right before
+ * {@link GameManager#update(double)}, which applies the newest state to the paddle. Nothing runs
+ * while no key changes, and the paddle only ever changes direction at the start of a step, so
+ * the same key presses always give the same movement.
+ * </p>
+ * <p>
+ * The time from a key event to the step that moves the paddle is measured as the input latency
+ * (see {@link #getLastLatencyNanos()}).
+ * </p>
+ */
 public class InputHandler {
-    // thread-safe gameState
+    /** State bit of the left key. */
+    public static final int LEFT = 1;
+    /** State bit of the right key. */
+    public static final int RIGHT = 2;
+    /** Number of key transitions that can wait for the next step. */
+    public static final int RING_CAPACITY = 64;
+
+    // key events are accepted between start and stop
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private Thread thread;
     private final GameManager gameManager;
     private final KeyCode leftKey;
     private final KeyCode rightKey;
-    // keep track of key up or down
-    private boolean leftPressed = false;
-    private boolean rightPressed = false;
+    private final InputRing ring = new InputRing(RING_CAPACITY);
+    // keys held, only touched by the key handlers
+    private int pressed = 0;
+    // set when a transition did not fit into the ring, the loop then reads latestState
+    private final AtomicBoolean overflowed = new AtomicBoolean(false);
+    private volatile int latestState = 0;
+    // state applied to the paddle, only touched by the game loop
+    private int state = 0;
+    private long latencyCount;
+    private long latencyTotalNanos;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
 
     public InputHandler(GameManager gameManager, KeyCode leftKey, KeyCode rightKey) {
         this.gameManager = gameManager;
@@ -23,52 +52,32 @@ public class InputHandler {
     }
 
     /**
-     * Spawn a new thread to handle input
+     * Starts accepting key events, forgetting the keys held before.
      */
     public void start() {
-        // avoid spam thread
-        if (running.get()) {
+        // avoid double start
+        if (running.getAndSet(true)) {
             return;
         }
-
-        running.set(true);
-        thread = new Thread(() -> {
-            while (running.get()) {
-                // if not pressed, send release event will not hurt
-                // use Platform.runLater because movement affects UI
-                if (leftPressed != rightPressed) {
-                    Platform.runLater(() -> {
-                        if (leftPressed) {
-                            gameManager.getPaddle().moveLeft();
-                        } else if (rightPressed) {
-                            gameManager.getPaddle().moveRight();
-                        }
-                    });
-                } else {
-                    Platform.runLater(gameManager.getPaddle()::stop);
-                }
-
-                try {
-                    // avoid full CPU
-                    Thread.sleep(10);
-                } catch (InterruptedException e) {
-                    stop();
-                }
-            }
-        });
-        // close thread when application exits
-        thread.setDaemon(true);
-        thread.start();
+        pressed = 0;
+        latestState = 0;
+        overflowed.set(false);
+        while (!ring.isEmpty()) {
+            ring.remove();
+        }
+        state = 0;
     }
 
     /**
-     * Stop the input handler thread
+     * Stops accepting key events and stops the paddle.
      */
     public void stop() {
         running.set(false);
-        if (thread != null) {
-            thread.interrupt();
-        }
+        apply(0);
+    }
+
+    public boolean isRunning() {
+        return running.get();
     }
 
     /**
@@ -77,9 +86,9 @@ public class InputHandler {
      */
     public void onKeyPressed(KeyCode keyCode) {
         if (keyCode == leftKey) {
-            leftPressed = true;
+            record(pressed | LEFT);
         } else if (keyCode == rightKey) {
-            rightPressed = true;
+            record(pressed | RIGHT);
         }
     }
 
@@ -89,9 +98,106 @@ public class InputHandler {
      */
     public void onKeyReleased(KeyCode keyCode) {
         if (keyCode == leftKey) {
-            leftPressed = false;
+            record(pressed & ~LEFT);
         } else if (keyCode == rightKey) {
-            rightPressed = false;
+            record(pressed & ~RIGHT);
+        }
+    }
+
+    private void record(int newState) {
+        // held keys repeat their pressed event, only transitions are queued
+        if (!running.get() || newState == pressed) {
+            return;
+        }
+        pressed = newState;
+        latestState = newState;
+        if (!ring.offer(newState, System.nanoTime())) {
+            overflowed.set(true);
+        }
+    }
+
+    /**
+     * Applies the key transitions recorded since the previous call to the paddle. Called by the
+     * game loop once per simulation step.
+     *
+     * @return the resulting key state, a combination of {@link #LEFT} and {@link #RIGHT}
+     */
+    public int poll() {
+        if (!running.get()) {
+            return state;
+        }
+        long now = System.nanoTime();
+        int next = state;
+        while (!ring.isEmpty()) {
+            next = ring.peekState();
+            recordLatency(now - ring.peekTime());
+            ring.remove();
+        }
+        if (overflowed.getAndSet(false)) {
+            // transitions were lost, catch up with the keys held right now
+            next = latestState;
+        }
+        apply(next);
+        return next;
+    }
+
+    /**
+     * Moves the paddle according to a key state. Holding both keys or none stops it.
+     *
+     * @param newState a combination of {@link #LEFT} and {@link #RIGHT}
+     */
+    public void apply(int newState) {
+        state = newState;
+        Paddle paddle = gameManager.getPaddle();
+        if (newState == LEFT) {
+            paddle.moveLeft();
+        } else if (newState == RIGHT) {
+            paddle.moveRight();
+        } else {
+            paddle.stop();
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        lastLatencyNanos = nanos;
+        latencyTotalNanos += nanos;
+        latencyCount++;
+        if (nanos > maxLatencyNanos) {
+            maxLatencyNanos = nanos;
         }
     }
+
+    /** Resets the input latency statistics. */
+    public void resetLatencyStats() {
+        latencyCount = 0;
+        latencyTotalNanos = 0;
+        lastLatencyNanos = 0;
+        maxLatencyNanos = 0;
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    /**
+     * Returns the latency of the most recent key transition, from the key event to the
+     * simulation step that applied it.
+     *
+     * @return the latency in nanoseconds, 0 before the first transition
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    public long getMeanLatencyNanos() {
+        return latencyCount == 0 ? 0 : latencyTotalNanos / latencyCount;
+    }
+
+    public long getLatencyCount() {
+        return latencyCount;
+    }
 }
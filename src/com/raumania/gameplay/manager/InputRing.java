@@ -0,0 +1,114 @@
+package com.raumania.gameplay.manager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free queue of timestamped input states for one producer and one consumer.
+ * <p>
+ * The producer (the JavaFX key handlers) appends with {@link #offer(int, long)}, the consumer
+ * (the game loop) reads the oldest entry with {@link #peekState()} and {@link #peekTime()} and
+ * drops it with {@link #remove()}. Entries live in two preallocated arrays, so neither side
+ * allocates or blocks; the release/acquire ordering of the head and tail counters makes an entry
+ * visible to the consumer only once it has been fully written.
+ * </p>
+ * <p>
+ * Only one thread may call {@link #offer(int, long)} and only one thread may call the reading
+ * methods; they may be the same thread.
+ * </p>
+ */
+public class InputRing {
+    private final int[] states;
+    private final long[] times;
+    private final int mask;
+    // next slot to read, only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // next slot to write, only written by the producer
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity maximum number of queued entries, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public InputRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        states = new int[size];
+        times = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Appends an entry. Producer only.
+     *
+     * @param state     the input state
+     * @param timeNanos when the input happened, from {@link System#nanoTime()}
+     * @return {@code false} if the ring is full and the entry was not added
+     */
+    public boolean offer(int state, long timeNanos) {
+        long t = tail.getPlain();
+        if (t - head.getAcquire() == states.length) {
+            return false;
+        }
+        int slot = (int) t & mask;
+        states[slot] = state;
+        times[slot] = timeNanos;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    /**
+     * Checks whether there is nothing to read. Consumer only.
+     *
+     * @return {@code true} if the ring is empty
+     */
+    public boolean isEmpty() {
+        return head.getPlain() == tail.getAcquire();
+    }
+
+    /**
+     * Returns the state of the oldest entry. Consumer only, the ring must not be empty.
+     *
+     * @return the input state
+     */
+    public int peekState() {
+        return states[(int) head.getPlain() & mask];
+    }
+
+    /**
+     * Returns the time of the oldest entry. Consumer only, the ring must not be empty.
+     *
+     * @return the time in nanoseconds
+     */
+    public long peekTime() {
+        return times[(int) head.getPlain() & mask];
+    }
+
+    /** Drops the oldest entry, making its slot available to the producer. Consumer only. */
+    public void remove() {
+        long h = head.getPlain();
+        if (h != tail.getAcquire()) {
+            head.setRelease(h + 1);
+        }
+    }
+
+    /**
+     * Returns the number of queued entries. Exact only when called by the consumer while the
+     * producer is idle.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    public int getCapacity() {
+        return states.length;
+    }
+}
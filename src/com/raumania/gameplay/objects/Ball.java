@@ -1,7 +1,6 @@
 package com.raumania.gameplay.objects;
 
 import com.raumania.gameplay.objects.core.MovableObject;
-import com.raumania.gui.screen.GameScreen;
 import com.raumania.math.Vec2f;
 
 import javafx.scene.paint.Color;
@@ -29,7 +28,9 @@ public class Ball extends MovableObject {
     );
 
     private static int textureIndex = 0;
-    private final Circle view;
+    private Paint color;
+    // created lazily, the simulation itself never needs it
+    private Circle view;
     private double radius;
     private boolean activeStatus;
     private boolean isImmortal;
@@ -45,11 +46,37 @@ public class Ball extends MovableObject {
         this.radius = BALL_RADIUS;
         this.setDirection(new Vec2f(1, -1));
         this.setSpeed(BALL_SPEED);
-        this.view = new Circle(radius, BALL_COLORS.get(textureIndex));
+        this.color = BALL_COLORS.get(textureIndex);
         this.activeStatus = true;
         this.isImmortal = false;
     }
 
+    /**
+     * Puts a ball taken from a pool back into the state of a newly constructed one, at the given
+     * position and with the currently selected colour.
+     *
+     * @param x the x-coordinate of the ball
+     * @param y the y-coordinate of the ball
+     */
+    public void reset(double x, double y) {
+        setPosition(x, y);
+        savePreviousPosition();
+        this.width = BALL_RADIUS * 2.0;
+        this.height = BALL_RADIUS * 2.0;
+        this.direction.set(1, -1).normalize();
+        this.speed = BALL_SPEED;
+        this.acceleration = 0;
+        this.color = BALL_COLORS.get(textureIndex);
+        this.activeStatus = true;
+        this.isImmortal = false;
+        this.radius = BALL_RADIUS;
+        if (view != null) {
+            view.setRadius(radius);
+            view.setFill(color);
+            updateView();
+        }
+    }
+
     public static void setTextureIndex(int ballColorIdx) {
         textureIndex = ballColorIdx;
     }
@@ -74,8 +101,10 @@ public class Ball extends MovableObject {
             throw new IllegalArgumentException("radius must be positive");
         }
         this.radius = radius;
-        this.getView().setRadius(radius);
-        this.updateView();
+        if (view != null) {
+            view.setRadius(radius);
+            updateView();
+        }
     }
 
     /**
@@ -84,13 +113,30 @@ public class Ball extends MovableObject {
      * @return the {@link Circle} node used to render this ball
      */
     public Circle getView() {
+        if (view == null) {
+            view = new Circle(radius, color);
+            updateView();
+        }
         return view;
     }
 
+    /**
+     * Returns the fill color of the ball.
+     *
+     * @return the color picked from {@link #BALL_COLORS} when the ball was created or reset
+     */
+    public Paint getColor() {
+        return color;
+    }
+
     public void setImmortal (boolean currentState) {
         isImmortal = currentState;
     }
 
+    public boolean isImmortal() {
+        return isImmortal;
+    }
+
     /**
      * Updates the position of the {@link Circle} view to match the ball's current coordinates.
      * <p>
@@ -98,8 +144,21 @@ public class Ball extends MovableObject {
      * </p>
      */
     public void updateView() {
-        view.setCenterX(x + radius);
-        view.setCenterY(y + radius);
+        updateView(1.0);
+    }
+
+    /**
+     * Moves the {@link Circle} view to the position interpolated between the last two
+     * simulation steps.
+     *
+     * @param alpha interpolation factor in {@code [0, 1]}
+     */
+    public void updateView(double alpha) {
+        if (view == null) {
+            return;
+        }
+        view.setCenterX(getRenderX(alpha) + radius);
+        view.setCenterY(getRenderY(alpha) + radius);
     }
 
     /**
@@ -144,7 +203,7 @@ public class Ball extends MovableObject {
      * </p>
      *
      * <p>
-     * The ball is constrained to the GAME_WIDTH and GAME_HEIGHT boundaries,
+     * The ball is constrained to the play field set by {@link #setBounds(double, double)},
      * ensuring it stays within the bounded game pane area.
      * </p>
      */
@@ -152,17 +211,17 @@ public class Ball extends MovableObject {
         if (x <= 0) {
             x = 0;
             bounceHorizontally();
-        } else if (x + width >= GameScreen.GAME_WIDTH) {
-            x = GameScreen.GAME_WIDTH - width;
+        } else if (x + width >= boundsWidth) {
+            x = boundsWidth - width;
             bounceHorizontally();
         }
         if (y <= 0) {
             y = 0;
             bounceVertically();
-        } else if (y + height >= GameScreen.GAME_HEIGHT) {
+        } else if (y + height >= boundsHeight) {
             if (!isImmortal) deactivate();
             else {
-                y = GameScreen.GAME_HEIGHT - height;
+                y = boundsHeight - height;
                 bounceVertically();
             }
         }
@@ -171,9 +230,6 @@ public class Ball extends MovableObject {
 
     /**
      * Updates the ball’s position according to its velocity and acceleration.
-     * <p>
-     * Also synchronizes the visual representation by calling {@link #updateView()}.
-     * </p>
      *
      * @param dt delta time in seconds since the last frame
      */
@@ -184,6 +240,5 @@ public class Ball extends MovableObject {
         }
         applyMovement(dt);
         checkCollisionWithBoundary();
-        updateView();
     }
 }
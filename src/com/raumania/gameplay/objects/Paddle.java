@@ -1,9 +1,6 @@
 package com.raumania.gameplay.objects;
 
-import static com.raumania.gui.screen.GameScreen.GAME_WIDTH;
-
 import com.raumania.gameplay.objects.core.MovableObject;
-import com.raumania.math.Vec2f;
 import com.raumania.utils.ResourcesLoader;
 
 import javafx.scene.image.ImageView;
@@ -21,7 +18,9 @@ public class Paddle extends MovableObject {
     public static final int PADDLE_HEIGHT = 15;
     public static final int PADDLE_SPEED = 350;
     private static int textureIndex = 0;
-    private final ImageView paddleTexture;
+    private final int skin;
+    // created lazily, the simulation itself never needs it
+    private ImageView paddleTexture;
 
     /**
      * Constructs a new {@code Paddle} object with the specified position and size.
@@ -34,9 +33,7 @@ public class Paddle extends MovableObject {
     public Paddle(double x, double y, double width, double height) {
         super(x, y, width, height);
         this.speed = PADDLE_SPEED;
-        this.paddleTexture = new ImageView(ResourcesLoader.loadImage("paddle" + textureIndex + ".png"));
-        this.paddleTexture.setFitWidth(width);
-        this.paddleTexture.setFitHeight(height);
+        this.skin = textureIndex;
     }
 
     /**
@@ -54,39 +51,67 @@ public class Paddle extends MovableObject {
      * @return the {@link ImageView} node used to render this paddle
      */
     public ImageView getTexture() {
+        if (paddleTexture == null) {
+            paddleTexture = ResourcesLoader.createImageView(getImageName());
+            paddleTexture.setFitHeight(height);
+            updateView();
+        }
         return paddleTexture;
     }
 
     /**
-     * Updates the position of the {@link ImageView} view to match the paddle's current coordinates.
+     * Returns the file name of the image of this paddle's skin in {@code resources/images}.
+     *
+     * @return the image file name
+     */
+    public String getImageName() {
+        return "paddle" + skin + ".png";
+    }
+
+    /**
+     * Updates the position and width of the {@link ImageView} view to match the paddle's
+     * current state.
      * <p>
      * Should be called after each movement update.
      * </p>
      */
     public void updateView() {
-        paddleTexture.setTranslateX(x);
-        paddleTexture.setTranslateY(y);
+        updateView(1.0);
+    }
+
+    /**
+     * Updates the view using the position interpolated between the last two simulation steps.
+     *
+     * @param alpha interpolation factor in {@code [0, 1]}
+     */
+    public void updateView(double alpha) {
+        if (paddleTexture == null) {
+            return;
+        }
+        paddleTexture.setFitWidth(width);
+        paddleTexture.setTranslateX(getRenderX(alpha));
+        paddleTexture.setTranslateY(getRenderY(alpha));
     }
 
     /**
      * Sets the paddle’s movement direction to the left.
      */
     public void moveLeft() {
-        setDirection(new Vec2f(- 1, 0));
+        setDirection(-1, 0);
     }
 
     /**
      * Sets the paddle’s movement direction to the right.
      */
     public void moveRight() {
-        setDirection(new Vec2f(1, 0));
+        setDirection(1, 0);
     }
 
     /**
      * Stops the paddle’s horizontal movement.
      */
     public void stop() {
-        setDirection(new Vec2f(0, 0));
+        setDirection(0, 0);
     }
 
     /**
@@ -99,16 +124,13 @@ public class Paddle extends MovableObject {
         if (x < 0) {
             x = 0;
         }
-        if (x + width >= GAME_WIDTH) {
-            x = GAME_WIDTH - width;
+        if (x + width >= boundsWidth) {
+            x = boundsWidth - width;
         }
     }
 
     /**
      * Updates paddle movement per frame and keeps it within the window boundaries.
-     * <p>
-     * Also synchronizes the visual representation by calling {@link #updateView()}.
-     * </p>
      *
      * @param dt delta time in seconds since the last frame
      */
@@ -116,6 +138,5 @@ public class Paddle extends MovableObject {
     public void update(double dt) {
         applyMovement(dt);
         checkCollisionWithBoundary();
-        updateView();
     }
 }
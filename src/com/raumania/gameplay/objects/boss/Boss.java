@@ -1,30 +1,32 @@
 package com.raumania.gameplay.objects.boss;
 
-import com.raumania.core.AStarInstructor;
+import com.raumania.core.FlowField;
 import com.raumania.core.SpriteSheet;
+import com.raumania.core.jfr.BossUpdateEvent;
+import com.raumania.gameplay.manager.BrickGrid;
 import com.raumania.gameplay.objects.Paddle;
 import com.raumania.gameplay.objects.brick.Brick;
 import com.raumania.gameplay.objects.core.MovableObject;
-import com.raumania.gui.screen.GameScreen;
 import com.raumania.math.Vec2f;
 
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Pane;
 //import javafx.scene.shape.Polyline;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the Boss enemy in the game.
  * <p>
- * The Boss is a movable object that can follow a calculated path using A* pathfinding,
- * perform random movement when no path exists, and teleport if stuck for too long.
+ * The Boss is a movable object that walks towards the paddle along a {@link FlowField}
+ * shared by all bosses of the level, waits at the closest reachable spot while it is walled in,
+ * and teleport if stuck for too long.
  * It interacts with {@link Paddle}, {@link Brick}, and can reduce the player's score
  * upon collision. The Boss can also "dash" toward the paddle when nearby.
  * </p>
  */
-public class Boss extends MovableObject {
+public abstract class Boss extends MovableObject {
     /** The default size (width and height) of the boss. */
     public static final double BOSS_SIZE = 35.0;
     /** The distance threshold to consider the boss has arrived at a target point. */
@@ -33,16 +35,25 @@ public class Boss extends MovableObject {
     private static final double STUCK_THRESHOLD = 2.5;
     /** The normal movement speed of the boss. */
     public static double BOSS_SPEED = 95.0;
+    /** Size in pixels of one frame of a boss sprite sheet. */
+    public static final int FRAME_SIZE = 16;
+    /** Playback speed of the boss animations. */
+    public static final double FPS = 10.0;
+    // created lazily, the simulation itself never needs it
     private SpriteSheet bossTexture;
     private boolean active = true;
     private double timeAccumulator = 0;
 //    private Polyline bossPathLine;
-    private List<Vec2f> pathPoints;
-    private int currentTargetIndex;
-    private boolean followingPath = true;
-    private Vec2f lastPosition = new Vec2f(0, 0);
+    // cell (row * cols + col) the boss is walking to, -1 if it has none
+    private int targetCell = -1;
+    private int targetCols;
+    private double lastX;
+    private double lastY;
     private double stuckTimer = 0;
-    private double randomDir = Math.random() > 0.5 ? 1 : -1;
+    // direction of the random walk, see randomizeDirection
+    private double randomDir = 1;
+    // bricks around the boss, refilled from the brick grid on every update
+    private final List<Brick> nearbyBricks = new ArrayList<>();
 
     /**
      * Constructs a new Boss instance.
@@ -69,7 +80,7 @@ public class Boss extends MovableObject {
      */
     public void setBossTexture(SpriteSheet bossTexture) {
         this.bossTexture = bossTexture;
-        this.bossTexture.setFps(10.0);
+        this.bossTexture.setFps(FPS);
         this.bossTexture.getView().setX(getX());
         this.bossTexture.getView().setY(getY());
         this.bossTexture.getView().setFitWidth(getWidth());
@@ -87,9 +98,36 @@ public class Boss extends MovableObject {
      * @return the {@link ImageView} for rendering
      */
     public ImageView getTexture() {
+        if (bossTexture == null) {
+            setBossTexture(createTexture());
+        }
         return bossTexture.getView();
     }
 
+    /**
+     * Creates the animated sprite of this boss. Called on first access to {@link #getTexture()}.
+     *
+     * @return a new sprite sheet for this boss
+     */
+    protected SpriteSheet createTexture() {
+        return SpriteSheet.load(getImageName(),
+                FRAME_SIZE, FRAME_SIZE, getFrameCount(), getFrameCount());
+    }
+
+    /**
+     * Returns the file name of the sprite sheet of this boss in {@code resources/images}.
+     *
+     * @return the image file name
+     */
+    public abstract String getImageName();
+
+    /**
+     * Returns the number of frames of the animation, laid out in a single row.
+     *
+     * @return the frame count
+     */
+    public abstract int getFrameCount();
+
     /**
      * Checks whether the boss is currently active in the game.
      *
@@ -99,152 +137,180 @@ public class Boss extends MovableObject {
         return active;
     }
 
-    /** Updates the visual position of the boss's texture to match its logic position. */
+    /**
+     * Updates the visual position of the boss's texture to match its logic position.
+     * Also flashes the texture red while the boss is about to teleport.
+     */
     public void updateView() {
-        bossTexture.getView().setX(getX());
-        bossTexture.getView().setY(getY());
+        updateView(1.0);
+    }
+
+    /**
+     * Updates the texture using the position interpolated between the last two simulation steps.
+     *
+     * @param alpha interpolation factor in {@code [0, 1]}
+     */
+    public void updateView(double alpha) {
+        if (bossTexture == null) {
+            return;
+        }
+        bossTexture.getView().setX(getRenderX(alpha));
+        bossTexture.getView().setY(getRenderY(alpha));
+
+        if (isFlashing()) {
+            bossTexture.getView().setStyle("-fx-effect: innershadow(gaussian, red, 25, 0.5, 0, 0);");
+        } else {
+            bossTexture.getView().setStyle(null);
+        }
+    }
+
+    /**
+     * Checks whether the texture should currently be tinted red: it blinks shortly before
+     * the boss teleports.
+     *
+     * @return {@code true} during the red phase of the blink
+     */
+    public boolean isFlashing() {
+        //  Flash red when nearly stuck
+        boolean nearlyStuck = stuckTimer >= STUCK_THRESHOLD * 0.6 && stuckTimer < STUCK_THRESHOLD;
+        return nearlyStuck && Math.sin(stuckTimer * 20) > 0; // fast blink
     }
 
     @Override
     public void update(double dt){}
 
     /**
-     * Updates the boss logic and movement for each frame.
+     * Updates the boss logic and movement for each frame, reported to the flight recorder as a
+     * {@link BossUpdateEvent}.
      *
      * @param dt      time delta in seconds
      * @param paddle  the player's paddle
-     * @param layout  a grid representing passable and blocked cells
-     * @param root    the game root pane
-     * @param bricks  the list of bricks in the game
+     * @param field   the navigation field towards the paddle, shared by all bosses
+     * @param grid    the bricks of the level, only the cells around the boss are looked at
      * @param score   the current player score
      * @return updated score after boss interactions
      */
-    public int bossUpdate(double dt, Paddle paddle, boolean[][] layout, Pane root,
-                        List<Brick> bricks, int score) {
-        drawBossPath(paddle, layout);
-        if (pathPoints == null || pathPoints.isEmpty()) {
-            randomMove(dt, bricks);
-            return score;
+    public int bossUpdate(double dt, Paddle paddle, FlowField field, BrickGrid grid, int score) {
+        if (targetCell < 0) {
+            int row = (int) ((this.getY() + BOSS_SIZE/2)/ Brick.BRICK_HEIGHT);
+            int col = (int) ((this.getX() + BOSS_SIZE/2)/ Brick.BRICK_WIDTH);
+            targetCell = field.nextCell(row, col);
+            targetCols = field.getCols();
+        }
+        nearbyBricks.clear();
+        BossUpdateEvent event = BossUpdateEvent.beginIfEnabled();
+        boolean following = targetCell >= 0;
+        int newScore;
+        if (!following) {
+            randomMove(dt, grid);
+            newScore = score;
         } else {
-            return followPath(dt, paddle, root, bricks, score);
+            newScore = followPath(dt, paddle, field, grid, score);
+        }
+        if (event != null && event.shouldCommit()) {
+            event.followingPath = following;
+            event.bricks = nearbyBricks.size();
+            event.commit();
         }
+        return newScore;
     }
 
     /**
-     * Deactivates the boss and removes it from the scene.
-     *
-     * @param root the root pane from which to remove the boss
+     * Deactivates the boss and stops its animation.
      */
-    public void deactivate(Pane root) {
+    public void deactivate() {
         active = false;
-        bossTexture.stop();
-        root.getChildren().remove(bossTexture.getView());
-        //root.getChildren().remove(this.bossPathLine);
+        if (bossTexture != null) {
+            bossTexture.stop();
+        }
+    }
+
+    /** Returns the x-coordinate of the center of a cell. */
+    private double cellX(int cell) {
+        return (cell % targetCols) * Brick.BRICK_WIDTH + Brick.BRICK_WIDTH * 0.5;
+    }
+
+    /** Returns the y-coordinate of the center of a cell. */
+    private double cellY(int cell) {
+        return (cell / targetCols) * Brick.BRICK_HEIGHT + Brick.BRICK_HEIGHT * 0.5;
     }
 
     /**
-     * Calculates the path from the boss to the paddle using A* pathfinding.
-     * The boss uses brick cells as a grid for navigation.
+     * Collects the bricks the boss may collide with: those in the cells under its bounds, widened
+     * by the farthest one brick can push it, in row-major grid order.
      *
-     * @param paddle   the player's paddle
-     * @param passable a boolean grid where {@code true} means the cell is passable
+     * @param grid the bricks of the level
+     * @return the bricks, in a list reused by the next call
      */
-    private void drawBossPath(Paddle paddle, boolean[][] passable) {
-        int rows = 28;
-        int cols = 13;
-
-        int sr = (int) ((this.getY() + BOSS_SIZE/2)/ Brick.BRICK_HEIGHT);
-        int sc = (int) ((this.getX() + BOSS_SIZE/2)/ Brick.BRICK_WIDTH);
-        sr = Math.max(0, Math.min(sr, rows - 1));
-        sc = Math.max(0, Math.min(sc, cols - 1));
-
-        double paddleCenterX = paddle.getX() + paddle.getWidth() * 0.5;
-        int gr = rows - 1;
-        int gc = (int) (paddleCenterX / Brick.BRICK_WIDTH);
-        gc = Math.max(0, Math.min(gc, cols - 1));
-
-        boolean startWasBlocked = !passable[sr][sc];
-        boolean goalWasBlocked = !passable[gr][gc];
-        passable[sr][sc] = true;
-        passable[gr][gc] = true;
-        List<int[]> newPath = AStarInstructor.findPath(passable, sr, sc, gr, gc, true);
-        passable[sr][sc] = !startWasBlocked;
-        passable[gr][gc] = !goalWasBlocked;
-
-        if (newPath == null || newPath.isEmpty()) return;
-
-        // Nếu boss chưa đi qua ít nhất 1 điểm trong path cũ → KHÔNG thay path
-        if (pathPoints != null && !pathPoints.isEmpty()) {
-            // Nếu vẫn đang ở điểm đầu (chưa tiến thêm điểm nào)
-            if (currentTargetIndex < 2) {
-                return;
-            }
-        }
+    private List<Brick> queryNearbyBricks(BrickGrid grid) {
+        double marginX = (Brick.BRICK_WIDTH + getWidth()) * 0.5;
+        double marginY = (Brick.BRICK_HEIGHT + getHeight()) * 0.5;
+        nearbyBricks.clear();
+        grid.query(getX() - marginX, getY() - marginY, getWidth() + 2 * marginX,
+                getHeight() + 2 * marginY, nearbyBricks);
+        return nearbyBricks;
+    }
 
-        // boss đã đi được ít nhất 1 điểm -> cập nhật path mới
-        //bossPathLine.getPoints().clear();
-        pathPoints = new ArrayList<>();
-
-        for (int[] p : newPath) {
-            int r = p[0];
-            int c = p[1];
-            double x = c * Brick.BRICK_WIDTH + Brick.BRICK_WIDTH * 0.5;
-            double y = r * Brick.BRICK_HEIGHT + Brick.BRICK_HEIGHT * 0.5;
-            //bossPathLine.getPoints().addAll(x, y);
-            pathPoints.add(new Vec2f(x, y));
-        }
-        // reset về điểm đầu của path mới
-        currentTargetIndex = 0;
+    /** Returns the number of bricks checked for collisions by the last update. */
+    int getNearbyBrickCount() {
+        return nearbyBricks.size();
+    }
+
+    /** Returns the cell after {@code cell} on the way to the paddle. */
+    private int nextCell(FlowField field, int cell) {
+        return field.nextCell(cell / targetCols, cell % targetCols);
     }
 
     /**
-     * Moves the boss along the computed path toward the paddle, handling collisions
+     * Moves the boss cell by cell along the flow field toward the paddle, handling collisions
      * with bricks and the paddle.
+     * <p>
+     * The next cell is only looked up once the current one is reached, so a change of the
+     * field never makes the boss turn back halfway between two cells.
+     * </p>
      *
      * @param dt      delta time
      * @param paddle  the paddle instance
-     * @param root    game scene root
-     * @param bricks  list of bricks
+     * @param field   the shared navigation field
+     * @param grid    the bricks of the level
      * @param score   current score
      * @return updated score
      */
-    private int followPath(double dt, Paddle paddle, Pane root, List<Brick> bricks, int score) {
+    private int followPath(double dt, Paddle paddle, FlowField field, BrickGrid grid, int score) {
         boolean iscollidedWithPaddle = checkOverlap(paddle);
-        if (getY() > GameScreen.GAME_HEIGHT || iscollidedWithPaddle) {
-            deactivate(root);
+        if (getY() > boundsHeight || iscollidedWithPaddle) {
+            deactivate();
             if (iscollidedWithPaddle) {
                 return score - 1;
             }
             return score;
         }
 
-        if (pathPoints == null || pathPoints.isEmpty()) {
-            return score;
-        }
-
-        Vec2f target = pathPoints.get(0);
-        Vec2f pos = new Vec2f(getX() + BOSS_SIZE / 2, getY() + BOSS_SIZE / 2);
-
-        Vec2f toTarget = new Vec2f(target.x - pos.x, target.y - pos.y);
-        double distance = toTarget.length();
+        double posX = getX() + BOSS_SIZE / 2;
+        double posY = getY() + BOSS_SIZE / 2;
+        double toTargetX = cellX(targetCell) - posX;
+        double toTargetY = cellY(targetCell) - posY;
+        double distance = Math.sqrt(toTargetX * toTargetX + toTargetY * toTargetY);
 
         if (distance < ARRIVAL_THRESHOLD) {
-            pathPoints.remove(0);
-            currentTargetIndex++;
-
-            if (pathPoints.isEmpty()) {
-                followingPath = false;
+            int next = nextCell(field, targetCell);
+            if (next < 0 || next == targetCell) {
+                // at the paddle's column or waiting in a walled-off pocket
+                targetCell = next;
+                stuckTimer = 0;
                 return score;
             }
-
-            target = pathPoints.get(0);
-            toTarget = new Vec2f(target.x - pos.x, target.y - pos.y);
+            targetCell = next;
+            toTargetX = cellX(targetCell) - posX;
+            toTargetY = cellY(targetCell) - posY;
         }
 
         boolean collidedX = false;
         boolean collidedY = false;
 
-        for (Brick brick : bricks) {
+        List<Brick> bricks = queryNearbyBricks(grid);
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
             if (checkOverlap(brick)) {
 
                 double bossCenterX = getX() + getWidth() / 2;
@@ -272,20 +338,18 @@ public class Boss extends MovableObject {
                 }
 
                 if (collidedX || collidedY) {
-                    if (collidedX) toTarget = new Vec2f(0, toTarget.y);
-                    if (collidedY) toTarget = new Vec2f(toTarget.x, 0);
+                    if (collidedX) toTargetX = 0;
+                    if (collidedY) toTargetY = 0;
                 }
             }
         }
 
         dash(paddle);
 
-        toTarget.normalize();
-        setDirection(toTarget);
+        setDirection(toTargetX, toTargetY);
         applyMovement(dt);
-        updateView();
 
-        teleport(dt);
+        teleport(dt, field);
         return score;
     }
 
@@ -307,25 +371,32 @@ public class Boss extends MovableObject {
         if (distance <= 100) this.speed = BOSS_SPEED*2.5;
     }
 
+    /**
+     * Picks the direction the boss walks in while it has no path, left or right.
+     *
+     * @param random the generator of the match
+     */
+    public void randomizeDirection(RandomGenerator random) {
+        randomDir = random.nextBoolean() ? 1 : -1;
+    }
+
     /**
      * Handles random horizontal movement when no valid path exists.
      *
-     * @param dt     delta time
-     * @param bricks list of bricks for collision detection
+     * @param dt   delta time
+     * @param grid the bricks of the level, for collision detection
      */
-    private void randomMove(double dt, List<Brick> bricks) {
+    private void randomMove(double dt, BrickGrid grid) {
         timeAccumulator += dt;
 
-        Vec2f dir = new Vec2f(randomDir, 0);
-        dir.normalize();
-        setDirection(dir);
+        setDirection(randomDir, 0);
 
         applyMovement(dt);
 
         boolean collidedX = false;
 
         double minX = 0;
-        double maxX = GameScreen.GAME_WIDTH - getWidth();
+        double maxX = boundsWidth - getWidth();
 
         if (getX() <= minX) {
             setPosition(minX, getY());
@@ -335,7 +406,9 @@ public class Boss extends MovableObject {
             collidedX = true;
         }
 
-        for (Brick brick : bricks) {
+        List<Brick> bricks = queryNearbyBricks(grid);
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
             if (checkOverlap(brick)) {
                 double bossCenterX = getX() + getWidth() / 2;
                 double brickCenterX = brick.getX() + brick.getWidth() / 2;
@@ -350,7 +423,6 @@ public class Boss extends MovableObject {
         if (collidedX) {
             randomDir *= -1;
         }
-        updateView();
     }
 
     /**
@@ -365,49 +437,45 @@ public class Boss extends MovableObject {
     }
 
     /**
-     * Teleports the boss ahead along its path if it remains stuck for too long.
-     * Also adds a blinking red visual effect before teleportation.
+     * Writes the center position of the boss into {@code out}, without allocating.
      *
-     * @param dt delta time
+     * @param out the vector receiving the center
+     * @return {@code out}
      */
-    private void teleport(double dt) {
-        double dx = getX() - lastPosition.x;
-        double dy = getY() - lastPosition.y;
-        double distMoved = Math.sqrt(dx * dx + dy * dy);
-
-        if (pathPoints != null && !pathPoints.isEmpty()) {
-            if (distMoved < ARRIVAL_THRESHOLD) {
-                stuckTimer += dt;
-            } else {
-                stuckTimer = 0;
-                bossTexture.getView().setEffect(null); // remove tint if moving again
-            }
-
-            //  Flash red when nearly stuck
-            if (stuckTimer >= STUCK_THRESHOLD * 0.6 && stuckTimer < STUCK_THRESHOLD) {
-                double blink = Math.sin(stuckTimer * 20); // fast blink
-                if (blink > 0) {
-                    bossTexture.getView().setStyle("-fx-effect: innershadow(gaussian, red, 25, 0.5, 0, 0);");
-                } else {
-                    bossTexture.getView().setStyle(null);
-                }
-            }
-
-            //  Teleport when stuck for too long
-            if (stuckTimer >= STUCK_THRESHOLD && pathPoints.size() > 2) {
-                bossTexture.getView().setStyle(null); // clear effect before teleport
+    public Vec2f getCenterBoss(Vec2f out) {
+        return out.set(getX() + getWidth() * 0.5, getY() + getHeight() * 0.5);
+    }
 
-                // Skip two points
-                pathPoints.remove(0);
-                pathPoints.remove(0);
+    /**
+     * Teleports the boss ahead along the field if it remains stuck for too long.
+     * The texture blinks red shortly before teleportation (see {@link #updateView()}).
+     *
+     * @param dt    delta time
+     * @param field the shared navigation field
+     */
+    private void teleport(double dt, FlowField field) {
+        double dx = getX() - lastX;
+        double dy = getY() - lastY;
+        double distMoved = Math.sqrt(dx * dx + dy * dy);
 
-                Vec2f jumpTarget = pathPoints.get(0);
-                setPosition(jumpTarget.x - getWidth() / 2, jumpTarget.y - getHeight() / 2);
-                updateView();
+        if (distMoved < ARRIVAL_THRESHOLD) {
+            stuckTimer += dt;
+        } else {
+            stuckTimer = 0; // remove tint if moving again
+        }
 
-                stuckTimer = 0;
+        //  Teleport when stuck for too long
+        if (stuckTimer >= STUCK_THRESHOLD) {
+            // Skip two points
+            int first = nextCell(field, targetCell);
+            int second = first < 0 ? -1 : nextCell(field, first);
+            if (first != targetCell && second >= 0 && second != first) {
+                targetCell = second;
+                setPosition(cellX(targetCell) - getWidth() / 2, cellY(targetCell) - getHeight() / 2);
             }
+            stuckTimer = 0;
         }
-        lastPosition = new Vec2f(getX(), getY());
+        lastX = getX();
+        lastY = getY();
     }
 }
@@ -1,15 +1,16 @@
 package com.raumania.gameplay.objects.brick;
 
 import com.raumania.gameplay.objects.core.GameObject;
+import com.raumania.utils.ResourcesLoader;
 
 import javafx.scene.image.ImageView;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Represents a single brick in the game.
  *
  * <p>A brick has a finite number of hit points and becomes destroyed after sufficient hits. Each
- * brick also owns a JavaFX {@link Rectangle} view used for rendering.
+ * brick also owns a JavaFX {@link ImageView} used for rendering, created on first access so the
+ * simulation can run without the FX toolkit.
  */
 public abstract class Brick extends GameObject {
     public static final int BRICK_WIDTH = 40;
@@ -39,7 +40,16 @@ public abstract class Brick extends GameObject {
     }
 
     public ImageView getBrickTexture() {
-        return this.brickTexture;
+        return getTexture();
+    }
+
+    /**
+     * Checks whether the texture of this brick has already been created.
+     *
+     * @return {@code true} if {@link #getTexture()} has been called before
+     */
+    protected boolean hasTexture() {
+        return brickTexture != null;
     }
 
     /**
@@ -61,9 +71,37 @@ public abstract class Brick extends GameObject {
      * @return the {@link ImageView} node used to render this brick
      */
     public ImageView getTexture() {
+        if (brickTexture == null) {
+            setBrickTexture(createTexture());
+        }
         return brickTexture;
     }
 
+    /**
+     * Creates the texture of this brick. Called on first access to {@link #getTexture()}.
+     *
+     * @return a new image view showing this brick
+     */
+    protected ImageView createTexture() {
+        return ResourcesLoader.createImageView(getImageName());
+    }
+
+    /**
+     * Returns the file name of the image of this brick in {@code resources/images}.
+     *
+     * @return the image file name
+     */
+    public abstract String getImageName();
+
+    /**
+     * Checks whether the brick is currently drawn invisible.
+     *
+     * @return {@code true} if the brick must not be drawn
+     */
+    public boolean isHidden() {
+        return false;
+    }
+
     public int getHitPoints() {
         return this.hitPoints;
     }
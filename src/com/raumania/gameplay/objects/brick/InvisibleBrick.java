@@ -1,23 +1,35 @@
 package com.raumania.gameplay.objects.brick;
 
-import com.raumania.utils.ResourcesLoader;
-
 import javafx.scene.image.ImageView;
 
 public class InvisibleBrick extends Brick{
     public InvisibleBrick(double x, double y, double width, double height, int color) {
         super(x, y, width, height);
         setHitPoints(2);
-        ImageView texture = new ImageView(ResourcesLoader.loadImage("brick" + color + ".png"));
-        texture.setOpacity(0.0);
-        setBrickTexture(texture);
         this.setColorIndex(color);
     }
 
+    @Override
+    public String getImageName() {
+        return "brick" + getColorIndex() + ".png";
+    }
+
+    @Override
+    public boolean isHidden() {
+        return getHitPoints() > 1;
+    }
+
+    @Override
+    protected ImageView createTexture() {
+        ImageView texture = super.createTexture();
+        texture.setOpacity(isHidden() ? 0.0 : 1.0);
+        return texture;
+    }
+
     @Override
     public void takeHit() {
         setHitPoints(getHitPoints() - 1);
-        if (getHitPoints() == 1) {
+        if (getHitPoints() == 1 && hasTexture()) {
             getBrickTexture().setOpacity(1.0);
         }
     }
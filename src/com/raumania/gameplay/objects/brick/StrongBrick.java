@@ -1,8 +1,5 @@
 package com.raumania.gameplay.objects.brick;
 
-import com.raumania.utils.ResourcesLoader;
-
-import javafx.scene.image.ImageView;
 
 public class StrongBrick extends Brick {
 
@@ -10,7 +7,11 @@ public class StrongBrick extends Brick {
         super(x, y, width, height);
         setHitPoints(1);
         this.setColorIndex(9);
-        setBrickTexture(new ImageView(ResourcesLoader.loadImage("strongbrick.png")));
+    }
+
+    @Override
+    public String getImageName() {
+        return "strongbrick.png";
     }
 
     /** Strong bricks are indestructible and do not take hits. */
@@ -3,6 +3,8 @@ package com.raumania.gameplay.objects.core;
 /** Base class for all in-game objects (e.g., bricks, ball, paddle). */
 public abstract class GameObject {
     protected double x, y, width, height;
+    // position at the end of the previous simulation step, used for render interpolation
+    protected double prevX, prevY;
 
     /**
      * Creates a new game object.
@@ -19,10 +21,41 @@ public abstract class GameObject {
         }
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
     }
 
+    /**
+     * Remembers the current position as the previous simulation state. Called once at the start
+     * of every fixed simulation step.
+     */
+    public void savePreviousPosition() {
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Returns the x-coordinate interpolated between the previous and the current step.
+     *
+     * @param alpha blend factor, {@code 0} is the previous step and {@code 1} the current one
+     * @return the interpolated x-coordinate
+     */
+    public double getRenderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Returns the y-coordinate interpolated between the previous and the current step.
+     *
+     * @param alpha blend factor, {@code 0} is the previous step and {@code 1} the current one
+     * @return the interpolated y-coordinate
+     */
+    public double getRenderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
     /** Moves the object to an absolute position (top-left). */
     public void setPosition(double x, double y) {
         this.x = x;
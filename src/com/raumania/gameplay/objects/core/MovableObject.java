@@ -1,5 +1,6 @@
 package com.raumania.gameplay.objects.core;
 
+import com.raumania.gui.screen.GameScreen;
 import com.raumania.math.Vec2f;
 
 /**
@@ -8,11 +9,18 @@ import com.raumania.math.Vec2f;
  * <p>Movement is expressed by a normalized direction vector, a speed (units/s), and an acceleration
  * (units/s²). Call {@link #applyMovement(double)} inside {@link #update(double)} to advance
  * position frame-independently.
+ *
+ * <p>The direction is stored in a single vector owned by the object. Per-step code should read
+ * and write it through {@link #getDirectionX()}, {@link #getDirectionY()} and {@link
+ * #setDirection(double, double)}, which do not allocate.
  */
 public abstract class MovableObject extends GameObject {
     protected Vec2f direction;
     protected double speed;
     protected double acceleration;
+    // size of the play field the object moves in; the visible area unless the level is larger
+    protected double boundsWidth = GameScreen.GAME_WIDTH;
+    protected double boundsHeight = GameScreen.GAME_HEIGHT;
 
     /** Creates a movable object with position and size. */
     public MovableObject(double x, double y, double width, double height) {
@@ -46,13 +54,31 @@ public abstract class MovableObject extends GameObject {
         return direction;
     }
 
+    public double getDirectionX() {
+        return direction.x;
+    }
+
+    public double getDirectionY() {
+        return direction.y;
+    }
+
     /** Sets direction, will normalize if not zero. */
     public void setDirection(Vec2f dir) {
         if (dir == null) return;
-        if (dir.x == 0f && dir.y == 0f) {
+        setDirection(dir.x, dir.y);
+    }
+
+    /**
+     * Sets direction from its components, will normalize if not zero.
+     *
+     * @param dx x component of the direction
+     * @param dy y component of the direction
+     */
+    public void setDirection(double dx, double dy) {
+        if (dx == 0f && dy == 0f) {
             this.direction.set(0f, 0f);
         } else {
-            this.direction.set(dir.x, dir.y).normalize();
+            this.direction.set(dx, dy).normalize();
         }
     }
 
@@ -81,4 +107,23 @@ public abstract class MovableObject extends GameObject {
     public void setAcceleration(double acceleration) {
         this.acceleration = acceleration;
     }
+
+    /**
+     * Sets the size of the play field the object is kept in or leaves, starting at (0, 0).
+     *
+     * @param width play field width
+     * @param height play field height
+     */
+    public void setBounds(double width, double height) {
+        this.boundsWidth = width;
+        this.boundsHeight = height;
+    }
+
+    public double getBoundsWidth() {
+        return boundsWidth;
+    }
+
+    public double getBoundsHeight() {
+        return boundsHeight;
+    }
 }
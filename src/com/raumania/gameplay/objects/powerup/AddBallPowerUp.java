@@ -1,11 +1,8 @@
 package com.raumania.gameplay.objects.powerup;
 
-import com.raumania.core.SpriteSheet;
 import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gameplay.objects.Ball;
-import com.raumania.utils.ResourcesLoader;
 
-import java.awt.*;
 import java.util.List;
 
 /**
@@ -25,7 +22,6 @@ import java.util.List;
  * @see com.raumania.gameplay.manager.GameManager
  */
 public class AddBallPowerUp extends PowerUp {
-    private static final int powerUpCounter = 0;
 
     /**
      * Constructs a new AddBallPowerUp instance with specified position and size.
@@ -37,10 +33,11 @@ public class AddBallPowerUp extends PowerUp {
      */
     public AddBallPowerUp(double x, double y, double width, double height) {
         super(x, y, width, height, PowerUpType.ADD_BALL);
-        SpriteSheet texture = new SpriteSheet(
-                ResourcesLoader.loadImage("addballpowerup.png"),
-                16, 16, 6, 6);
-        setPowerUpTexture(texture);
+    }
+
+    @Override
+    public String getImageName() {
+        return "addballpowerup.png";
     }
 
     /**
@@ -62,17 +59,9 @@ public class AddBallPowerUp extends PowerUp {
         }
     }
 
-    /**
-     * Returns the internal counter value of this power-up type.
-     * <p>
-     * Currently, this always returns {@code 0} since no active tracking is implemented.
-     * </p>
-     *
-     * @return the counter value (always {@code 0})
-     */
+    /** Extra balls stay in play, so there is nothing to revert. */
     @Override
-    public int getCounter() {
-        return powerUpCounter;
+    public void removeEffect(GameManager gameManager) {
     }
 
 }
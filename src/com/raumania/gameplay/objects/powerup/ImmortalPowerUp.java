@@ -1,14 +1,7 @@
 package com.raumania.gameplay.objects.powerup;
 
-import com.raumania.core.SpriteSheet;
 import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gameplay.objects.Ball;
-import com.raumania.utils.ResourcesLoader;
-
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
-
-import java.util.List;
 
 /**
  * Represents the "Immortal" power-up in the game.
@@ -20,7 +13,7 @@ import java.util.List;
  * </p>
  * <p>
  * If multiple "Immortal" power-ups are collected consecutively, their durations stack.
- * The immortality effect will only end once all active timers have expired.
+ * The immortality effect will only end once the last one has expired.
  * </p>
  * <p>
  * The visual representation of this power-up is defined by the sprite image
@@ -33,9 +26,6 @@ import java.util.List;
  */
 public class ImmortalPowerUp extends PowerUp {
 
-    /** Tracks the number of currently active "Immortal" power-ups. */
-    protected static int powerUpCounter = 0;
-
     /**
      * Constructs a new ImmortalPowerUp instance with specified position and size.
      *
@@ -46,52 +36,35 @@ public class ImmortalPowerUp extends PowerUp {
      */
     public ImmortalPowerUp(double x, double y, double width, double height) {
         super(x, y, width, height, PowerUpType.IMMORTAL);
-        SpriteSheet texture =
-                new SpriteSheet(ResourcesLoader.loadImage("immortalpowerup.png"), 16, 16, 6, 6);
-        setPowerUpTexture(texture);
+    }
+
+    @Override
+    public String getImageName() {
+        return "immortalpowerup.png";
     }
 
     /**
      * Applies the "Immortal" effect to all active balls in the game.
-     * <p>
-     * Sets all balls to immortal mode and starts a timer to revert them
-     * to their normal state after the duration expires. If multiple instances
-     * of this power-up are active, immortality persists until the last timer
-     * finishes.
-     * </p>
      *
      * @param gameManager the {@link GameManager} managing game objects and state
      */
     @Override
     public void applyEffect(GameManager gameManager) {
-        powerUpCounter++;
-        List<Ball> balls = gameManager.getBallsList();
         // Enable immortality for all active balls
-        for (Ball ball : balls) {
+        for (Ball ball : gameManager.getBallsList()) {
             ball.setImmortal(true);
         }
-
-        // Schedule deactivation after the effect duration expires
-        PauseTransition timer = new PauseTransition(Duration.seconds(getDuration()));
-        timer.setOnFinished(
-                e -> {
-                    powerUpCounter--;
-                    if (powerUpCounter == 0) {
-                        for (Ball ball : balls) {
-                            ball.setImmortal(false);
-                        }
-                    }
-                });
-        timer.play();
     }
 
     /**
-     * Returns the number of currently active "Immortal" power-up effects.
+     * Returns all balls in play to their normal, mortal state.
      *
-     * @return the number of active immortality effects
+     * @param gameManager the {@link GameManager} managing game objects and state
      */
     @Override
-    public int getCounter() {
-        return powerUpCounter;
+    public void removeEffect(GameManager gameManager) {
+        for (Ball ball : gameManager.getBallsList()) {
+            ball.setImmortal(false);
+        }
     }
 }
@@ -3,14 +3,20 @@ package com.raumania.gameplay.objects.powerup;
 import com.raumania.core.SpriteSheet;
 import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gameplay.objects.core.MovableObject;
-import com.raumania.gui.screen.GameScreen;
 import com.raumania.math.Vec2f;
 
 import javafx.scene.image.ImageView;
 
 public abstract class PowerUp extends MovableObject {
     public static final double POWERUP_SPEED = 100.0;
+    /** Size in pixels of one frame of a power-up sprite sheet. */
+    public static final int FRAME_SIZE = 16;
+    /** Number of frames of every power-up animation, laid out in a single row. */
+    public static final int FRAME_COUNT = 6;
+    /** Playback speed of the power-up animations. */
+    public static final double FPS = 10.0;
     protected final PowerUpType type;
+    // created lazily, the simulation itself never needs it
     private SpriteSheet powerUpTexture;
     private boolean active = true;
 
@@ -21,9 +27,35 @@ public abstract class PowerUp extends MovableObject {
         this.setDirection(new Vec2f(0, 1)); // falling downwards
     }
 
+    /**
+     * Puts a power-up taken from a pool back into the state of a newly constructed one, falling
+     * from the given position. A texture that was already created is moved there and restarted.
+     *
+     * @param x the x-coordinate of the power-up
+     * @param y the y-coordinate of the power-up
+     * @param width the width of the power-up
+     * @param height the height of the power-up
+     */
+    public void reset(double x, double y, double width, double height) {
+        setPosition(x, y);
+        savePreviousPosition();
+        this.width = width;
+        this.height = height;
+        this.speed = POWERUP_SPEED;
+        this.acceleration = 0;
+        this.direction.set(0, 1);
+        this.active = true;
+        if (powerUpTexture != null) {
+            powerUpTexture.getView().setFitWidth(width);
+            powerUpTexture.getView().setFitHeight(height);
+            updateView();
+            powerUpTexture.play();
+        }
+    }
+
     public void setPowerUpTexture(SpriteSheet powerUpTexture) {
         this.powerUpTexture = powerUpTexture;
-        this.powerUpTexture.setFps(10.0);
+        this.powerUpTexture.setFps(FPS);
         this.powerUpTexture.getView().setX(getX());
         this.powerUpTexture.getView().setY(getY());
         this.powerUpTexture.getView().setFitWidth(getWidth());
@@ -32,30 +64,64 @@ public abstract class PowerUp extends MovableObject {
     }
 
     public ImageView getTexture() {
+        if (powerUpTexture == null) {
+            setPowerUpTexture(createTexture());
+        }
         return powerUpTexture.getView();
     }
 
+    /**
+     * Creates the animated sprite of this power-up. Called on first access to
+     * {@link #getTexture()}.
+     *
+     * @return a new sprite sheet for this power-up
+     */
+    protected SpriteSheet createTexture() {
+        return SpriteSheet.load(getImageName(),
+                FRAME_SIZE, FRAME_SIZE, FRAME_COUNT, FRAME_COUNT);
+    }
+
+    /**
+     * Returns the file name of the sprite sheet of this power-up in {@code resources/images}.
+     *
+     * @return the image file name
+     */
+    public abstract String getImageName();
+
     public boolean isActive() {
         return active;
     }
 
     public void updateView() {
-        powerUpTexture.getView().setX(getX());
-        powerUpTexture.getView().setY(getY());
+        updateView(1.0);
+    }
+
+    /**
+     * Updates the sprite using the position interpolated between the last two simulation steps.
+     *
+     * @param alpha interpolation factor in {@code [0, 1]}
+     */
+    public void updateView(double alpha) {
+        if (powerUpTexture == null) {
+            return;
+        }
+        powerUpTexture.getView().setX(getRenderX(alpha));
+        powerUpTexture.getView().setY(getRenderY(alpha));
     }
 
     @Override
     public void update(double dt) {
         applyMovement(dt);
-        updateView();
-        if (getY() > GameScreen.GAME_HEIGHT) {
+        if (getY() > boundsHeight) {
             deactivate();
         }
     }
 
     public void deactivate() {
         active = false;
-        powerUpTexture.stop();
+        if (powerUpTexture != null) {
+            powerUpTexture.stop();
+        }
     }
 
     public double getDuration() {
@@ -67,5 +133,12 @@ public abstract class PowerUp extends MovableObject {
     }
 
     public abstract void applyEffect(GameManager gameManager);
-    public abstract int getCounter();
+
+    /**
+     * Reverts the effect applied by {@link #applyEffect(GameManager)}. Called by the
+     * {@link GameManager} once the effect duration has run out in simulation time.
+     *
+     * @param gameManager the {@link GameManager} the effect was applied to
+     */
+    public abstract void removeEffect(GameManager gameManager);
 }
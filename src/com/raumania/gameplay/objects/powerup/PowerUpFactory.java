@@ -1,33 +1,81 @@
 package com.raumania.gameplay.objects.powerup;
 
+import com.raumania.core.ObjectPool;
+
+import java.util.EnumMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Spawns the power-ups dropped by destroyed bricks.
+ * <p>
+ * Power-ups are taken from one {@link ObjectPool} per {@link PowerUpType} and should be handed
+ * back with {@link #release(PowerUp)} once they have left the game, so that long sessions reuse
+ * the same objects and sprite sheets instead of allocating new ones for every drop.
+ * </p>
+ */
 public class PowerUpFactory {
+    private static final EnumMap<PowerUpType, ObjectPool<PowerUp>> pools =
+            new EnumMap<>(PowerUpType.class);
+
+    static {
+        for (PowerUpType type : PowerUpType.values()) {
+            pools.put(type, new ObjectPool<>(type.getName(), () -> create(type)));
+        }
+    }
+
     /**
      * Spawns a random power-up at the specified (x, y) position.
      *
+     * @param random the generator deciding whether and which power-up drops
      * @param x the x-coordinate to spawn the power-up
      * @param y the y-coordinate to spawn the power-up
      * @param width the width of the power-up
      * @param height the height of the power-up
      * @param chance the probability (0.0 to 1.0) of spawning a power-up
-     * @return a new PowerUp instance or null if no power-up is
+     * @return a pooled PowerUp instance or null if no power-up is
      */
-    public static PowerUp createRandomPowerUp(
+    public static PowerUp createRandomPowerUp(RandomGenerator random,
             double x, double y, double width, double height, double chance) {
         // threshold of create a powerup or not
-        if (Math.random() > chance) {
+        if (random.nextDouble() > chance) {
             return null;
         }
 
         PowerUpType[] types = PowerUpType.values();
-        int randomIndex = (int) (Math.random() * types.length);
+        int randomIndex = random.nextInt(types.length);
         PowerUpType randomType = types[randomIndex];
 
-        return switch (randomType) {
-            case ADD_BALL -> new AddBallPowerUp(x, y, width, height);
-            case EXTEND_PADDLE -> new ExtendPaddlePowerUp(x, y, width, height);
-            case IMMORTAL -> new ImmortalPowerUp(x, y, width, height);
-            case SLOW -> new SlowPowerUp(x, y, width, height);
-            default -> throw new IllegalArgumentException("Unknown PowerUpType: " + randomType);
+        PowerUp powerUp = pools.get(randomType).acquire();
+        powerUp.reset(x, y, width, height);
+        return powerUp;
+    }
+
+    /**
+     * Returns a power-up that has left the game to its pool. It must not be used afterwards.
+     *
+     * @param powerUp the power-up to release
+     */
+    public static void release(PowerUp powerUp) {
+        powerUp.deactivate();
+        pools.get(powerUp.getType()).release(powerUp);
+    }
+
+    /**
+     * Returns the pool of a power-up type, e.g. to read its counters or change its capacity.
+     *
+     * @param type the power-up type
+     * @return the pool of that type
+     */
+    public static ObjectPool<PowerUp> getPool(PowerUpType type) {
+        return pools.get(type);
+    }
+
+    private static PowerUp create(PowerUpType type) {
+        return switch (type) {
+            case ADD_BALL -> new AddBallPowerUp(0, 0, 1, 1);
+            case EXTEND_PADDLE -> new ExtendPaddlePowerUp(0, 0, 1, 1);
+            case IMMORTAL -> new ImmortalPowerUp(0, 0, 1, 1);
+            case SLOW -> new SlowPowerUp(0, 0, 1, 1);
         };
     }
 }
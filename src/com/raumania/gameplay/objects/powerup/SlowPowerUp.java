@@ -1,17 +1,9 @@
 package com.raumania.gameplay.objects.powerup;
 
-import com.raumania.core.SpriteSheet;
 import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gameplay.objects.Ball;
-import com.raumania.utils.ResourcesLoader;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
-
-import java.util.List;
 
 public class SlowPowerUp extends PowerUp{
-    /** Tracks the number of currently active "Slow ball" power-ups. */
-    protected static int powerUpCounter = 0;
 
     /**
      * Constructs a new SlowPowerUp instance with specified position and size.
@@ -23,51 +15,39 @@ public class SlowPowerUp extends PowerUp{
      */
     public SlowPowerUp(double x, double y, double width, double height) {
         super(x, y, width, height, PowerUpType.SLOW);
-        SpriteSheet texture =
-                new SpriteSheet(ResourcesLoader.loadImage("slowpowerup.png"), 16, 16, 6, 6);
-        setPowerUpTexture(texture);
+    }
+
+    @Override
+    public String getImageName() {
+        return "slowpowerup.png";
     }
 
     /**
      * Applies the slow ball effect to all active balls in the game.
      * <p>
-     * Sets all balls to slow mode and starts a timer to revert them
-     * to their normal state after the duration expires. If multiple instances
-     * of this power-up are active, slow persists until the last timer
-     * finishes.
+     * If multiple instances of this power-up are collected, slow persists until
+     * the last one expires.
      * </p>
      *
      * @param gameManager the {@link GameManager} managing game objects and state
      */
     @Override
     public void applyEffect(GameManager gameManager) {
-        powerUpCounter++;
-        List<Ball> balls = gameManager.getBallsList();
         // Enable slow for all active balls
-        for (Ball ball : balls) {
+        for (Ball ball : gameManager.getBallsList()) {
             ball.setSpeed(Ball.BALL_SPEED*0.8);
         }
-
-        // Schedule deactivation after the effect duration expires
-        PauseTransition timer = new PauseTransition(Duration.seconds(getDuration()));
-        timer.setOnFinished(
-                e -> {
-                    powerUpCounter--;
-                    if (powerUpCounter == 0) {
-                        for (Ball ball : balls) {
-                            ball.setSpeed(Ball.BALL_SPEED);
-                        }
-                    }
-                });
-        timer.play();
     }
 
     /**
+     * Restores the normal speed of all balls in play.
      *
-     * @return the number of active slow ball effects
+     * @param gameManager the {@link GameManager} managing game objects and state
      */
     @Override
-    public int getCounter() {
-        return powerUpCounter;
+    public void removeEffect(GameManager gameManager) {
+        for (Ball ball : gameManager.getBallsList()) {
+            ball.setSpeed(Ball.BALL_SPEED);
+        }
     }
 }
@@ -1,20 +1,72 @@
 package com.raumania.gameplay.objects.visualeffect;
 
+import com.raumania.core.ObjectPool;
 import com.raumania.core.SpriteSheet;
-import com.raumania.utils.ResourcesLoader;
+
+import java.util.HashMap;
+import java.util.Map;
 
 public class BrickHit extends VisualEffect {
-    private static final int totalFrames = 6;
+    public static final int FRAME_COUNT = 6;
+    // one pool per brick colour, each colour has its own sprite sheet
+    private static final Map<Integer, ObjectPool<BrickHit>> pools = new HashMap<>();
+
+    private final int colorIndex;
 
     public BrickHit(double x, double y, double width, double height, int colorIndex) {
         super(x, y, width, height);
+        this.colorIndex = colorIndex;
         SpriteSheet texture =
-                new SpriteSheet(
-                        ResourcesLoader.loadImage("brick_hit" + colorIndex + ".png"),
-                        16,
-                        16,
-                        totalFrames,
-                        totalFrames);
+                SpriteSheet.load(
+                        imageName(colorIndex),
+                        FRAME_SIZE,
+                        FRAME_SIZE,
+                        FRAME_COUNT,
+                        FRAME_COUNT);
         setVisualEffectTexture(texture);
     }
+
+    /**
+     * Returns a playing hit animation, reusing a released one of the same colour if possible.
+     *
+     * @param x the x-coordinate of the effect
+     * @param y the y-coordinate of the effect
+     * @param width the width of the effect
+     * @param height the height of the effect
+     * @param colorIndex color index of the brick that was hit
+     * @return the effect, to be handed back with {@link #release()}
+     */
+    public static BrickHit obtain(double x, double y, double width, double height,
+                                  int colorIndex) {
+        BrickHit hit = getPool(colorIndex).acquire();
+        hit.reset(x, y, width, height);
+        return hit;
+    }
+
+    /**
+     * Returns the pool of the hit animations of a colour.
+     *
+     * @param colorIndex color index of the brick
+     * @return the pool of that colour
+     */
+    public static ObjectPool<BrickHit> getPool(int colorIndex) {
+        return pools.computeIfAbsent(colorIndex, color -> new ObjectPool<>(
+                "brick hit " + color, () -> new BrickHit(0, 0, 1, 1, color)));
+    }
+
+    @Override
+    public void release() {
+        super.release();
+        getPool(colorIndex).release(this);
+    }
+
+    /**
+     * Returns the file name of the hit animation for bricks of the given color.
+     *
+     * @param colorIndex color index of the brick
+     * @return the image file name
+     */
+    public static String imageName(int colorIndex) {
+        return "brick_hit" + colorIndex + ".png";
+    }
 }
@@ -1,15 +1,44 @@
 package com.raumania.gameplay.objects.visualeffect;
 
+import com.raumania.core.ObjectPool;
 import com.raumania.core.SpriteSheet;
-import com.raumania.utils.ResourcesLoader;
 
 public class Explosion extends VisualEffect {
-    private static final int totalFrames = 11;
+    public static final String IMAGE_NAME = "ve_explosion.png";
+    public static final int FRAME_COUNT = 11;
+    private static final ObjectPool<Explosion> pool =
+            new ObjectPool<>("explosion", () -> new Explosion(0, 0, 1, 1));
+
     public Explosion(double x, double y, double width, double height) {
         super(x, y, width, height);
-        SpriteSheet texture = new SpriteSheet(
-                ResourcesLoader.loadImage("ve_explosion.png"),
-                16, 16, totalFrames, totalFrames);
+        SpriteSheet texture = SpriteSheet.load(
+                IMAGE_NAME,
+                FRAME_SIZE, FRAME_SIZE, FRAME_COUNT, FRAME_COUNT);
         setVisualEffectTexture(texture);
     }
+
+    /**
+     * Returns a playing explosion, reusing a released one if possible.
+     *
+     * @param x the x-coordinate of the effect
+     * @param y the y-coordinate of the effect
+     * @param width the width of the effect
+     * @param height the height of the effect
+     * @return the effect, to be handed back with {@link #release()}
+     */
+    public static Explosion obtain(double x, double y, double width, double height) {
+        Explosion explosion = pool.acquire();
+        explosion.reset(x, y, width, height);
+        return explosion;
+    }
+
+    public static ObjectPool<Explosion> getPool() {
+        return pool;
+    }
+
+    @Override
+    public void release() {
+        super.release();
+        pool.release(this);
+    }
 }
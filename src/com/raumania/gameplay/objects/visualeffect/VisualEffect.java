@@ -6,6 +6,10 @@ import com.raumania.gameplay.objects.core.GameObject;
 import javafx.scene.image.ImageView;
 
 public abstract class VisualEffect extends GameObject {
+    /** Size in pixels of one frame of an effect sprite sheet. */
+    public static final int FRAME_SIZE = 16;
+    /** Playback speed of the effect animations. */
+    public static final double FPS = 15.0;
     protected SpriteSheet visualEffectTexture;
 
     public VisualEffect(double x, double y, double width, double height) {
@@ -14,7 +18,7 @@ public abstract class VisualEffect extends GameObject {
 
     public void setVisualEffectTexture(SpriteSheet visualEffectTexture) {
         this.visualEffectTexture = visualEffectTexture;
-        this.visualEffectTexture.setFps(15.0);
+        this.visualEffectTexture.setFps(FPS);
         this.visualEffectTexture.getView().setX(getX());
         this.visualEffectTexture.getView().setY(getY());
         this.visualEffectTexture.getView().setFitWidth(getWidth());
@@ -22,6 +26,31 @@ public abstract class VisualEffect extends GameObject {
         this.visualEffectTexture.play();
     }
 
+    /**
+     * Moves a pooled effect to a new place and restarts its animation from the first frame.
+     *
+     * @param x the x-coordinate of the effect
+     * @param y the y-coordinate of the effect
+     * @param width the width of the effect
+     * @param height the height of the effect
+     */
+    protected void reset(double x, double y, double width, double height) {
+        setPosition(x, y);
+        savePreviousPosition();
+        this.width = width;
+        this.height = height;
+        visualEffectTexture.rewind();
+        setVisualEffectTexture(visualEffectTexture);
+    }
+
+    /**
+     * Stops the animation and returns the effect to its pool, if it has one. The effect must not
+     * be used afterwards.
+     */
+    public void release() {
+        visualEffectTexture.stop();
+    }
+
     public ImageView getTexture() {
         return visualEffectTexture.getView();
     }
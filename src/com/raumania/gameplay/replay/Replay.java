@@ -0,0 +1,338 @@
+package com.raumania.gameplay.replay;
+
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.manager.InputHandler;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.gameplay.objects.boss.Boss;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The recording of one match: its seed, its level, its simulation rate and the input of every
+ * simulation step.
+ *
+ * <p>The simulation is deterministic: every random decision is drawn from the seed and the
+ * paddle only changes direction at the start of a step (see {@link InputHandler#poll()}). The
+ * input of a step is the key state returned by {@code poll()}, plus {@link #LAUNCH} if the ball
+ * was launched before the step, so replaying the same inputs from the same seed plays out the
+ * same match, see {@link ReplayPlayer}.
+ *
+ * <p>The inputs are stored as runs: a state and the number of steps it lasted, so only the
+ * transitions cost space. A run is written as one variable-length number, {@code length << 3 |
+ * state}, seven bits per byte; a key held for up to 15 steps takes one byte, up to 2047 steps
+ * two. The file is:
+ *
+ * <pre>
+ * int     magic "ARKR"
+ * byte    version
+ * long    seed
+ * int     level number
+ * short   simulation rate in Hz
+ * varint  number of runs, then one varint per run
+ * byte    1 if a checksum of the final state follows, else 0
+ * long    checksum, see {@link #checksum(GameManager)}
+ * </pre>
+ */
+public class Replay {
+    /** Input bit set on the step before which the ball was launched. */
+    public static final int LAUNCH = 4;
+    /** Extension of replay files. */
+    public static final String EXTENSION = ".arkr";
+    /** Directory the sessions are recorded into. */
+    public static final String REPLAY_DIR = "./replays";
+    /** Number of recorded sessions kept, older ones are deleted. */
+    public static final int MAX_SESSIONS = 20;
+
+    private static final int MAGIC = 0x41524B52;
+    private static final int VERSION = 1;
+    private static final int STATE_BITS = 3;
+    private static final int STATE_MASK = (1 << STATE_BITS) - 1;
+    // the checksum flag and the checksum after the runs
+    private static final int TRAILER_BYTES = 1 + 8;
+    private static final DateTimeFormatter SESSION_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final long seed;
+    private final int levelNumber;
+    private final int simRate;
+    // one entry per run: length << STATE_BITS | state
+    private long[] runs = new long[64];
+    private int runCount;
+    private long tickCount;
+    private boolean hasChecksum;
+    private long checksum;
+
+    /**
+     * Creates an empty recording.
+     *
+     * @param seed        seed of the match, see {@link GameManager#setSeed(long)}
+     * @param levelNumber the level played, starting at 1
+     * @param simRate     simulation steps per second
+     */
+    public Replay(long seed, int levelNumber, int simRate) {
+        this.seed = seed;
+        this.levelNumber = levelNumber;
+        this.simRate = simRate;
+    }
+
+    /**
+     * Appends the input of the next simulation step.
+     *
+     * @param state a combination of {@link InputHandler#LEFT}, {@link InputHandler#RIGHT} and
+     *              {@link #LAUNCH}
+     */
+    public void record(int state) {
+        state &= STATE_MASK;
+        if (runCount > 0 && (runs[runCount - 1] & STATE_MASK) == state) {
+            runs[runCount - 1] += 1L << STATE_BITS;
+        } else {
+            if (runCount == runs.length) {
+                runs = Arrays.copyOf(runs, runCount * 2);
+            }
+            runs[runCount++] = 1L << STATE_BITS | state;
+        }
+        tickCount++;
+    }
+
+    /**
+     * Ends the recording with a checksum of the final state, which playback compares against.
+     *
+     * @param manager the simulation that was recorded
+     */
+    public void finish(GameManager manager) {
+        checksum = checksum(manager);
+        hasChecksum = true;
+    }
+
+    /**
+     * Sums up the state of a simulation: score, lives, simulation time and the position of every
+     * moving object. Two runs with the same checksum played out the same match. The game state
+     * is left out, pausing changes it without changing the match.
+     *
+     * @param manager the simulation
+     * @return the checksum
+     */
+    public static long checksum(GameManager manager) {
+        long hash = manager.getScore();
+        hash = hash * 31 + manager.getLives();
+        hash = hash * 31 + Double.doubleToLongBits(manager.getElapsedTime());
+        hash = hash * 31 + Double.doubleToLongBits(manager.getPaddle().getX());
+        hash = hash * 31 + manager.getBricks().size();
+        hash = hash * 31 + manager.getPowerUps().size();
+        for (Ball ball : manager.getBallsList()) {
+            hash = hash * 31 + Double.doubleToLongBits(ball.getX());
+            hash = hash * 31 + Double.doubleToLongBits(ball.getY());
+        }
+        for (Boss boss : manager.getBosses()) {
+            hash = hash * 31 + Double.doubleToLongBits(boss.getX());
+            hash = hash * 31 + Double.doubleToLongBits(boss.getY());
+        }
+        return hash;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    public int getSimRate() {
+        return simRate;
+    }
+
+    /**
+     * Returns the number of simulation steps recorded.
+     *
+     * @return the steps
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns the input state of a run.
+     *
+     * @param run index of the run
+     * @return the state
+     */
+    public int getRunState(int run) {
+        return (int) (runs[run] & STATE_MASK);
+    }
+
+    /**
+     * Returns the number of steps a run lasted.
+     *
+     * @param run index of the run
+     * @return the steps, at least 1
+     */
+    public long getRunLength(int run) {
+        return runs[run] >>> STATE_BITS;
+    }
+
+    public boolean hasChecksum() {
+        return hasChecksum;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Writes the recording in the replay format.
+     *
+     * @param out the stream, not closed
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeInt(levelNumber);
+        data.writeShort(simRate);
+        writeVarLong(data, runCount);
+        for (int i = 0; i < runCount; i++) {
+            writeVarLong(data, runs[i]);
+        }
+        data.writeBoolean(hasChecksum);
+        data.writeLong(checksum);
+        data.flush();
+    }
+
+    /**
+     * Reads a recording written by {@link #write(OutputStream)}.
+     *
+     * <p>The stream is read to its end first, so the number of runs in the header can be checked
+     * against the bytes that follow before anything is allocated for them: a corrupted or
+     * truncated file fails with an {@link IOException} instead of running out of memory.
+     *
+     * @param in the stream, read to its end but not closed
+     * @return the recording
+     * @throws IOException if reading fails or the stream is not a replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(in.readAllBytes()));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        Replay replay = new Replay(data.readLong(), data.readInt(), data.readUnsignedShort());
+        long runCount = readVarLong(data);
+        // every run takes at least one byte
+        if (runCount < 0 || runCount > data.available() - TRAILER_BYTES) {
+            throw new IOException("Corrupted replay file");
+        }
+        replay.runs = new long[(int) Math.max(1, runCount)];
+        for (int i = 0; i < runCount; i++) {
+            long run = readVarLong(data);
+            if (run >>> STATE_BITS == 0) {
+                throw new IOException("Corrupted replay file");
+            }
+            replay.runs[replay.runCount++] = run;
+            replay.tickCount += run >>> STATE_BITS;
+        }
+        replay.hasChecksum = data.readBoolean();
+        replay.checksum = data.readLong();
+        return replay;
+    }
+
+    /**
+     * Writes the recording to a file.
+     *
+     * @param file the file
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param file the file
+     * @return the recording
+     * @throws IOException if reading fails or the file is not a replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes the recording into {@link #REPLAY_DIR}, named after the current time, and deletes
+     * the oldest sessions beyond {@link #MAX_SESSIONS}.
+     *
+     * @return the file written, or {@code null} if it could not be written
+     */
+    public Path saveSession() {
+        Path dir = Path.of(REPLAY_DIR);
+        Path file = dir.resolve(String.format("session-%s-%016x%s",
+                LocalDateTime.now().format(SESSION_TIME), seed, EXTENSION));
+        try {
+            Files.createDirectories(dir);
+            save(file);
+        } catch (IOException e) {
+            System.err.println("Error saving replay file! " + e);
+            return null;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            // the names start with the time, so they sort oldest first
+            List<Path> sessions = files
+                    .filter(p -> p.getFileName().toString().startsWith("session-"))
+                    .filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                    .sorted()
+                    .toList();
+            for (int i = 0; i < sessions.size() - MAX_SESSIONS; i++) {
+                Files.deleteIfExists(sessions.get(i));
+            }
+        } catch (IOException e) {
+            System.err.println("Error deleting old replay files! " + e);
+        }
+        return file;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupted replay file");
+    }
+}
@@ -0,0 +1,182 @@
+package com.raumania.gameplay.replay;
+
+import com.raumania.core.CompiledLevel;
+import com.raumania.core.FrameTimeHistogram;
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.manager.InputHandler;
+
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays a {@link Replay} back through a {@link GameManager}.
+ *
+ * <p>{@link #prepare()} seeds the manager and loads the recorded level, then every call to
+ * {@link #step()} applies the recorded input of one step and updates the simulation by one
+ * step of the recorded rate, exactly like the game loop did. Nothing depends on wall-clock time,
+ * so the caller decides how fast to go: the game screen runs a few steps per frame to watch the
+ * match, or many steps per rendered frame to fast-forward, and {@link #main(String[])} runs a
+ * whole match without any rendering, timing every step to find the slow ones:
+ *
+ * <pre>
+ * java com.raumania.gameplay.replay.ReplayPlayer replays/session-....arkr
+ * </pre>
+ */
+public class ReplayPlayer {
+    private static final int MOVE_MASK = InputHandler.LEFT | InputHandler.RIGHT;
+
+    private final Replay replay;
+    private final GameManager manager;
+    private final InputHandler inputHandler;
+    private final double stepSeconds;
+    private int run;
+    private long leftInRun;
+    private long tick;
+
+    /**
+     * Creates a player.
+     *
+     * @param replay       the recording
+     * @param manager      the simulation to play it in
+     * @param inputHandler moves the manager's paddle, its keys are not used
+     */
+    public ReplayPlayer(Replay replay, GameManager manager, InputHandler inputHandler) {
+        this.replay = replay;
+        this.manager = manager;
+        this.inputHandler = inputHandler;
+        this.stepSeconds = 1.0 / replay.getSimRate();
+    }
+
+    /**
+     * Seeds the manager and loads the recorded level, ready for the first step.
+     *
+     * @throws IllegalStateException if the level cannot be loaded
+     */
+    public void prepare() {
+        String levelName = MapLoader.levelName(replay.getLevelNumber());
+        CompiledLevel level = MapLoader.loadCompiledLevel(levelName);
+        if (level == null) {
+            throw new IllegalStateException("Replay level not found: " + levelName);
+        }
+        manager.setSeed(replay.getSeed());
+        manager.setCurrentLevel(level);
+        inputHandler.apply(0);
+        run = 0;
+        leftInRun = replay.getRunCount() > 0 ? replay.getRunLength(0) : 0;
+        tick = 0;
+    }
+
+    /**
+     * Plays the next recorded step.
+     *
+     * @return {@code false} if the recording has ended and nothing was played
+     */
+    public boolean step() {
+        if (leftInRun == 0) {
+            return false;
+        }
+        int state = replay.getRunState(run);
+        if (--leftInRun == 0 && ++run < replay.getRunCount()) {
+            leftInRun = replay.getRunLength(run);
+        }
+        inputHandler.apply(state & MOVE_MASK);
+        if ((state & Replay.LAUNCH) != 0) {
+            manager.startGame();
+        }
+        manager.update(stepSeconds);
+        tick++;
+        return true;
+    }
+
+    /**
+     * Plays every remaining step.
+     */
+    public void playToEnd() {
+        while (step()) {
+            // nothing else to do
+        }
+    }
+
+    public boolean isFinished() {
+        return leftInRun == 0;
+    }
+
+    /**
+     * Returns the number of steps played since {@link #prepare()}.
+     *
+     * @return the steps
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Tells whether the simulation ended in the recorded state. Only meaningful once the
+     * recording has been played to the end.
+     *
+     * @return {@code true} if the recording has no checksum or it matches
+     */
+    public boolean matchesRecording() {
+        return !replay.hasChecksum() || replay.getChecksum() == Replay.checksum(manager);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java com.raumania.gameplay.replay.ReplayPlayer <replay"
+                    + Replay.EXTENSION + ">");
+            System.exit(1);
+        }
+        Replay replay = Replay.load(Path.of(args[0]));
+        // game objects own image views, the toolkit has to be up
+        Platform.startup(() -> {});
+        GameManager manager = new GameManager(replay.getSeed());
+        ReplayPlayer player =
+                new ReplayPlayer(replay, manager, new InputHandler(manager, null, null));
+        player.prepare();
+
+        FrameTimeHistogram steps = new FrameTimeHistogram(1_000, 100_000);
+        long slowestTick = 0;
+        long start = System.nanoTime();
+        long before = start;
+        while (player.step()) {
+            long after = System.nanoTime();
+            if (after - before > steps.getMaxNanos()) {
+                slowestTick = player.getTick() - 1;
+            }
+            steps.record(after - before);
+            before = after;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("level %d, seed %016x, %d steps at %d Hz (%.1f s of play), %d runs%n",
+                replay.getLevelNumber(), replay.getSeed(), replay.getTickCount(),
+                replay.getSimRate(), replay.getTickCount() * player.getStepSeconds(),
+                replay.getRunCount());
+        System.out.printf("played in %.2f s, %.0fx real time%n", seconds,
+                replay.getTickCount() * player.getStepSeconds() / seconds);
+        System.out.printf("step  mean %.1f  p50 %.1f  p99 %.1f  max %.1f us (step %d)%n",
+                steps.getMeanNanos() / 1e3, steps.getPercentileNanos(50) / 1e3,
+                steps.getPercentileNanos(99) / 1e3, steps.getMaxNanos() / 1e3, slowestTick);
+        System.out.printf("final score %d, lives %d, %s%n", manager.getScore(), manager.getLives(),
+                manager.getGameState());
+        if (!replay.hasChecksum()) {
+            System.out.println("no checksum recorded");
+        } else if (player.matchesRecording()) {
+            System.out.println("final state matches the recording");
+        } else {
+            System.out.println("final state DIFFERS from the recording");
+        }
+        Platform.exit();
+    }
+}
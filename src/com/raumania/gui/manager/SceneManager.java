@@ -3,6 +3,7 @@ package com.raumania.gui.manager;
 import com.raumania.gui.screen.*;
 import com.raumania.utils.ResourcesLoader;
 
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.Labeled;
@@ -10,36 +11,94 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
+import java.lang.ref.SoftReference;
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.BiFunction;
 
-/** Manages switching screens in the application. */
+/**
+ * Manages switching screens in the application.
+ *
+ * <p>Screens are built on first use instead of all at startup, so the game only pays for the
+ * screens the player actually opens. After a switch, the screen the player most likely opens next
+ * is built in advance on a later pulse of the FX thread, when the current screen is already
+ * showing. Rarely visited screens are only held through a {@link SoftReference}: the garbage
+ * collector may drop them when memory runs low, and they are rebuilt on the next visit. The time
+ * taken to build each screen is recorded, see {@link #getTimingReport()}.
+ */
 public class SceneManager {
+    public static final String FONT = "CyberpunkCraftpixPixel.otf";
+    public static final double FONT_SIZE = 14;
+
+    // screens that may be released under memory pressure
+    private static final EnumSet<ScreenType> RELEASABLE = EnumSet.of(ScreenType.SKIN_SELECT);
+    // the screen usually opened after each screen, built ahead of time
+    private static final Map<ScreenType, ScreenType> LIKELY_NEXT = new EnumMap<>(Map.of(
+            ScreenType.HOME, ScreenType.LEVEL_SELECT,
+            ScreenType.LEVEL_SELECT, ScreenType.GAME,
+            ScreenType.GAME, ScreenType.GAME_OVER));
 
     private final Stage primaryStage;
+    private final BiFunction<SceneManager, ScreenType, Screen> factory;
+    private final Font font;
     // Constructor requires key type
     private final EnumMap<ScreenType, Screen> screens = new EnumMap<>(ScreenType.class);
+    private final EnumMap<ScreenType, SoftReference<Screen>> releasableScreens =
+            new EnumMap<>(ScreenType.class);
+    private final EnumMap<ScreenType, Long> buildNanos = new EnumMap<>(ScreenType.class);
+    private final EnumMap<ScreenType, Integer> buildCounts = new EnumMap<>(ScreenType.class);
+    private boolean prewarmEnabled = true;
     private Screen currentScreen;
 
     public SceneManager(Stage primaryStage) {
+        this(primaryStage, SceneManager::createScreen, ResourcesLoader.loadFont(FONT, FONT_SIZE));
+    }
+
+    /**
+     * Creates a scene manager building its screens with {@code factory}, e.g. stub screens in
+     * tests, and applying {@code font} to their texts.
+     */
+    SceneManager(Stage primaryStage, BiFunction<SceneManager, ScreenType, Screen> factory,
+                 Font font) {
         this.primaryStage = primaryStage;
-        screens.put(ScreenType.HOME, new HomeScreen(this));
-        screens.put(ScreenType.SETTINGS, new SettingScreen(this));
-        screens.put(ScreenType.LEVEL_SELECT, new LevelSelectScreen(this));
-        screens.put(ScreenType.GAME, new GameScreen(this));
-        screens.put(ScreenType.MULTIPLAYER, new MultiplayerGameScreen(this));
-        screens.put(ScreenType.GAME_OVER, new GameOverScreen(this));
-        screens.put(ScreenType.SKIN_SELECT, new SkinSelectScreen(this));
-
-        // apply font for all screens
-        screens.forEach(
-                (type, screen) -> {
-                    Font font = ResourcesLoader.loadFont("CyberpunkCraftpixPixel.otf", 14);
-                    applyFont(screen.getRoot(), font);
-                });
+        this.factory = factory;
+        this.font = font;
+        // settings are needed by screens that may be built before the settings screen
+        SettingScreen.loadConfig();
+        SkinSelectScreen.loadConfig();
     }
 
+    /**
+     * Returns a screen, building it if it has not been built yet or has been released.
+     *
+     * @param screenType the screen to get
+     * @return the screen
+     */
     public Screen getScreen(ScreenType screenType) {
-        return screens.get(screenType);
+        Screen screen = screens.get(screenType);
+        if (screen == null) {
+            SoftReference<Screen> ref = releasableScreens.get(screenType);
+            screen = ref == null ? null : ref.get();
+        }
+        if (screen == null) {
+            screen = buildScreen(screenType);
+        }
+        return screen;
+    }
+
+    /**
+     * Checks whether a screen is currently built, without building it.
+     *
+     * @param screenType the screen to check
+     * @return {@code true} if the screen exists and has not been released
+     */
+    public boolean isBuilt(ScreenType screenType) {
+        if (screens.containsKey(screenType)) {
+            return true;
+        }
+        SoftReference<Screen> ref = releasableScreens.get(screenType);
+        return ref != null && ref.get() != null;
     }
 
     public Stage getPrimaryStage() {
@@ -56,9 +115,102 @@ public class SceneManager {
         if (currentScreen != null) {
             currentScreen.onStop();
         }
-        currentScreen = screens.get(screenType);
+        currentScreen = getScreen(screenType);
         currentScreen.onStart();
         primaryStage.setScene(currentScreen.getScene());
+
+        ScreenType next = LIKELY_NEXT.get(screenType);
+        if (prewarmEnabled && next != null && !isBuilt(next)) {
+            Platform.runLater(() -> prewarm(next));
+        }
+    }
+
+    /**
+     * Builds a screen ahead of time if it is not built yet.
+     *
+     * @param screenType the screen to build
+     */
+    public void prewarm(ScreenType screenType) {
+        if (!isBuilt(screenType)) {
+            buildScreen(screenType);
+        }
+    }
+
+    /**
+     * Turns building the likely next screen after each switch on or off.
+     *
+     * @param enabled {@code true} to pre-warm screens (the default)
+     */
+    public void setPrewarmEnabled(boolean enabled) {
+        this.prewarmEnabled = enabled;
+    }
+
+    /**
+     * Returns the time taken by the last build of a screen.
+     *
+     * @param screenType the screen
+     * @return the build time in nanoseconds, or -1 if the screen was never built
+     */
+    public long getBuildNanos(ScreenType screenType) {
+        return buildNanos.getOrDefault(screenType, -1L);
+    }
+
+    /**
+     * Returns how many times a screen has been built; more than once means it was released and
+     * rebuilt.
+     *
+     * @param screenType the screen
+     * @return the number of builds
+     */
+    public int getBuildCount(ScreenType screenType) {
+        return buildCounts.getOrDefault(screenType, 0);
+    }
+
+    /**
+     * Returns a report of the build time of every screen, one line per screen.
+     *
+     * @return the timing report
+     */
+    public String getTimingReport() {
+        StringBuilder report = new StringBuilder("Screen build times:");
+        for (ScreenType type : ScreenType.values()) {
+            report.append(System.lineSeparator()).append(String.format("  %-13s", type));
+            long nanos = getBuildNanos(type);
+            if (nanos < 0) {
+                report.append("not built");
+            } else {
+                report.append(String.format("%7.2f ms, built %d time(s)", nanos / 1e6,
+                        getBuildCount(type)));
+            }
+        }
+        return report.toString();
+    }
+
+    private Screen buildScreen(ScreenType screenType) {
+        long start = System.nanoTime();
+        Screen screen = factory.apply(this, screenType);
+        applyFont(screen.getRoot(), font);
+        if (RELEASABLE.contains(screenType)) {
+            releasableScreens.put(screenType, new SoftReference<>(screen));
+        } else {
+            screens.put(screenType, screen);
+        }
+        // nested builds (e.g. GAME_OVER needs GAME) are included in the outer time
+        buildNanos.put(screenType, System.nanoTime() - start);
+        buildCounts.merge(screenType, 1, Integer::sum);
+        return screen;
+    }
+
+    private static Screen createScreen(SceneManager manager, ScreenType screenType) {
+        return switch (screenType) {
+            case HOME -> new HomeScreen(manager);
+            case SETTINGS -> new SettingScreen(manager);
+            case LEVEL_SELECT -> new LevelSelectScreen(manager);
+            case GAME -> new GameScreen(manager);
+            case MULTIPLAYER -> new MultiplayerGameScreen(manager);
+            case GAME_OVER -> new GameOverScreen(manager);
+            case SKIN_SELECT -> new SkinSelectScreen(manager);
+        };
     }
 
     private void applyFont(Parent root, Font font) {
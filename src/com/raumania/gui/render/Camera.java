@@ -0,0 +1,137 @@
+package com.raumania.gui.render;
+
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.gameplay.objects.Paddle;
+
+import java.util.List;
+
+/**
+ * The part of a level's world that is shown on screen.
+ * <p>
+ * A level may be larger than the play field (see {@link GameManager#getWorldWidth()}). The camera
+ * then keeps the paddle centred horizontally. The paddle always sits at the bottom of the world,
+ * so vertically the camera follows the ball nearest the top instead, easing towards it but never
+ * letting it leave the view. The camera stops at the edges of the world, so nothing outside the
+ * level is ever shown. For a level the size of the screen it stays at the origin.
+ * </p>
+ */
+public class Camera {
+    /** Share of the remaining vertical distance covered per frame at {@link #EASING_RATE}. */
+    public static final double VERTICAL_EASING = 0.15;
+    /** Frame rate {@link #VERTICAL_EASING} is given for; other rates ease at the same speed. */
+    public static final double EASING_RATE = 60;
+    /** Distance the followed ball keeps from the top and bottom of the view. */
+    public static final double FOLLOW_MARGIN = 60;
+
+    private final double viewWidth;
+    private final double viewHeight;
+    private double x;
+    private double y;
+
+    /**
+     * Creates a camera at the origin.
+     *
+     * @param viewWidth  width of the visible area in pixels
+     * @param viewHeight height of the visible area in pixels
+     */
+    public Camera(double viewWidth, double viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * Centres the camera on a point, clamped so that the view stays inside the world.
+     *
+     * @param targetX     x-coordinate to centre on
+     * @param targetY     y-coordinate to centre on
+     * @param worldWidth  width of the world
+     * @param worldHeight height of the world
+     */
+    public void follow(double targetX, double targetY, double worldWidth, double worldHeight) {
+        x = clamp(targetX - viewWidth * 0.5, worldWidth - viewWidth);
+        y = clamp(targetY - viewHeight * 0.5, worldHeight - viewHeight);
+    }
+
+    /**
+     * Centres the camera on a point horizontally and eases towards it vertically, moving far
+     * enough at once that the point stays {@link #FOLLOW_MARGIN} inside the view.
+     * <p>
+     * The easing is exponential in time, not per call: the remaining distance shrinks by {@link
+     * #VERTICAL_EASING} every 1/{@link #EASING_RATE} s, so the camera moves at the same speed on
+     * a 60 Hz and a 144 Hz display.
+     * </p>
+     *
+     * @param targetX     x-coordinate to centre on
+     * @param targetY     y-coordinate to move towards
+     * @param worldWidth  width of the world
+     * @param worldHeight height of the world
+     * @param dt          time since the previous call, in seconds
+     */
+    public void track(double targetX, double targetY, double worldWidth, double worldHeight,
+                      double dt) {
+        x = clamp(targetX - viewWidth * 0.5, worldWidth - viewWidth);
+        double maxY = worldHeight - viewHeight;
+        double easing = 1 - Math.pow(1 - VERTICAL_EASING, Math.max(0, dt) * EASING_RATE);
+        double eased = y + (clamp(targetY - viewHeight * 0.5, maxY) - y) * easing;
+        eased = Math.min(eased, targetY - FOLLOW_MARGIN);
+        eased = Math.max(eased, targetY + FOLLOW_MARGIN - viewHeight);
+        y = clamp(eased, maxY);
+    }
+
+    /**
+     * Follows the paddle of a simulation horizontally and its ball nearest the top vertically, at
+     * their interpolated positions.
+     *
+     * @param manager the simulation
+     * @param alpha   interpolation factor of the frame
+     * @param dt      time since the previous frame, in seconds
+     */
+    public void follow(GameManager manager, double alpha, double dt) {
+        Paddle paddle = manager.getPaddle();
+        double targetY = paddle.getRenderY(alpha) + paddle.getHeight() * 0.5;
+        List<Ball> balls = manager.getBallsList();
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            targetY = Math.min(targetY, ball.getRenderY(alpha) + ball.getHeight() * 0.5);
+        }
+        track(paddle.getRenderX(alpha) + paddle.getWidth() * 0.5, targetY,
+                manager.getWorldWidth(), manager.getWorldHeight(), dt);
+    }
+
+    private static double clamp(double value, double max) {
+        if (max <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(value, max));
+    }
+
+    /**
+     * Checks whether a box overlaps the visible area.
+     *
+     * @param bx box left, in world coordinates
+     * @param by box top, in world coordinates
+     * @param bw box width
+     * @param bh box height
+     * @return {@code true} if any part of the box is visible
+     */
+    public boolean isVisible(double bx, double by, double bw, double bh) {
+        return bx + bw >= x && bx <= x + viewWidth && by + bh >= y && by <= y + viewHeight;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getViewWidth() {
+        return viewWidth;
+    }
+
+    public double getViewHeight() {
+        return viewHeight;
+    }
+}
@@ -0,0 +1,278 @@
+package com.raumania.gui.render;
+
+import com.raumania.core.AnimationClock;
+import com.raumania.core.AudioManager;
+import com.raumania.gameplay.manager.GameEvent;
+import com.raumania.gameplay.manager.GameEventListener;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.gameplay.objects.Paddle;
+import com.raumania.gameplay.objects.boss.Boss;
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.powerup.PowerUp;
+import com.raumania.gameplay.objects.visualeffect.BrickHit;
+import com.raumania.gameplay.objects.visualeffect.Explosion;
+import com.raumania.gameplay.objects.visualeffect.VisualEffect;
+import com.raumania.gui.screen.GameScreen;
+import com.raumania.utils.ResourcesLoader;
+import com.raumania.utils.TextureAtlas;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Presents a {@link GameManager} simulation by drawing the whole play field into a single
+ * {@link Canvas} every frame.
+ * <p>
+ * Unlike {@link SceneGraphRenderer}, no node is created per game object: bricks, balls,
+ * power-ups, bosses and effects are drawn straight from the simulation state, animated sprites
+ * as sub-rectangles of their sprite sheets. Brick hits and explosions therefore only add an entry
+ * to a list instead of adding and removing nodes, and the scene graph's CSS, layout and picking
+ * passes stay constant no matter how many objects are on screen. All sprites are drawn from the
+ * {@link TextureAtlas}, so a frame draws from a single texture and no image is decoded in game.
+ * </p>
+ * <p>
+ * Animations are timed from the {@link AnimationClock}, so they freeze while the game is paused,
+ * just like the sprites of the scene graph renderer.
+ * </p>
+ * <p>
+ * The field is drawn through a {@link Camera} that follows the paddle and the ball on levels larger
+ * than the canvas. Only the bricks in view are looked up, from the level's
+ * {@link com.raumania.gameplay.manager.BrickGrid}, so the cost of a frame does not grow with the
+ * size of the level.
+ * </p>
+ */
+public class CanvasRenderer implements GameRenderer, GameEventListener {
+    private static final double BRICK_HIT_SIZE = 35;
+    private static final double BOSS_EXPLOSION_SCALE = 1.2;
+
+    private final GameManager manager;
+    private final Pane root;
+    private final GraphicsContext gc;
+    private final TextureAtlas atlas = ResourcesLoader.getAtlas();
+    private final List<Effect> effects = new ArrayList<>();
+    private final Camera camera = new Camera(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT);
+    private final List<Brick> visibleBricks = new ArrayList<>();
+    private final InnerShadow bossFlash = new InnerShadow(BlurType.GAUSSIAN, Color.RED, 25, 0.5, 0, 0);
+    private long lastRenderNanos;
+
+    /** A running brick hit or explosion animation. */
+    private static final class Effect {
+        private final String imageName;
+        private final int frames;
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+        private final double startTime;
+
+        private Effect(String imageName, int frames, double x, double y, double width, double height,
+                       double startTime) {
+            this.imageName = imageName;
+            this.frames = frames;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Creates a renderer showing the current state of {@code manager} and subscribes it to
+     * the manager's events.
+     *
+     * @param manager the simulation to present
+     */
+    public CanvasRenderer(GameManager manager) {
+        this.manager = manager;
+        this.root = new Pane();
+
+        Background bg = new Background(new BackgroundImage(
+                ResourcesLoader.loadImage("gamepane_bg.png"),
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundPosition.CENTER,
+                new BackgroundSize(1.0, 1.0, true, true, false, false)
+        ));
+        root.setBackground(bg);
+
+        Canvas canvas = new Canvas(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT);
+        gc = canvas.getGraphicsContext2D();
+        root.getChildren().add(canvas);
+
+        manager.addListener(this);
+    }
+
+    @Override
+    public Pane getRoot() {
+        return root;
+    }
+
+    @Override
+    public void render(double alpha, double frameSeconds) {
+        long start = System.nanoTime();
+        double time = AnimationClock.getInstance().getTime();
+        gc.clearRect(0, 0, GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT);
+        camera.follow(manager, alpha, frameSeconds);
+        gc.save();
+        gc.translate(-camera.getX(), -camera.getY());
+
+        Paddle paddle = manager.getPaddle();
+        drawImage(paddle.getImageName(), paddle.getRenderX(alpha),
+                paddle.getRenderY(alpha), paddle.getWidth(), paddle.getHeight());
+
+        for (Boss boss : manager.getBosses()) {
+            if (boss.isFlashing()) {
+                gc.setEffect(bossFlash);
+            }
+            drawFrame(boss.getImageName(), Boss.FRAME_SIZE,
+                    frameAt(time, Boss.FPS, boss.getFrameCount()),
+                    boss.getRenderX(alpha), boss.getRenderY(alpha), boss.getWidth(), boss.getHeight());
+            gc.setEffect(null);
+        }
+
+        visibleBricks.clear();
+        manager.getBrickGrid().query(camera.getX(), camera.getY(), camera.getViewWidth(),
+                camera.getViewHeight(), visibleBricks);
+        for (int i = 0; i < visibleBricks.size(); i++) {
+            Brick brick = visibleBricks.get(i);
+            if (!brick.isHidden()) {
+                drawImage(brick.getImageName(), brick.getX(), brick.getY(),
+                        brick.getWidth(), brick.getHeight());
+            }
+        }
+
+        int powerUpFrame = frameAt(time, PowerUp.FPS, PowerUp.FRAME_COUNT);
+        for (PowerUp powerUp : manager.getPowerUps()) {
+            drawFrame(powerUp.getImageName(), PowerUp.FRAME_SIZE, powerUpFrame,
+                    powerUp.getRenderX(alpha), powerUp.getRenderY(alpha),
+                    powerUp.getWidth(), powerUp.getHeight());
+        }
+
+        for (Ball ball : manager.getBallsList()) {
+            double diameter = ball.getRadius() * 2;
+            gc.setFill(ball.getColor());
+            gc.fillOval(ball.getRenderX(alpha), ball.getRenderY(alpha), diameter, diameter);
+        }
+
+        for (Iterator<Effect> it = effects.iterator(); it.hasNext();) {
+            Effect effect = it.next();
+            int frame = (int) ((time - effect.startTime) * VisualEffect.FPS);
+            if (frame >= effect.frames) {
+                it.remove();
+                continue;
+            }
+            drawFrame(effect.imageName, VisualEffect.FRAME_SIZE, frame,
+                    effect.x, effect.y, effect.width, effect.height);
+        }
+        gc.restore();
+        lastRenderNanos = System.nanoTime() - start;
+    }
+
+    @Override
+    public long getLastRenderNanos() {
+        return lastRenderNanos;
+    }
+
+    @Override
+    public RenderMode getMode() {
+        return RenderMode.CANVAS;
+    }
+
+    /**
+     * Returns the camera that decides which part of the level is drawn.
+     *
+     * @return the camera
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    @Override
+    public void dispose() {
+        manager.removeListener(this);
+        effects.clear();
+    }
+
+    @Override
+    public void onGameEvent(GameEvent event) {
+        switch (event.type()) {
+            case LEVEL_RESET -> effects.clear();
+            case PADDLE_HIT -> AudioManager.getInstance().playSFX(AudioManager.PADDLE_HIT);
+            case BRICK_HIT -> {
+                Brick brick = (Brick) event.subject();
+                addEffect(BrickHit.imageName(brick.getColorIndex()), BrickHit.FRAME_COUNT,
+                        event.x(), event.y(), BRICK_HIT_SIZE, BRICK_HIT_SIZE);
+                AudioManager.getInstance().playSFX(AudioManager.BRICK_HIT);
+            }
+            case BRICK_EXPLODED -> {
+                addEffect(Explosion.IMAGE_NAME, Explosion.FRAME_COUNT, event.subject().getX(),
+                        event.subject().getY(), Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT);
+                AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
+            }
+            case BOSS_DESTROYED -> {
+                addBossExplosion(event);
+                AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
+            }
+            case BOSS_ESCAPED -> addBossExplosion(event);
+            default -> {
+            }
+        }
+    }
+
+    private void addBossExplosion(GameEvent event) {
+        addEffect(Explosion.IMAGE_NAME, Explosion.FRAME_COUNT, event.subject().getX(),
+                event.subject().getY(), Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE,
+                Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE);
+    }
+
+    private void addEffect(String imageName, int frames, double x, double y,
+                           double width, double height) {
+        effects.add(new Effect(imageName, frames, x, y, width, height,
+                AnimationClock.getInstance().getTime()));
+    }
+
+    /** Draws a whole image. */
+    private void drawImage(String name, double x, double y, double width, double height) {
+        Rectangle2D region = atlas.getRegion(name);
+        if (region == null) {
+            gc.drawImage(ResourcesLoader.loadImage(name), x, y, width, height);
+            return;
+        }
+        gc.drawImage(atlas.getImage(), region.getMinX(), region.getMinY(), region.getWidth(),
+                region.getHeight(), x, y, width, height);
+    }
+
+    /** Draws frame {@code frame} of a sprite sheet whose frames are laid out in a single row. */
+    private void drawFrame(String name, int frameSize, int frame,
+                           double x, double y, double width, double height) {
+        Rectangle2D region = atlas.getRegion(name);
+        if (region == null) {
+            gc.drawImage(ResourcesLoader.loadImage(name), frame * frameSize, 0,
+                    frameSize, frameSize, x, y, width, height);
+            return;
+        }
+        // slots are padded to whole frames, so a full frame never reaches the next sprite
+        gc.drawImage(atlas.getImage(), region.getMinX() + frame * frameSize, region.getMinY(),
+                frameSize, frameSize, x, y, width, height);
+    }
+
+    private static int frameAt(double time, double fps, int frames) {
+        return (int) (time * fps) % frames;
+    }
+}
@@ -0,0 +1,53 @@
+package com.raumania.gui.render;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Presents a {@link com.raumania.gameplay.manager.GameManager} simulation on screen.
+ * <p>
+ * A renderer subscribes to the events of its manager when it is created and stays subscribed
+ * until {@link #dispose()} is called. Screens call {@link #render(double, double)} once per frame,
+ * after
+ * the simulation has been updated.
+ * </p>
+ */
+public interface GameRenderer {
+    /**
+     * Returns the pane the play field is drawn into. Its origin is the top-left corner of the
+     * play field.
+     *
+     * @return the root pane
+     */
+    Pane getRoot();
+
+    /** Draws the latest simulation step, without moving the camera any further than needed. */
+    default void render() {
+        render(1.0, 0);
+    }
+
+    /**
+     * Draws the simulation with moving objects interpolated between the last two steps.
+     *
+     * @param alpha        how far the frame lies between the previous and the current simulation
+     *                     step, see {@link com.raumania.core.FixedTimestep#getAlpha()}
+     * @param frameSeconds time since the previous frame, the camera eases by this much
+     */
+    void render(double alpha, double frameSeconds);
+
+    /**
+     * Returns how long the last call to {@link #render(double, double)} took, to compare renderers.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getLastRenderNanos();
+
+    /**
+     * Returns the mode this renderer implements.
+     *
+     * @return the render mode
+     */
+    RenderMode getMode();
+
+    /** Unsubscribes from the manager and stops all running animations. */
+    void dispose();
+}
@@ -0,0 +1,201 @@
+package com.raumania.gui.render;
+
+import com.raumania.core.AnimationClock;
+import com.raumania.core.FrameTimeHistogram;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.manager.InputHandler;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Overlay with measured frame statistics, toggled with {@link #TOGGLE_KEY}.
+ * <p>
+ * The game loop reports every frame with {@link #recordFrame}. Frame, simulation, collision,
+ * boss and render times go into {@link FrameTimeHistogram}s, which allocate nothing per frame.
+ * Once per {@link #WINDOW_NANOS window} the text is rebuilt from the histograms, the entity
+ * counts and the garbage collectors' counters, and the histograms start over, so the numbers
+ * always describe the last second. While hidden, the HUD records nothing.
+ * </p>
+ */
+public class PerformanceHud {
+    public static final KeyCode TOGGLE_KEY = KeyCode.F3;
+    /** Length of the window the statistics are computed over. */
+    public static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final GameManager manager;
+    private final StackPane root = new StackPane();
+    private final Text text = new Text();
+    private final StringBuilder builder = new StringBuilder(512);
+    private final FrameTimeHistogram frame = new FrameTimeHistogram();
+    private final FrameTimeHistogram simulation = new FrameTimeHistogram();
+    private final FrameTimeHistogram collision = new FrameTimeHistogram();
+    private final FrameTimeHistogram boss = new FrameTimeHistogram();
+    private final FrameTimeHistogram render = new FrameTimeHistogram();
+    private final List<GarbageCollectorMXBean> collectors =
+            ManagementFactory.getGarbageCollectorMXBeans();
+    private long windowStart = -1;
+    private long lastCollisionNanos;
+    private long lastBossNanos;
+    private long gcCountAtShow;
+    private long lastGcCount;
+
+    /**
+     * Creates a hidden HUD for a game.
+     *
+     * @param manager the simulation whose entities are counted
+     */
+    public PerformanceHud(GameManager manager) {
+        this.manager = manager;
+        text.setFont(Font.font("Monospaced", 12));
+        text.setFill(Color.WHITE);
+        root.getChildren().add(text);
+        root.setPadding(new Insets(6));
+        root.setBackground(new Background(
+                new BackgroundFill(new Color(0.0, 0.0, 0.0, 0.6), CornerRadii.EMPTY, Insets.EMPTY)));
+        root.setMouseTransparent(true);
+        root.setVisible(false);
+    }
+
+    public StackPane getRoot() {
+        return root;
+    }
+
+    public boolean isShown() {
+        return root.isVisible();
+    }
+
+    /** Shows the HUD if it is hidden and hides it otherwise. */
+    public void toggle() {
+        setShown(!isShown());
+    }
+
+    /**
+     * Shows or hides the HUD. Showing it starts a new window.
+     *
+     * @param shown whether the HUD is visible
+     */
+    public void setShown(boolean shown) {
+        root.setVisible(shown);
+        if (shown) {
+            windowStart = -1;
+            gcCountAtShow = gcCount();
+            lastGcCount = gcCountAtShow;
+            text.setText("Measuring...");
+        }
+    }
+
+    /** Starts a new window, e.g. after the game loop was paused. */
+    public void restart() {
+        windowStart = -1;
+    }
+
+    /**
+     * Records one frame of the game loop.
+     *
+     * @param now          time of the frame, from the {@link javafx.animation.AnimationTimer}
+     * @param frameNanos   time since the previous frame
+     * @param simNanos     time spent in the simulation steps of this frame
+     * @param renderer     the renderer that drew the frame
+     * @param inputHandler the player's input, for the input latency
+     */
+    public void recordFrame(long now, long frameNanos, long simNanos, GameRenderer renderer,
+                            InputHandler inputHandler) {
+        if (!isShown()) {
+            return;
+        }
+        if (windowStart < 0) {
+            windowStart = now;
+            lastCollisionNanos = manager.getCollisionNanos();
+            lastBossNanos = manager.getBossNanos();
+            resetHistograms();
+            return;
+        }
+        frame.record(frameNanos);
+        simulation.record(simNanos);
+        collision.record(manager.getCollisionNanos() - lastCollisionNanos);
+        boss.record(manager.getBossNanos() - lastBossNanos);
+        render.record(renderer.getLastRenderNanos());
+        lastCollisionNanos = manager.getCollisionNanos();
+        lastBossNanos = manager.getBossNanos();
+        if (now - windowStart >= WINDOW_NANOS) {
+            refresh(now - windowStart, renderer, inputHandler);
+            windowStart = now;
+            resetHistograms();
+        }
+    }
+
+    private void refresh(long windowNanos, GameRenderer renderer, InputHandler inputHandler) {
+        long gc = gcCount();
+        builder.setLength(0);
+        builder.append(String.format("FPS %.1f\n", frame.getCount() * 1e9 / windowNanos));
+        builder.append(String.format("frame  p50 %6.2f  p95 %6.2f  p99 %6.2f ms\n",
+                ms(frame.getPercentileNanos(50)), ms(frame.getPercentileNanos(95)),
+                ms(frame.getPercentileNanos(99))));
+        appendPhase("sim", simulation);
+        appendPhase("collide", collision);
+        appendPhase("boss", boss);
+        appendPhase("render", render);
+        if (inputHandler != null) {
+            builder.append(String.format("input  last %6.2f  max %6.2f ms\n",
+                    ms(inputHandler.getLastLatencyNanos()), ms(inputHandler.getMaxLatencyNanos())));
+        }
+        builder.append(String.format("balls %d  bricks %d  power-ups %d  bosses %d\n",
+                manager.getBallsList().size(), manager.getBricks().size(),
+                manager.getPowerUps().size(), manager.getBosses().size()));
+        builder.append(String.format("nodes %d  sprites %d\n",
+                countNodes(renderer.getRoot()), AnimationClock.getInstance().getActiveCount()));
+        builder.append(String.format("GC %d (+%d this second)", gc - gcCountAtShow, gc - lastGcCount));
+        lastGcCount = gc;
+        text.setText(builder.toString());
+    }
+
+    private void appendPhase(String name, FrameTimeHistogram histogram) {
+        builder.append(String.format("%-7s mean %6.2f  p99 %6.2f ms\n", name,
+                ms(histogram.getMeanNanos()), ms(histogram.getPercentileNanos(99))));
+    }
+
+    private void resetHistograms() {
+        frame.reset();
+        simulation.reset();
+        collision.reset();
+        boss.reset();
+        render.reset();
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static int countNodes(Parent parent) {
+        List<Node> children = parent.getChildrenUnmodifiable();
+        int count = children.size();
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) instanceof Parent child) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
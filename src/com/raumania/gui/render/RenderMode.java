@@ -0,0 +1,53 @@
+package com.raumania.gui.render;
+
+/** The ways a game can be drawn, selectable in the settings. */
+public enum RenderMode {
+    /** One JavaFX node per game object, see {@link SceneGraphRenderer}. */
+    SCENE_GRAPH("Scene Graph"),
+    /** The whole play field drawn into a single canvas, see {@link CanvasRenderer}. */
+    CANVAS("Canvas");
+
+    private final String label;
+
+    RenderMode(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the name shown in the settings.
+     *
+     * @return the display name
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the mode after this one, wrapping around, for cycling through the modes with a
+     * button.
+     *
+     * @return the next mode
+     */
+    public RenderMode next() {
+        RenderMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+
+    /**
+     * Looks up a mode by its constant name, ignoring case.
+     *
+     * @param name the name, may be {@code null}
+     * @param defaultMode returned when {@code name} does not match any mode
+     * @return the matching mode or {@code defaultMode}
+     */
+    public static RenderMode fromName(String name, RenderMode defaultMode) {
+        if (name == null) {
+            return defaultMode;
+        }
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultMode;
+        }
+    }
+}
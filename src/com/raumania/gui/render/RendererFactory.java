@@ -0,0 +1,19 @@
+package com.raumania.gui.render;
+
+import com.raumania.gameplay.manager.GameManager;
+
+public class RendererFactory {
+    /**
+     * Creates a renderer for a simulation.
+     *
+     * @param mode the way the game should be drawn
+     * @param manager the simulation to present
+     * @return a new renderer, already subscribed to {@code manager}
+     */
+    public static GameRenderer createRenderer(RenderMode mode, GameManager manager) {
+        return switch (mode) {
+            case SCENE_GRAPH -> new SceneGraphRenderer(manager);
+            case CANVAS -> new CanvasRenderer(manager);
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package com.raumania.gui.render;
+
+import com.raumania.core.AudioManager;
+import com.raumania.gameplay.manager.GameEvent;
+import com.raumania.gameplay.manager.GameEventListener;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.gameplay.objects.boss.Boss;
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.core.GameObject;
+import com.raumania.gameplay.objects.powerup.PowerUp;
+import com.raumania.gameplay.objects.visualeffect.BrickHit;
+import com.raumania.gameplay.objects.visualeffect.Explosion;
+import com.raumania.gameplay.objects.visualeffect.VisualEffect;
+import com.raumania.gui.screen.GameScreen;
+import com.raumania.utils.ResourcesLoader;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Translate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Presents a {@link GameManager} simulation in the JavaFX scene graph, with one node per game
+ * object.
+ * <p>
+ * The renderer listens to the {@link GameEvent}s of the simulation to add and remove nodes,
+ * spawn {@link VisualEffect}s and play sound effects. {@link #render()} copies the current
+ * state of all moving objects into their nodes and should be called once per frame, after the
+ * simulation has been updated.
+ * </p>
+ * <p>
+ * Brick hits and explosions are taken from their pools ({@link BrickHit#obtain}, {@link
+ * Explosion#obtain}) and released once their animation has finished.
+ * </p>
+ * <p>
+ * Every brick, ball and effect is a node, so the cost of the scene graph's CSS, layout and
+ * picking passes grows with the number of objects; see {@link CanvasRenderer} for the
+ * alternative.
+ * </p>
+ * <p>
+ * Every game object node shares one {@link Translate} that the {@link Camera} moves, so a level
+ * larger than the play field scrolls with the paddle and the ball while the background stays in
+ * place.
+ * </p>
+ */
+public class SceneGraphRenderer implements GameRenderer, GameEventListener {
+    private static final double BRICK_HIT_SIZE = 35;
+    private static final double BOSS_EXPLOSION_SCALE = 1.2;
+
+    private final GameManager manager;
+    private final Pane root;
+    private final List<VisualEffect> visualEffects = new ArrayList<>();
+    private final Camera camera = new Camera(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT);
+    private final Translate cameraTransform = new Translate();
+    private long lastRenderNanos;
+
+    /**
+     * Creates a renderer showing the current state of {@code manager} and subscribes it to
+     * the manager's events.
+     *
+     * @param manager the simulation to present
+     */
+    public SceneGraphRenderer(GameManager manager) {
+        this.manager = manager;
+        this.root = new Pane();
+
+        Background bg = new Background(new BackgroundImage(
+                ResourcesLoader.loadImage("gamepane_bg.png"),
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundPosition.CENTER,
+                new BackgroundSize(1.0, 1.0, true, true, false, false)
+        ));
+        root.setBackground(bg);
+        root.setClip(new Rectangle(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT));
+
+        rebuild();
+        manager.addListener(this);
+    }
+
+    /**
+     * Returns the root {@link Pane} where the game objects are rendered.
+     *
+     * @return the root pane of the game
+     */
+    @Override
+    public Pane getRoot() {
+        return root;
+    }
+
+    /**
+     * Synchronizes the nodes of all moving objects with the simulation and removes
+     * visual effects whose animation has finished.
+     *
+     * @param alpha        how far the frame lies between the previous and the current simulation
+     *                     step, see {@link com.raumania.core.FixedTimestep#getAlpha()}
+     * @param frameSeconds time since the previous frame, the camera eases by this much
+     */
+    @Override
+    public void render(double alpha, double frameSeconds) {
+        long start = System.nanoTime();
+        camera.follow(manager, alpha, frameSeconds);
+        cameraTransform.setX(-camera.getX());
+        cameraTransform.setY(-camera.getY());
+        manager.getPaddle().updateView(alpha);
+        for (Ball ball : manager.getBallsList()) {
+            ball.updateView(alpha);
+        }
+        for (PowerUp powerUp : manager.getPowerUps()) {
+            powerUp.updateView(alpha);
+        }
+        for (Boss boss : manager.getBosses()) {
+            boss.updateView(alpha);
+        }
+        for (Iterator<VisualEffect> it = visualEffects.iterator(); it.hasNext();) {
+            VisualEffect ve = it.next();
+            if (ve.getTextureSheet().isFinalFrame()) {
+                remove(ve.getTexture());
+                ve.release();
+                it.remove();
+            }
+        }
+        lastRenderNanos = System.nanoTime() - start;
+    }
+
+    @Override
+    public long getLastRenderNanos() {
+        return lastRenderNanos;
+    }
+
+    @Override
+    public RenderMode getMode() {
+        return RenderMode.SCENE_GRAPH;
+    }
+
+    @Override
+    public void dispose() {
+        manager.removeListener(this);
+        for (VisualEffect ve : visualEffects) {
+            remove(ve.getTexture());
+            ve.release();
+        }
+        visualEffects.clear();
+        clear();
+    }
+
+    /**
+     * Returns the camera that decides which part of the level is shown.
+     *
+     * @return the camera
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    @Override
+    public void onGameEvent(GameEvent event) {
+        GameObject subject = event.subject();
+        switch (event.type()) {
+            case LEVEL_RESET -> rebuild();
+            case BALL_SPAWNED -> add(((Ball) subject).getView());
+            case BRICK_SPAWNED -> add(((Brick) subject).getTexture());
+            case POWER_UP_SPAWNED -> add(((PowerUp) subject).getTexture());
+            case BOSS_SPAWNED -> add(((Boss) subject).getTexture());
+            case BALL_LOST -> remove(((Ball) subject).getView());
+            case BRICK_DESTROYED -> remove(((Brick) subject).getTexture());
+            case POWER_UP_COLLECTED, POWER_UP_LOST -> remove(((PowerUp) subject).getTexture());
+            case PADDLE_HIT -> AudioManager.getInstance().playSFX(AudioManager.PADDLE_HIT);
+            case BRICK_HIT -> {
+                Brick brick = (Brick) subject;
+                addEffect(BrickHit.obtain(event.x(), event.y(), BRICK_HIT_SIZE, BRICK_HIT_SIZE,
+                        brick.getColorIndex()));
+                AudioManager.getInstance().playSFX(AudioManager.BRICK_HIT);
+            }
+            case BRICK_EXPLODED -> {
+                addEffect(Explosion.obtain(subject.getX(), subject.getY(), Brick.BRICK_WIDTH,
+                        Brick.BRICK_HEIGHT));
+                AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
+            }
+            case BOSS_DESTROYED -> {
+                remove(((Boss) subject).getTexture());
+                addEffect(Explosion.obtain(subject.getX(), subject.getY(),
+                        Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE, Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE));
+                AudioManager.getInstance().playSFX(AudioManager.EXPLOSION);
+            }
+            case BOSS_ESCAPED -> {
+                remove(((Boss) subject).getTexture());
+                addEffect(Explosion.obtain(subject.getX(), subject.getY(),
+                        Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE, Boss.BOSS_SIZE * BOSS_EXPLOSION_SCALE));
+            }
+            default -> {
+            }
+        }
+    }
+
+    /** Drops every node and recreates the scene from the current simulation state. */
+    private void rebuild() {
+        for (VisualEffect ve : visualEffects) {
+            remove(ve.getTexture());
+            ve.release();
+        }
+        visualEffects.clear();
+        clear();
+        add(manager.getPaddle().getTexture());
+        for (Boss boss : manager.getBosses()) {
+            add(boss.getTexture());
+        }
+        for (Brick brick : manager.getBricks()) {
+            add(brick.getTexture());
+        }
+        for (PowerUp powerUp : manager.getPowerUps()) {
+            add(powerUp.getTexture());
+        }
+        for (Ball ball : manager.getBallsList()) {
+            add(ball.getView());
+        }
+    }
+
+    private void addEffect(VisualEffect ve) {
+        visualEffects.add(ve);
+        ve.play();
+        add(ve.getTexture());
+    }
+
+    private void add(Node node) {
+        node.getTransforms().add(cameraTransform);
+        root.getChildren().add(node);
+    }
+
+    private void remove(Node node) {
+        if (root.getChildren().remove(node)) {
+            node.getTransforms().remove(cameraTransform);
+        }
+    }
+
+    private void clear() {
+        for (Node node : root.getChildren()) {
+            node.getTransforms().remove(cameraTransform);
+        }
+        root.getChildren().clear();
+    }
+}
@@ -75,10 +75,10 @@ public class GameOverScreen extends Screen {
                     }
                     HighScore.getInstance()
                             .addHighScore(
-                                    singlePlayerGameManager.getCurrentLvl().name(),
+                                    singlePlayerGameManager.getCurrentLevel().getName(),
                                     name,
                                     singlePlayerGameManager.getScore());
-                    updateHighScoreList(singlePlayerGameManager.getCurrentLvl().name());
+                    updateHighScoreList(singlePlayerGameManager.getCurrentLevel().getName());
                     highScoreInputPane.setVisible(false);
                     gameOverPane.setVisible(true);
                 });
@@ -129,8 +129,8 @@ public class GameOverScreen extends Screen {
                                         e.getLevel()
                                                 .equals(
                                                         singlePlayerGameManager
-                                                                .getCurrentLvl()
-                                                                .name()))
+                                                                .getCurrentLevel()
+                                                                .getName()))
                         .toList();
         int minScoreOfLevel =
                 highScoreOfLevel.stream().mapToInt(HighScoreEntry::getScore).min().orElse(0);
@@ -140,11 +140,11 @@ public class GameOverScreen extends Screen {
             highScoreInputPane.setVisible(true);
             gameOverPane.setVisible(false);
         } else {
-            updateHighScoreList(singlePlayerGameManager.getCurrentLvl().name());
+            updateHighScoreList(singlePlayerGameManager.getCurrentLevel().getName());
             highScoreInputPane.setVisible(false);
             gameOverPane.setVisible(true);
         }
 
-        level.setText(singlePlayerGameManager.getCurrentLvl().name());
+        level.setText(singlePlayerGameManager.getCurrentLevel().getName());
     }
 }
@@ -1,8 +1,17 @@
 package com.raumania.gui.screen;
 
+import com.raumania.core.AnimationClock;
 import com.raumania.core.AudioManager;
+import com.raumania.core.FixedTimestep;
+import com.raumania.core.GameRandom;
 import com.raumania.gameplay.manager.*;
+import com.raumania.gameplay.replay.Replay;
+import com.raumania.gameplay.replay.ReplayPlayer;
 import com.raumania.gui.manager.SceneManager;
+import com.raumania.gui.render.GameRenderer;
+import com.raumania.gui.render.PerformanceHud;
+import com.raumania.gui.render.RenderMode;
+import com.raumania.gui.render.RendererFactory;
 import com.raumania.main.Main;
 import com.raumania.utils.ResourcesLoader;
 import com.raumania.utils.UIUtils;
@@ -25,7 +34,6 @@ import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -34,12 +42,22 @@ import java.util.List;
  * <p>This screen owns a {@link GameManager} and a frame-based loop implemented via {@link
  * AnimationTimer}. When the screen starts, it initializes game objects and begins ticking the game
  * manager every frame with a computed delta time.
+ *
+ * <p>Every match is recorded as a {@link Replay} and saved into {@value Replay#REPLAY_DIR} when
+ * the screen is left. A recording given to {@link #playReplay(Replay)} is played back instead of
+ * a new match: the keys do not move the paddle, {@link #FAST_FORWARD_KEY} and {@link
+ * #SLOW_DOWN_KEY} change the speed, and at higher speeds many steps are simulated for every
+ * rendered frame.
  */
 public class GameScreen extends Screen {
     public static final int GAME_WIDTH = 520;
     public static final int GAME_START_X = (Main.WINDOW_WIDTH - GAME_WIDTH) / 2;
     public static final int GAME_HEIGHT = 620;
     public static final int GAME_START_Y = (Main.WINDOW_HEIGHT - GAME_HEIGHT) / 2 + 10;
+    public static final KeyCode FAST_FORWARD_KEY = KeyCode.PAGE_UP;
+    public static final KeyCode SLOW_DOWN_KEY = KeyCode.PAGE_DOWN;
+    /** Fastest playback speed, as a multiple of real time. */
+    public static final int MAX_PLAYBACK_SPEED = 256;
 
     private final GameManager manager;
     private final Button pause;
@@ -61,9 +79,19 @@ public class GameScreen extends Screen {
     private final Pane gamePlayScreen;
     private final Pane timeRemainings;
     private final StackPane gamePane;
+    private final PerformanceHud hud;
+    private GameRenderer renderer;
     private InputHandler inputHandler;
     private AnimationTimer loop;
+    private FixedTimestep timestep;
     private long lastUpdate = 0;
+    private Replay recording;
+    private Replay pendingReplay;
+    private ReplayPlayer playback;
+    private int playbackSpeed = 1;
+    // set by the launch key, applied and recorded before the next step
+    private boolean launchRequested = false;
+    private GameManager.GameState stateBeforePause;
     private int pauseState = 0;
     private int pauseCnt = 0;
     private int homeCnt = 0;
@@ -71,8 +99,8 @@ public class GameScreen extends Screen {
     /**
      * Creates a new {@code GameScreen} and binds it to the given {@link SceneManager}.
      *
-     * <p>The constructor also instantiates a {@link GameManager} using this screen's root pane for
-     * rendering.
+     * <p>The constructor also instantiates a {@link GameManager} and the {@link GameRenderer}
+     * selected in the settings to present it.
      *
      * @param sceneManager controller responsible for switching between application screens
      */
@@ -82,24 +110,24 @@ public class GameScreen extends Screen {
         mainPause = new Pane();
         this.manager = new GameManager();
         this.inputHandler = new InputHandler(manager, KeyCode.A, KeyCode.D);
+        this.hud = new PerformanceHud(manager);
         // handle game over state
-        this.manager
-                .gameStateProperty()
-                .addListener(
-                        (obs, oldState, newState) -> {
-                            if (newState == GameManager.GameState.GAME_OVER) {
-                                loop.stop();
-                                inputHandler.stop();
-                                // Pause for 2 seconds before switching screens
-                                PauseTransition pause = new PauseTransition();
-                                pause.setDuration(Duration.seconds(2));
-                                pause.setOnFinished(
-                                        e -> sceneManager.switchScreen(ScreenType.GAME_OVER));
-                                AudioManager.getInstance().stop();
-                                AudioManager.getInstance().playSFX(AudioManager.GAME_OVER_SFX);
-                                pause.play();
-                            }
-                        });
+        this.manager.addListener(
+                event -> {
+                    if (event.type() == GameEvent.Type.STATE_CHANGED
+                            && manager.getGameState() == GameManager.GameState.GAME_OVER
+                            && playback == null) {
+                        loop.stop();
+                        inputHandler.stop();
+                        // Pause for 2 seconds before switching screens
+                        PauseTransition pause = new PauseTransition();
+                        pause.setDuration(Duration.seconds(2));
+                        pause.setOnFinished(e -> sceneManager.switchScreen(ScreenType.GAME_OVER));
+                        AudioManager.getInstance().stop();
+                        AudioManager.getInstance().playSFX(AudioManager.GAME_OVER_SFX);
+                        pause.play();
+                    }
+                });
 
         // Game play screen
         gamePlayScreen = new Pane();
@@ -241,9 +269,16 @@ public class GameScreen extends Screen {
         scene.setOnKeyPressed(
                 e -> {
                     if (e.getCode() == KeyCode.SPACE) {
-                        if (manager.getGameState() == GameManager.GameState.READY) {
-                            manager.startGame();
+                        if (manager.getGameState() == GameManager.GameState.READY
+                                && playback == null) {
+                            launchRequested = true;
                         }
+                    } else if (e.getCode() == PerformanceHud.TOGGLE_KEY) {
+                        hud.toggle();
+                    } else if (e.getCode() == FAST_FORWARD_KEY && playback != null) {
+                        playbackSpeed = Math.min(playbackSpeed * 2, MAX_PLAYBACK_SPEED);
+                    } else if (e.getCode() == SLOW_DOWN_KEY && playback != null) {
+                        playbackSpeed = Math.max(playbackSpeed / 2, 1);
                     } else if (e.getCode() == KeyCode.ESCAPE) {
                         if (manager.getGameState() == GameManager.GameState.PAUSED) {
                             resume.fire();
@@ -289,13 +324,13 @@ public class GameScreen extends Screen {
                 });
 
         scene.setOnKeyReleased(e -> inputHandler.onKeyReleased(e.getCode()));
-        Pane game = manager.getRoot();
-        game.setClip(new Rectangle(GAME_WIDTH, GAME_HEIGHT));
-        game.getTransforms().add(new Translate(GAME_START_X, GAME_START_Y));
-
         gamePane = new StackPane();
-        gamePane.getChildren().addAll(game, gamePlayScreen);
-        root.getChildren().addAll(gamePane, mainPause, backChoice);
+        gamePane.getChildren().add(gamePlayScreen);
+        applyRenderMode();
+        // frame statistics over the play field, below the pause menus
+        hud.getRoot().setLayoutX(GAME_START_X + 8);
+        hud.getRoot().setLayoutY(GAME_START_Y + 8);
+        root.getChildren().addAll(gamePane, hud.getRoot(), mainPause, backChoice);
 
         Background bg =
                 new Background(
@@ -312,6 +347,41 @@ public class GameScreen extends Screen {
         return manager;
     }
 
+    /**
+     * Plays a recording back the next time this screen starts, instead of a new match.
+     *
+     * @param replay the recording
+     */
+    public void playReplay(Replay replay) {
+        pendingReplay = replay;
+    }
+
+    public boolean isPlayingBack() {
+        return playback != null;
+    }
+
+    /**
+     * Switches to the renderer selected in the settings if it differs from the current one.
+     * The new renderer takes the place of the old one below the HUD.
+     */
+    private void applyRenderMode() {
+        RenderMode mode = SettingScreen.sharedConfig.getRenderMode();
+        if (renderer != null && renderer.getMode() == mode) {
+            return;
+        }
+        int index = 0;
+        if (renderer != null) {
+            index = gamePane.getChildren().indexOf(renderer.getRoot());
+            gamePane.getChildren().remove(index);
+            renderer.dispose();
+        }
+        renderer = RendererFactory.createRenderer(mode, manager);
+        Pane game = renderer.getRoot();
+        game.setClip(new Rectangle(GAME_WIDTH, GAME_HEIGHT));
+        game.getTransforms().add(new Translate(GAME_START_X, GAME_START_Y));
+        gamePane.getChildren().add(index, game);
+    }
+
     /**
      * Starts the game screen lifecycle.
      *
@@ -320,9 +390,15 @@ public class GameScreen extends Screen {
      *
      * <ol>
      *   <li>Captures the current monotonic time in nanoseconds.
-     *   <li>Computes the frame delta time in seconds as {@code dt = (now - lastUpdate) /
-     *       1_000_000_000.0}.
-     *   <li>Calls {@link GameManager#update(double)} with that {@code dt}.
+     *   <li>Feeds the real frame time to a {@link FixedTimestep} running at the rate chosen in the
+     *       settings (120 or 240 Hz).
+     *   <li>Calls {@link GameManager#update(double)} once per fixed step, capped per frame, after
+     *       applying the keys pressed since the previous step with {@link InputHandler#poll()}
+     *       and recording them, or after applying the recorded input during playback.
+     *   <li>Advances the {@link AnimationClock} unless the game is paused.
+     *   <li>Renders the objects interpolated between the last two steps.
+     *   <li>Reports the frame to the {@link PerformanceHud}, shown with {@link
+     *       PerformanceHud#TOGGLE_KEY}.
      * </ol>
      *
      * On the very first tick, the loop only initializes {@link #lastUpdate} and skips update to
@@ -338,6 +414,8 @@ public class GameScreen extends Screen {
         // stop any playing music
         AudioManager.getInstance().stop();
 
+        applyRenderMode();
+
         // change player's key
         KeyCode leftKey = SettingScreen.sharedConfig.getFirstLeftKey();
         KeyCode rightKey = SettingScreen.sharedConfig.getFirstRightKey();
@@ -360,42 +438,134 @@ public class GameScreen extends Screen {
         }
 
         lastUpdate = 0;
+        launchRequested = false;
+        stateBeforePause = null;
+        if (pendingReplay != null) {
+            playback = new ReplayPlayer(pendingReplay, manager, inputHandler);
+            pendingReplay = null;
+            playback.prepare();
+            playbackSpeed = 1;
+            recording = null;
+            // fast-forwarding runs many steps per frame, the rest of the frame is not rendered
+            timestep =
+                    new FixedTimestep(
+                            playback.getReplay().getSimRate(),
+                            FixedTimestep.DEFAULT_MAX_STEPS * MAX_PLAYBACK_SPEED);
+        } else {
+            playback = null;
+            playbackSpeed = 1;
+            if (manager.getGameState() == GameManager.GameState.GAME_OVER) {
+                // a new match needs a new seed, the random streams go on otherwise
+                manager.setSeed(GameRandom.newSeed());
+                manager.initGame();
+            }
+            timestep =
+                    new FixedTimestep(
+                            SettingScreen.sharedConfig.getSimRate(),
+                            FixedTimestep.DEFAULT_MAX_STEPS);
+            recording =
+                    manager.getCurrentLevel() == null
+                            ? null
+                            : new Replay(
+                                    manager.getSeed(),
+                                    manager.getCurrentLevel().getLevelNumber(),
+                                    timestep.getRate());
+        }
         loop =
                 new AnimationTimer() {
-                    private static final double FPS = 60.0;
-                    private static final double FRAME_TIME = 1_000_000_000.0 / FPS;
-
                     @Override
                     public void handle(long now) {
                         if (lastUpdate == 0) {
                             lastUpdate = now;
+                            timestep.reset();
                             return;
                         }
-                        if (now - lastUpdate >= FRAME_TIME) {
-                            double dt = (now - lastUpdate) / 1_000_000_000.0;
-                            manager.update(dt);
-                            score.setText("Score: " + manager.getScore());
-                            fps.setText("FPS: " + (int) (FPS));
-                            if (manager.getLives() < hearts.size()) {
-                                for (int i = hearts.size() - 1; i >= manager.getLives(); i--) {
-                                    gamePlayScreen.getChildren().remove(hearts.get(i));
-                                    hearts.remove(i);
-                                }
+                        long frameNanos = now - lastUpdate;
+                        double frameTime = frameNanos / 1_000_000_000.0;
+                        lastUpdate = now;
+                        int steps = timestep.advance(frameTime * playbackSpeed);
+                        long simStart = System.nanoTime();
+                        for (int i = 0; i < steps; i++) {
+                            if (!step()) {
+                                break;
+                            }
+                        }
+                        long simNanos = System.nanoTime() - simStart;
+                        if (manager.getGameState() != GameManager.GameState.PAUSED) {
+                            AnimationClock.getInstance().advance(frameTime * playbackSpeed);
+                        }
+                        renderer.render(timestep.getAlpha(), frameTime * playbackSpeed);
+                        hud.recordFrame(now, frameNanos, simNanos, renderer, inputHandler);
+                        score.setText("Score: " + manager.getScore());
+                        if (playback != null) {
+                            fps.setText(playbackStatus());
+                        } else if (frameTime > 0) {
+                            fps.setText(String.format("FPS: %d (%.2f ms) input %.2f ms",
+                                    Math.round(1.0 / frameTime),
+                                    renderer.getLastRenderNanos() / 1_000_000.0,
+                                    inputHandler.getLastLatencyNanos() / 1_000_000.0));
+                        }
+                        if (manager.getLives() < hearts.size()) {
+                            for (int i = hearts.size() - 1; i >= manager.getLives(); i--) {
+                                gamePlayScreen.getChildren().remove(hearts.get(i));
+                                hearts.remove(i);
                             }
-                            lastUpdate = now;
                         }
                         showTime();
                     }
                 };
-        switch (manager.getGameState()) {
-            case GAME_OVER -> {
-                manager.initGame();
-            }
-            case PAUSED -> manager.setGameState(GameManager.GameState.RUNNING);
+        if (manager.getGameState() == GameManager.GameState.PAUSED) {
+            manager.setGameState(GameManager.GameState.RUNNING);
         }
         Platform.runLater(root::requestFocus);
         loop.start();
-        inputHandler.start();
+        if (playback == null) {
+            inputHandler.start();
+        }
+    }
+
+    /**
+     * Runs one simulation step with the player's input, or with the recorded input during
+     * playback.
+     *
+     * @return {@code false} if the recording being played has ended
+     */
+    private boolean step() {
+        if (playback != null) {
+            return playback.step();
+        }
+        int input = inputHandler.poll();
+        if (launchRequested) {
+            launchRequested = false;
+            manager.startGame();
+            input |= Replay.LAUNCH;
+        }
+        if (recording != null) {
+            recording.record(input);
+        }
+        manager.update(timestep.getStepSeconds());
+        return true;
+    }
+
+    private String playbackStatus() {
+        Replay replay = playback.getReplay();
+        if (!playback.isFinished()) {
+            return String.format("REPLAY x%d  %d / %d", playbackSpeed, playback.getTick(),
+                    replay.getTickCount());
+        }
+        return playback.matchesRecording()
+                ? "REPLAY finished, same as recorded"
+                : "REPLAY finished, DIFFERS from recording";
+    }
+
+    /** Saves the recording of the match played, if any. */
+    private void saveRecording() {
+        if (recording != null && recording.getTickCount() > 0) {
+            recording.finish(manager);
+            // failures are reported by saveSession
+            recording.saveSession();
+        }
+        recording = null;
     }
 
     /**
@@ -411,14 +581,21 @@ public class GameScreen extends Screen {
         if (inputHandler != null) {
             inputHandler.stop();
         }
+        saveRecording();
+        playback = null;
+        playbackSpeed = 1;
     }
 
     /** pause -> resume. set gameState, unfocus, start loop,set visible */
     public void resume() {
         lastUpdate = 0;
+        hud.restart();
         Platform.runLater(root::requestFocus);
         loop.start();
-        manager.setGameState(GameManager.GameState.RUNNING);
+        // back to the state before the pause, a ball waiting for launch keeps waiting
+        manager.setGameState(
+                stateBeforePause == null ? GameManager.GameState.RUNNING : stateBeforePause);
+        stateBeforePause = null;
         mainPause.setVisible(false);
         backChoice.setVisible(false);
         gamePane.setVisible(true);
@@ -428,6 +605,9 @@ public class GameScreen extends Screen {
     /** pause. set gameState, unfocus, stop loop, set visible */
     public void pause() {
         loop.stop();
+        if (manager.getGameState() != GameManager.GameState.PAUSED) {
+            stateBeforePause = manager.getGameState();
+        }
         manager.setGameState(GameManager.GameState.PAUSED);
         mainPause.setVisible(true);
         backChoice.setVisible(false);
@@ -489,19 +669,11 @@ public class GameScreen extends Screen {
     private void showTime() {
         timeRemainings.getChildren().clear();
         double y = 0;
-        double currentTime = System.currentTimeMillis() / 1000.0;
+        double currentTime = manager.getElapsedTime();
 
-        for (Iterator<EffectCountDown> iterator = manager.getEffectCountDownList().iterator();
-                iterator.hasNext(); ) {
-            EffectCountDown effectCountDown = iterator.next();
+        for (EffectCountDown effectCountDown : manager.getEffectCountDownList()) {
             double timeRemaining = effectCountDown.getTimeRemaining(currentTime);
 
-            // Nếu hết thời gian thì xóa
-            if (timeRemaining <= 0) {
-                iterator.remove();
-                continue;
-            }
-
             Text text = new Text();
             text.setFont(Font.font("System", FontWeight.BOLD, 14));
             // if time remaining is less than 1.5s, apply blink effect
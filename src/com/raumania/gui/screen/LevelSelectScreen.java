@@ -3,7 +3,10 @@ package com.raumania.gui.screen;
 import static com.raumania.utils.UIUtils.centerButton;
 import static com.raumania.utils.UIUtils.newButton;
 
+import com.raumania.core.CompiledLevel;
+import com.raumania.core.GameRandom;
 import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gui.manager.SceneManager;
 import com.raumania.utils.UIUtils;
 
@@ -13,7 +16,7 @@ import javafx.scene.input.KeyEvent;
 
 public class LevelSelectScreen extends Screen {
 
-    private final int maxLevels = 10;
+    public static final int MAX_LEVELS = 10;
     public int currentLevel = 0;
 
     public LevelSelectScreen(SceneManager sceneManager) {
@@ -56,11 +59,14 @@ public class LevelSelectScreen extends Screen {
         // press to select level & back to home
         level.setOnAction(
                 e -> {
-                    MapLoader.LevelData levelData =
-                            MapLoader.loadLevel("level_" + (currentLevel + 1));
-                    ((GameScreen) sceneManager.getScreen(ScreenType.GAME))
-                            .getGameManager()
-                            .setCurrentLvl(levelData);
+                    CompiledLevel levelData =
+                            MapLoader.loadCompiledLevel(MapLoader.levelName(currentLevel + 1));
+                    MapLoader.prefetchAround(currentLevel + 1);
+                    GameManager manager =
+                            ((GameScreen) sceneManager.getScreen(ScreenType.GAME)).getGameManager();
+                    // every match gets its own seed
+                    manager.setSeed(GameRandom.newSeed());
+                    manager.setCurrentLevel(levelData);
                     sceneManager.switchScreen(ScreenType.GAME);
                 });
 
@@ -71,7 +77,7 @@ public class LevelSelectScreen extends Screen {
                     if (currentLevel > 0) {
                         currentLevel--;
                     } else {
-                        currentLevel = maxLevels - 1;
+                        currentLevel = MAX_LEVELS - 1;
                     }
                     updateLevel(level);
                 });
@@ -80,9 +86,9 @@ public class LevelSelectScreen extends Screen {
         right.setOnAction(
                 e -> {
                     Platform.runLater(root::requestFocus);
-                    if (currentLevel < maxLevels) {
+                    if (currentLevel < MAX_LEVELS) {
                         currentLevel++;
-                        currentLevel %= maxLevels;
+                        currentLevel %= MAX_LEVELS;
                         updateLevel(level);
                     }
                 });
@@ -133,10 +139,12 @@ public class LevelSelectScreen extends Screen {
      */
     private void updateLevel(Button level) {
         level.setText("Level " + (currentLevel + 1));
+        MapLoader.prefetchAround(currentLevel + 1);
     }
 
     @Override
     public void onStart() {
         Platform.runLater(root::requestFocus);
+        MapLoader.prefetchAround(currentLevel + 1);
     }
 }
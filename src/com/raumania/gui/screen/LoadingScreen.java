@@ -0,0 +1,36 @@
+package com.raumania.gui.screen;
+
+import com.raumania.main.Main;
+import com.raumania.utils.AssetPreloader;
+import com.raumania.utils.UIUtils;
+
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.Background;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+
+/** Screen shown while the {@link AssetPreloader} loads the game's assets. */
+public class LoadingScreen extends Screen {
+    private static final double BAR_WIDTH = 400;
+
+    /**
+     * Creates a loading screen whose progress bar follows {@code preloader}.
+     *
+     * @param preloader the preloader to show the progress of
+     */
+    public LoadingScreen(AssetPreloader preloader) {
+        super();
+        root.setBackground(Background.fill(Color.BLACK));
+
+        Text title = UIUtils.centerText("Loading...", 300, 2.0, 2.0);
+        title.setFill(Color.WHITE);
+
+        ProgressBar bar = new ProgressBar();
+        bar.setPrefWidth(BAR_WIDTH);
+        bar.setLayoutX((Main.WINDOW_WIDTH - BAR_WIDTH) / 2);
+        bar.setLayoutY(350);
+        bar.progressProperty().bind(preloader.progressProperty());
+
+        root.getChildren().addAll(title, bar);
+    }
+}
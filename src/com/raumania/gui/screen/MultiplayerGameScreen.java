@@ -1,10 +1,17 @@
 package com.raumania.gui.screen;
 
+import com.raumania.core.AnimationClock;
 import com.raumania.core.AudioManager;
+import com.raumania.core.FixedTimestep;
+import com.raumania.core.GameRandom;
 import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameEvent;
 import com.raumania.gameplay.manager.GameManager;
 import com.raumania.gameplay.manager.InputHandler;
 import com.raumania.gui.manager.SceneManager;
+import com.raumania.gui.render.GameRenderer;
+import com.raumania.gui.render.RenderMode;
+import com.raumania.gui.render.RendererFactory;
 import com.raumania.main.Main;
 import com.raumania.utils.ResourcesLoader;
 import com.raumania.utils.UIUtils;
@@ -26,6 +33,7 @@ import javafx.scene.transform.Translate;
 import javafx.util.Duration;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class MultiplayerGameScreen extends Screen {
     private final Button pause;
@@ -47,11 +55,15 @@ public class MultiplayerGameScreen extends Screen {
     private final Text homeChooseArrowRight;
     private final GameManager leftManager;
     private final GameManager rightManager;
+    private final StackPane gamePane;
     private final Text title;
     private final Text title1;
+    private GameRenderer leftRenderer;
+    private GameRenderer rightRenderer;
     private InputHandler leftInputHandler;
     private InputHandler rightInputHandler;
     private AnimationTimer loop;
+    private FixedTimestep timestep;
     private long past = -1;
     private int pauseState = 0;
     private int pauseCnt = 0;
@@ -64,42 +76,38 @@ public class MultiplayerGameScreen extends Screen {
 
         this.leftManager = new GameManager();
         // handle game over state
-        this.leftManager
-                .gameStateProperty()
-                .addListener(
-                        (obs, oldState, newState) -> {
-                            if (newState == GameManager.GameState.GAME_OVER) {
-                                if (leftManager.isWinner()) {
-                                    onPlayerWin(1);
-                                } else {
-                                    onPlayerWin(2);
-                                }
-                                PauseTransition pause = new PauseTransition();
-                                pause.setDuration(Duration.seconds(2));
-                                pause.setOnFinished(
-                                        e -> sceneManager.switchScreen(ScreenType.HOME));
-                                pause.play();
-                            }
-                        });
+        this.leftManager.addListener(
+                event -> {
+                    if (event.type() == GameEvent.Type.STATE_CHANGED
+                            && leftManager.getGameState() == GameManager.GameState.GAME_OVER) {
+                        if (leftManager.isWinner()) {
+                            onPlayerWin(1);
+                        } else {
+                            onPlayerWin(2);
+                        }
+                        PauseTransition pause = new PauseTransition();
+                        pause.setDuration(Duration.seconds(2));
+                        pause.setOnFinished(e -> sceneManager.switchScreen(ScreenType.HOME));
+                        pause.play();
+                    }
+                });
 
         this.rightManager = new GameManager();
-        this.rightManager
-                .gameStateProperty()
-                .addListener(
-                        (obs, oldState, newState) -> {
-                            if (newState == GameManager.GameState.GAME_OVER) {
-                                if (rightManager.isWinner()) {
-                                    onPlayerWin(2);
-                                } else {
-                                    onPlayerWin(1);
-                                }
-                                PauseTransition pause = new PauseTransition();
-                                pause.setDuration(Duration.seconds(2));
-                                pause.setOnFinished(
-                                        e -> sceneManager.switchScreen(ScreenType.HOME));
-                                pause.play();
-                            }
-                        });
+        this.rightManager.addListener(
+                event -> {
+                    if (event.type() == GameEvent.Type.STATE_CHANGED
+                            && rightManager.getGameState() == GameManager.GameState.GAME_OVER) {
+                        if (rightManager.isWinner()) {
+                            onPlayerWin(2);
+                        } else {
+                            onPlayerWin(1);
+                        }
+                        PauseTransition pause = new PauseTransition();
+                        pause.setDuration(Duration.seconds(2));
+                        pause.setOnFinished(e -> sceneManager.switchScreen(ScreenType.HOME));
+                        pause.play();
+                    }
+                });
 
         winPane = new Pane();
         winPane.setBackground(
@@ -313,21 +321,9 @@ public class MultiplayerGameScreen extends Screen {
                     rightInputHandler.onKeyReleased(e.getCode());
                 });
 
-        Pane leftGame = leftManager.getRoot();
-        leftGame.setClip(new Rectangle(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT));
-        leftGame.getTransforms().add(new Translate(30, GameScreen.GAME_START_Y));
-
-        Pane rightGame = rightManager.getRoot();
-        rightGame.setClip(new Rectangle(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT));
-        rightGame
-                .getTransforms()
-                .add(
-                        new Translate(
-                                Main.WINDOW_WIDTH - GameScreen.GAME_WIDTH - 30,
-                                GameScreen.GAME_START_Y));
-
-        StackPane gamePane = new StackPane();
-        gamePane.getChildren().addAll(leftGame, rightGame, gamePlayScreen);
+        gamePane = new StackPane();
+        gamePane.getChildren().add(gamePlayScreen);
+        applyRenderMode();
         root.getChildren().addAll(gamePane, mainPause, backChoice, winPane);
 
         Background bg =
@@ -341,16 +337,53 @@ public class MultiplayerGameScreen extends Screen {
         root.setBackground(bg);
     }
 
+    /**
+     * Switches both boards to the renderer selected in the settings if it differs from the
+     * current one.
+     */
+    private void applyRenderMode() {
+        RenderMode mode = SettingScreen.sharedConfig.getRenderMode();
+        if (leftRenderer != null && leftRenderer.getMode() == mode) {
+            return;
+        }
+        if (leftRenderer != null) {
+            gamePane.getChildren().removeAll(leftRenderer.getRoot(), rightRenderer.getRoot());
+            leftRenderer.dispose();
+            rightRenderer.dispose();
+        }
+        leftRenderer = RendererFactory.createRenderer(mode, leftManager);
+        Pane leftGame = leftRenderer.getRoot();
+        leftGame.setClip(new Rectangle(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT));
+        leftGame.getTransforms().add(new Translate(30, GameScreen.GAME_START_Y));
+
+        rightRenderer = RendererFactory.createRenderer(mode, rightManager);
+        Pane rightGame = rightRenderer.getRoot();
+        rightGame.setClip(new Rectangle(GameScreen.GAME_WIDTH, GameScreen.GAME_HEIGHT));
+        rightGame
+                .getTransforms()
+                .add(
+                        new Translate(
+                                Main.WINDOW_WIDTH - GameScreen.GAME_WIDTH - 30,
+                                GameScreen.GAME_START_Y));
+
+        gamePane.getChildren().addAll(0, List.of(leftGame, rightGame));
+    }
+
     @Override
     public void onStart() {
         // stop any playing music
         AudioManager.getInstance().stop();
+        applyRenderMode();
 
         Platform.runLater(this::updateCnt);
         UIUtils.setCenterText(title);
         UIUtils.setCenterText(title1);
 
-        MapLoader.LevelData lv = generateRandomLevel();
+        // both boards play the same level with the same random drops
+        long seed = GameRandom.newSeed();
+        leftManager.setSeed(seed);
+        rightManager.setSeed(seed);
+        MapLoader.LevelData lv = generateRandomLevel(GameRandom.forLevel(seed));
         leftManager.setCurrentLvl(lv);
         rightManager.setCurrentLvl(lv);
 
@@ -380,17 +413,33 @@ public class MultiplayerGameScreen extends Screen {
         winPane.setVisible(false);
 
         past = -1;
+        timestep =
+                new FixedTimestep(
+                        SettingScreen.sharedConfig.getSimRate(), FixedTimestep.DEFAULT_MAX_STEPS);
         loop =
                 new AnimationTimer() {
                     @Override
                     public void handle(long now) {
                         if (past < 0) {
                             past = now;
+                            timestep.reset();
                             return;
                         }
-                        double dt = (now - past) / 1_000_000_000.0;
+                        double frameTime = (now - past) / 1_000_000_000.0;
                         past = now;
-                        leftManager.update(dt);
+                        // both boards advance in lockstep
+                        int steps = timestep.advance(frameTime);
+                        for (int i = 0; i < steps; i++) {
+                            leftInputHandler.poll();
+                            rightInputHandler.poll();
+                            leftManager.update(timestep.getStepSeconds());
+                            rightManager.update(timestep.getStepSeconds());
+                        }
+
+                        if (leftManager.getGameState() != GameManager.GameState.PAUSED) {
+                            AnimationClock.getInstance().advance(frameTime);
+                        }
+                        leftRenderer.render(timestep.getAlpha(), frameTime);
                         leftScore.setText("Score: " + leftManager.getScore());
                         if (leftHearts.size() > leftManager.getLives()) {
                             for (int i = leftHearts.size() - 1; i >= leftManager.getLives(); i--) {
@@ -399,7 +448,7 @@ public class MultiplayerGameScreen extends Screen {
                             }
                         }
 
-                        rightManager.update(dt);
+                        rightRenderer.render(timestep.getAlpha(), frameTime);
                         rightScore.setText("Score: " + rightManager.getScore());
                         if (rightHearts.size() > rightManager.getLives()) {
                             for (int i = rightHearts.size() - 1; i >= rightManager.getLives(); i--) {
@@ -471,18 +520,19 @@ public class MultiplayerGameScreen extends Screen {
         AudioManager.getInstance().playSFX(AudioManager.GAME_OVER_SFX);
     }
 
-    private MapLoader.LevelData generateRandomLevel() {
+    private MapLoader.LevelData generateRandomLevel(RandomGenerator random) {
         Map<String, String> legends = new HashMap<>();
         legends.put("0", "empty");
         legends.put("1", "normal");
 
         List<String> bricks = new ArrayList<>();
         List<String> colors = new ArrayList<>();
-        for (int i = 0; i < new Random().nextInt(7) + 4; i++) {
+        int rows = random.nextInt(7) + 4;
+        for (int i = 0; i < rows; i++) {
             StringBuilder layout = new StringBuilder();
             StringBuilder color = new StringBuilder();
             for (int j = 0; j < 13; j++) {
-                double rand = Math.random();
+                double rand = random.nextDouble();
                 layout.append(rand > 0.25 ? 1 : 0);
                 color.append(1);
             }
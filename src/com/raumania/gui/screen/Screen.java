@@ -12,6 +12,11 @@ public abstract class Screen {
     protected final Pane root;
 
     public Screen(SceneManager sceneManager) {
+        this();
+    }
+
+    /** Creates a screen that is shown outside of a {@link SceneManager}, e.g. while loading. */
+    protected Screen() {
         this.root = new Pane();
         this.scene =
                 new Scene(
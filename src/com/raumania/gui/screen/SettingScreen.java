@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.DatabindException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.raumania.core.AudioManager;
 import com.raumania.gui.manager.SceneManager;
+import com.raumania.gui.render.RenderMode;
 import com.raumania.utils.ResourcesLoader;
 import com.raumania.utils.UIUtils;
 
@@ -26,20 +27,19 @@ import java.io.IOException;
 public class SettingScreen extends Screen {
     // file to save the volume
     private static final String CONFIG_FILE = "config.json";
-    private static final Config DEFAULT_CONFIG = new Config(100, "A", "D", "LEFT", "RIGHT");
+    private static final Config DEFAULT_CONFIG = new Config(100, "A", "D", "LEFT", "RIGHT", null, null);
     public static Config sharedConfig = DEFAULT_CONFIG;
     private final Button firstLeftKeyButton;
     private final Button firstRightKeyButton;
     private final Button secondLeftKeyButton;
     private final Button secondRightKeyButton;
+    private final Button simRateButton;
+    private final Button renderModeButton;
     private Button activeButton;
 
     public SettingScreen(SceneManager sceneManager) {
         super(sceneManager);
 
-        this.loadConfig();
-        AudioManager.getInstance().setVolume(sharedConfig.getVolume());
-
         // put components here
         // Volume Text
         Text volumeText =
@@ -77,7 +77,7 @@ public class SettingScreen extends Screen {
         //        volumeBox.getChildren().addAll(volumeText, slider);
 
         // Back to Home button
-        Button back = UIUtils.centerButton("Back to Home", 500, 2.0, 2.0);
+        Button back = UIUtils.centerButton("Back to Home", 560, 2.0, 2.0);
         back.setOnAction(
                 e -> {
                     sceneManager.switchScreen(ScreenType.HOME);
@@ -121,6 +121,36 @@ public class SettingScreen extends Screen {
         //        secondRight.setAlignment(Pos.CENTER_LEFT);
         //        secondRight.getChildren().addAll(secondRightKeyText, secondRightKeyButton);
 
+        Text simRateText = UIUtils.newText("Physics Rate", 100, 450, 2.0, 2.0);
+        simRateText.setFill(Color.WHITE);
+        simRateButton = UIUtils.newButton(sharedConfig.getSimRate() + " Hz", 450, 435, 2.0, 2.0);
+        simRateButton.setOnAction(
+                e -> {
+                    Platform.runLater(root::requestFocus);
+                    int[] rates = Config.SIM_RATES;
+                    int next = 0;
+                    for (int i = 0; i < rates.length; i++) {
+                        if (rates[i] == sharedConfig.simRate) {
+                            next = (i + 1) % rates.length;
+                        }
+                    }
+                    sharedConfig.simRate = rates[next];
+                    simRateButton.setText(sharedConfig.simRate + " Hz");
+                    saveConfig();
+                });
+
+        Text renderModeText = UIUtils.newText("Renderer", 100, 500, 2.0, 2.0);
+        renderModeText.setFill(Color.WHITE);
+        renderModeButton =
+                UIUtils.newButton(sharedConfig.getRenderMode().getLabel(), 450, 485, 2.0, 2.0);
+        renderModeButton.setOnAction(
+                e -> {
+                    Platform.runLater(root::requestFocus);
+                    sharedConfig.renderMode = sharedConfig.renderMode.next();
+                    renderModeButton.setText(sharedConfig.renderMode.getLabel());
+                    saveConfig();
+                });
+
         //        VBox textBox = new VBox(50);
         //        textBox.setAlignment(Pos.TOP_LEFT);
         //        textBox.setLayoutX(100);
@@ -141,6 +171,10 @@ public class SettingScreen extends Screen {
                         secondRightKeyText,
                         secondLeftKeyButton,
                         secondRightKeyButton,
+                        simRateText,
+                        simRateButton,
+                        renderModeText,
+                        renderModeButton,
                         back);
 
         Background bg =
@@ -222,16 +256,18 @@ public class SettingScreen extends Screen {
     }
 
     /** Get the config from {@value CONFIG_FILE}. If not exists then use default. */
-    private void loadConfig() {
+    public static void loadConfig() {
         File file = new File(CONFIG_FILE);
         if (!file.exists() || file.length() == 0) {
             sharedConfig = DEFAULT_CONFIG;
+            AudioManager.getInstance().setVolume(sharedConfig.getVolume());
             return;
         }
 
         ObjectMapper mapper = new ObjectMapper();
         try {
             sharedConfig = mapper.readValue(file, Config.class);
+            AudioManager.getInstance().setVolume(sharedConfig.getVolume());
         } catch (DatabindException e) {
             System.err.println("Config file has corrupted structure!");
         } catch (StreamReadException e) {
@@ -247,7 +283,12 @@ public class SettingScreen extends Screen {
     }
 
     public static class Config {
+        /** Fixed simulation rates the player can choose from, in steps per second. */
+        public static final int[] SIM_RATES = {120, 240};
+
         private int volume;
+        private int simRate;
+        private RenderMode renderMode;
         @JsonIgnore private KeyCode firstLeftKey;
         @JsonIgnore private KeyCode firstRightKey;
         @JsonIgnore private KeyCode secondLeftKey;
@@ -258,8 +299,12 @@ public class SettingScreen extends Screen {
                 @JsonProperty("firstLeftKey") String firstLeftKey,
                 @JsonProperty("firstRightKey") String firstRightKey,
                 @JsonProperty("secondLeftKey") String secondLeftKey,
-                @JsonProperty("secondRightKey") String secondRightKey) {
+                @JsonProperty("secondRightKey") String secondRightKey,
+                @JsonProperty("simRate") Integer simRate,
+                @JsonProperty("renderMode") String renderMode) {
             this.volume = volume;
+            this.simRate = getSimRate(simRate);
+            this.renderMode = RenderMode.fromName(renderMode, RenderMode.SCENE_GRAPH);
 
             this.firstLeftKey = getKey(firstLeftKey, KeyCode.A);
             this.firstRightKey = getKey(firstRightKey, KeyCode.D);
@@ -278,6 +323,27 @@ public class SettingScreen extends Screen {
             }
         }
 
+        private int getSimRate(Integer rate) {
+            if (rate != null) {
+                for (int allowed : SIM_RATES) {
+                    if (allowed == rate) {
+                        return rate;
+                    }
+                }
+            }
+            return SIM_RATES[0];
+        }
+
+        @JsonGetter
+        public int getSimRate() {
+            return simRate;
+        }
+
+        @JsonGetter
+        public RenderMode getRenderMode() {
+            return renderMode;
+        }
+
         public KeyCode getFirstLeftKey() {
             return firstLeftKey;
         }
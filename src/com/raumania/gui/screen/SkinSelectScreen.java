@@ -35,8 +35,6 @@ public class SkinSelectScreen extends Screen {
     public SkinSelectScreen(SceneManager sceneManager) {
         super(sceneManager);
 
-        this.loadConfig();
-
         // paddle
         Text paddleText = UIUtils.newText("Paddle: ", 100, 200, 2.0, 2.0);
         paddleText.setFill(Color.WHITE);
@@ -217,7 +215,7 @@ public class SkinSelectScreen extends Screen {
     }
 
     /** load current config from FILE to the game. */
-    private void loadConfig() {
+    public static void loadConfig() {
         File file = new File(CONFIG_FILE);
         if (!file.exists() || file.length() == 0) {
             sharedConfig = DEFAULT_CONFIG;
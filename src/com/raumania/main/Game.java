@@ -1,23 +1,100 @@
 package com.raumania.main;
 
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.replay.Replay;
 import com.raumania.gui.manager.SceneManager;
+import com.raumania.gui.screen.GameScreen;
+import com.raumania.gui.screen.LoadingScreen;
 import com.raumania.gui.screen.ScreenType;
+import com.raumania.utils.AssetPreloader;
+import com.raumania.utils.ResourcesLoader;
 
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
 /** Main game class that initializes and starts the game. */
 public class Game {
-    private final SceneManager sceneManager;
+    // assets decoded before the first screen is built; sprites are loaded with the atlas
+    private static final String[] IMAGES = {
+        "homescreen_bg.png", "gamescreen_bg.png", "gamepane_bg.png", "heart.png"
+    };
+    private static final String[] MUSIC = {"home_bgm.mp3"};
+    private static final String[] SFX = {
+        "game_over.wav", "brick_hit.wav", "paddle_hit.wav", "explosion.mp3"
+    };
+
     private final Stage primaryStage;
+    private final Path replayFile;
+    private SceneManager sceneManager;
 
     public Game(Stage primaryStage) {
+        this(primaryStage, null);
+    }
+
+    /**
+     * Creates the game.
+     *
+     * @param primaryStage the window
+     * @param replayFile   a recorded match to play back after loading, or {@code null} to show
+     *                     the home screen
+     */
+    public Game(Stage primaryStage, Path replayFile) {
         this.primaryStage = primaryStage;
-        this.sceneManager = new SceneManager(primaryStage);
+        this.replayFile = replayFile;
     }
 
-    /** Start the home screen. */
+    /**
+     * Show the loading screen, preload all assets, then start the home screen, or the playback of
+     * the replay file if there is one.
+     */
     public void start() {
-        sceneManager.switchScreen(ScreenType.HOME);
+        AssetPreloader preloader = createPreloader();
+        primaryStage.setScene(new LoadingScreen(preloader).getScene());
         primaryStage.show();
+        preloader.start(() -> {
+            sceneManager = new SceneManager(primaryStage);
+            sceneManager.switchScreen(ScreenType.HOME);
+            if (replayFile != null) {
+                playReplay();
+            }
+            System.out.printf("Preloaded %d assets in %d ms (%d failed), interactive after %d ms%n",
+                    preloader.getAssetCount(), preloader.getElapsedNanos() / 1_000_000,
+                    preloader.getFailures().size(),
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+            System.out.println(sceneManager.getTimingReport());
+        });
+    }
+
+    private void playReplay() {
+        try {
+            Replay replay = Replay.load(replayFile);
+            ((GameScreen) sceneManager.getScreen(ScreenType.GAME)).playReplay(replay);
+            sceneManager.switchScreen(ScreenType.GAME);
+        } catch (IOException e) {
+            System.err.println("Cant read replay file " + replayFile + ": " + e.getMessage());
+        }
+    }
+
+    private static AssetPreloader createPreloader() {
+        AssetPreloader preloader = new AssetPreloader();
+        preloader.add("texture atlas", ResourcesLoader::getAtlas);
+        for (String image : IMAGES) {
+            preloader.add(image, () -> ResourcesLoader.loadImage(image));
+        }
+        preloader.add(SceneManager.FONT,
+                () -> ResourcesLoader.loadFont(SceneManager.FONT, SceneManager.FONT_SIZE));
+        for (String music : MUSIC) {
+            preloader.add(music, () -> ResourcesLoader.loadMusic(music));
+        }
+        for (String sfx : SFX) {
+            preloader.add(sfx, () -> ResourcesLoader.loadSFX(sfx));
+        }
+        // the other levels are prefetched around the one shown in level select
+        String firstLevel = MapLoader.levelName(1);
+        preloader.add(firstLevel, () -> MapLoader.loadCompiledLevel(firstLevel));
+        return preloader;
     }
 }
@@ -3,6 +3,9 @@ package com.raumania.main;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.nio.file.Path;
+import java.util.List;
+
 public class Main extends Application {
     public static final int WINDOW_WIDTH = 1120;
     public static final int WINDOW_HEIGHT = 720;
@@ -19,7 +22,12 @@ public class Main extends Application {
         primaryStage.setHeight(WINDOW_HEIGHT);
         primaryStage.setResizable(false);
 
-        Game game = new Game(primaryStage);
+        // --replay <file> plays a recorded match back instead of showing the home screen
+        List<String> args = getParameters().getRaw();
+        int replay = args.indexOf("--replay");
+        Path replayFile = replay >= 0 && replay + 1 < args.size()
+                ? Path.of(args.get(replay + 1)) : null;
+        Game game = new Game(primaryStage, replayFile);
         game.start();
     }
 }
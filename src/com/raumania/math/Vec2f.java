@@ -6,6 +6,10 @@ package com.raumania.math;
  * <p>This utility class is mainly used for representing directions, positions, or velocities in
  * game logic. Although the fields {@link #x} and {@link #y} are public, most operations return a
  * new {@code Vec2f} for convenience.
+ *
+ * <p>Code that runs every simulation step should use the in-place variants instead ({@link
+ * #addInPlace(Vec2f)}, {@link #scaleInPlace(double)}, {@link #rotateInto(double, Vec2f)}, {@link
+ * #setFromAngle(double)}), which write into an existing vector and allocate nothing.
  */
 public class Vec2f {
     public double x, y;
@@ -34,6 +38,19 @@ public class Vec2f {
         return this;
     }
 
+    /**
+     * Sets this vector to the unit vector at the given angle, measured counter-clockwise from the
+     * positive x axis.
+     *
+     * @param radians the angle in radians
+     * @return this vector for chaining
+     */
+    public Vec2f setFromAngle(double radians) {
+        this.x = Math.cos(radians);
+        this.y = Math.sin(radians);
+        return this;
+    }
+
     /**
      * Computes the Euclidean length (magnitude) of this vector.
      *
@@ -69,6 +86,18 @@ public class Vec2f {
         return new Vec2f(x * s, y * s);
     }
 
+    /**
+     * Scales this vector in place.
+     *
+     * @param s scalar multiplier
+     * @return this vector for chaining
+     */
+    public Vec2f scaleInPlace(double s) {
+        x *= s;
+        y *= s;
+        return this;
+    }
+
     /**
      * Creates a new vector equal to the sum of this vector and another.
      *
@@ -79,6 +108,31 @@ public class Vec2f {
         return new Vec2f(x + other.x, y + other.y);
     }
 
+    /**
+     * Adds another vector to this one in place.
+     *
+     * @param other the vector to add
+     * @return this vector for chaining
+     */
+    public Vec2f addInPlace(Vec2f other) {
+        x += other.x;
+        y += other.y;
+        return this;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param dx the x component to add
+     * @param dy the y component to add
+     * @return this vector for chaining
+     */
+    public Vec2f addInPlace(double dx, double dy) {
+        x += dx;
+        y += dy;
+        return this;
+    }
+
     /**
      * Rotates this vector by the given angle (in degrees). Positive angles rotate
      * counter-clockwise, negative angles clockwise.
@@ -96,4 +150,22 @@ public class Vec2f {
 
         return new Vec2f(newX, newY);
     }
+
+    /**
+     * Rotates this vector by the given angle (in degrees) and stores the result in {@code out},
+     * which may be this vector itself. This vector is left unchanged unless it is {@code out}.
+     *
+     * @param degree the rotation angle in degrees, counter-clockwise for positive angles
+     * @param out the vector receiving the result
+     * @return {@code out}
+     */
+    public Vec2f rotateInto(double degree, Vec2f out) {
+        double rad = Math.toRadians(degree);
+        double cos = Math.cos(rad);
+        double sin = Math.sin(rad);
+        // read both components before writing, out may be this vector
+        double newX = x * cos - y * sin;
+        double newY = x * sin + y * cos;
+        return out.set(newX, newY);
+    }
 }
@@ -0,0 +1,147 @@
+package com.raumania.utils;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads assets in parallel on a pool of worker threads before the game is shown.
+ *
+ * <p>Each asset is a task that loads it into one of the shared caches ({@link ResourcesLoader},
+ * {@link com.raumania.core.MapLoader}), so screens and factories that ask for it later get the
+ * already decoded copy. The FX thread stays free to draw a progress bar bound to {@link
+ * #progressProperty()}; the property and the finish callback are only touched on the FX thread.
+ *
+ * <p>A failing asset is reported and counted but does not stop the others, the code that uses it
+ * fails the same way it would without preloading.
+ */
+public class AssetPreloader {
+    private record Asset(String name, Runnable loader) {
+    }
+
+    private final List<Asset> assets = new ArrayList<>();
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+    private final int threads;
+    private long startNanos;
+    private volatile long elapsedNanos = -1;
+
+    /** Creates a preloader using one thread per core, leaving one core to the FX thread. */
+    public AssetPreloader() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Creates a preloader.
+     *
+     * @param threads number of worker threads
+     */
+    public AssetPreloader(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Adds an asset to load. Must be called before {@link #start(Runnable)}.
+     *
+     * @param name name of the asset, used in error messages
+     * @param loader loads the asset into its cache; runs on a worker thread
+     */
+    public void add(String name, Runnable loader) {
+        assets.add(new Asset(name, loader));
+    }
+
+    /**
+     * Starts loading all assets in the background.
+     *
+     * @param onFinished called on the FX thread once every asset is loaded or has failed
+     */
+    public void start(Runnable onFinished) {
+        startNanos = System.nanoTime();
+        if (assets.isEmpty()) {
+            finish(onFinished);
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "asset-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[assets.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            Asset asset = assets.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> load(asset), pool);
+        }
+        CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+            pool.shutdown();
+            finish(onFinished);
+        });
+    }
+
+    private void load(Asset asset) {
+        try {
+            asset.loader().run();
+        } catch (RuntimeException e) {
+            System.err.println("Error preloading asset: " + asset.name());
+            e.printStackTrace();
+            failures.add(asset.name());
+        }
+        loaded.incrementAndGet();
+        // read the counter on the FX thread so the bar never moves backwards
+        Platform.runLater(() -> progress.set((double) loaded.get() / assets.size()));
+    }
+
+    private void finish(Runnable onFinished) {
+        elapsedNanos = System.nanoTime() - startNanos;
+        Platform.runLater(() -> {
+            progress.set(1);
+            onFinished.run();
+        });
+    }
+
+    /**
+     * Returns the fraction of assets loaded so far, from 0 to 1. Updated on the FX thread.
+     *
+     * @return the progress property
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of assets added.
+     *
+     * @return the asset count
+     */
+    public int getAssetCount() {
+        return assets.size();
+    }
+
+    /**
+     * Returns the names of the assets that failed to load.
+     *
+     * @return a copy of the failed asset names
+     */
+    public List<String> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+
+    /**
+     * Returns how long loading took.
+     *
+     * @return the loading time in nanoseconds, or -1 while still loading
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,184 @@
+package com.raumania.utils;
+
+import javafx.scene.image.Image;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of decoded images keyed by resource name.
+ *
+ * <p>The cache is limited by the memory the decoded pixels take ({@code width * height * 4}
+ * bytes), not by the number of entries, so a few full-screen backgrounds weigh as much as many
+ * small sprites. When the budget is exceeded the least recently used images are evicted. An image
+ * larger than the whole budget is returned without being cached.
+ *
+ * <p>Images may be loaded from worker threads. Every entry is the pending or finished decode of
+ * an image, so callers asking for the same image at the same time share a single decode, and the
+ * decode itself runs outside the lock: several threads decode different images in parallel and
+ * only publishing the result is synchronized. An image still being decoded does not count toward
+ * the budget and is never evicted.
+ *
+ * <p>Hits, misses and evictions are counted so the effect of the cache can be checked at runtime;
+ * a {@link #get(String, Function)} that finds a decode still running counts as a hit and waits
+ * for it.
+ */
+public class ImageCache {
+    private final long capacityBytes;
+    // access order: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CompletableFuture<Image>> images =
+            new LinkedHashMap<>(64, 0.75f, true);
+    private long sizeBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacityBytes maximum decoded size of all cached images, in bytes
+     */
+    public ImageCache(long capacityBytes) {
+        if (capacityBytes <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacityBytes);
+        }
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Returns the cached image for {@code name}, decoding it with {@code loader} on a miss.
+     *
+     * @param name resource name of the image
+     * @param loader decodes the image on a miss
+     * @return the shared image
+     */
+    public Image get(String name, Function<String, Image> loader) {
+        CompletableFuture<Image> entry;
+        boolean load = false;
+        synchronized (this) {
+            entry = images.get(name);
+            if (entry != null) {
+                hits++;
+            } else {
+                misses++;
+                entry = new CompletableFuture<>();
+                images.put(name, entry);
+                load = true;
+            }
+        }
+        if (load) {
+            load(name, entry, loader);
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String name, CompletableFuture<Image> entry,
+                      Function<String, Image> loader) {
+        Image image;
+        try {
+            image = loader.apply(name);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                images.remove(name, entry);
+            }
+            entry.completeExceptionally(e);
+            return;
+        }
+        publish(name, entry, image);
+    }
+
+    private synchronized void publish(String name, CompletableFuture<Image> entry, Image image) {
+        // the entry may have been cleared while decoding, then the image is not kept
+        if (images.get(name) == entry) {
+            long size = sizeOf(image);
+            if (size > capacityBytes) {
+                images.remove(name);
+            } else {
+                sizeBytes += size;
+            }
+        }
+        entry.complete(image);
+        evict();
+    }
+
+    /**
+     * Checks whether an image is cached, without counting a hit or changing its recency.
+     *
+     * @param name resource name of the image
+     * @return {@code true} if the image is in the cache
+     */
+    public synchronized boolean contains(String name) {
+        return images.containsKey(name);
+    }
+
+    /** Removes every image from the cache. The counters are kept. */
+    public synchronized void clear() {
+        images.clear();
+        sizeBytes = 0;
+    }
+
+    /** Resets the hit, miss and eviction counters to zero. */
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getCount() {
+        return images.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getCapacityBytes() {
+        return capacityBytes;
+    }
+
+    /**
+     * Returns the memory taken by the decoded pixels of an image.
+     *
+     * @param image a loaded image
+     * @return the decoded size in bytes, assuming 4 bytes per pixel
+     */
+    public static long sizeOf(Image image) {
+        return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, CompletableFuture<Image>>> it = images.entrySet().iterator();
+        while (sizeBytes > capacityBytes && it.hasNext()) {
+            CompletableFuture<Image> entry = it.next().getValue();
+            if (!entry.isDone()) {
+                continue;
+            }
+            sizeBytes -= sizeOf(entry.join());
+            it.remove();
+            evictions++;
+        }
+    }
+}
@@ -1,13 +1,40 @@
 package com.raumania.utils;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.text.Font;
 
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ResourcesLoader {
+    /** Budget of the image cache, in decoded bytes. */
+    public static final long IMAGE_CACHE_BYTES = 16L * 1024 * 1024;
+    private static final int ATLAS_WIDTH = 512;
+    // game sprites packed into the texture atlas; backgrounds and the HUD heart stay separate
+    private static final String[] ATLAS_SPRITES = {
+        "brick0.png", "brick1.png", "brick2.png", "brick3.png", "brick4.png",
+        "brick5.png", "brick6.png", "brick7.png", "brick8.png",
+        "strongbrick.png", "explosive_brick.png",
+        "brick_hit0.png", "brick_hit1.png", "brick_hit2.png", "brick_hit3.png", "brick_hit4.png",
+        "brick_hit5.png", "brick_hit6.png", "brick_hit7.png", "brick_hit8.png", "brick_hit9.png",
+        "paddle0.png", "paddle1.png", "paddle2.png", "paddle3.png", "paddle4.png",
+        "addballpowerup.png", "extendpaddlepowerup.png", "immortalpowerup.png", "slowpowerup.png",
+        "boss_planet.png", "boss_pyramid.png",
+        "ve_explosion.png"
+    };
+
+    private static final ImageCache imageCache = new ImageCache(IMAGE_CACHE_BYTES);
+    private static volatile TextureAtlas atlas;
+    // decoded audio and fonts, shared by every caller and safe to fill from worker threads
+    private static final Map<String, Media> music = new ConcurrentHashMap<>();
+    private static final Map<String, AudioClip> sfx = new ConcurrentHashMap<>();
+    private static final Map<String, Font> fonts = new ConcurrentHashMap<>();
+
     private static String load(String path) {
         URL url = ResourcesLoader.class.getResource(path);
         if (url == null) {
@@ -18,30 +45,98 @@ public class ResourcesLoader {
     }
 
     /**
-     * Load image from resources/images folder
+     * Load image from resources/images folder. Images are decoded once and shared through the
+     * {@link #getImageCache() image cache}.
      *
      * @param filename Only image file name (e.g. "paddle.png")
      * @return Image object
      */
     public static Image loadImage(String filename) {
+        return imageCache.get(filename, ResourcesLoader::decodeImage);
+    }
+
+    private static Image decodeImage(String filename) {
         return new Image(load("/resources/images/" + filename));
     }
 
     /**
-     * Load music from resources/music folder
+     * Returns the cache behind {@link #loadImage(String)}, e.g. to read its counters.
+     *
+     * @return the shared image cache
+     */
+    public static ImageCache getImageCache() {
+        return imageCache;
+    }
+
+    /**
+     * Returns the texture atlas of the game sprites, packing it on first use. Call this once at
+     * startup so the sprites are decoded before the first level.
+     *
+     * @return the shared texture atlas
+     */
+    public static TextureAtlas getAtlas() {
+        TextureAtlas packed = atlas;
+        if (packed == null) {
+            synchronized (ResourcesLoader.class) {
+                packed = atlas;
+                if (packed == null) {
+                    // decoded straight into the atlas, the single sprites are not cached
+                    packed = TextureAtlas.pack(ATLAS_SPRITES, ResourcesLoader::decodeImage,
+                            ATLAS_WIDTH);
+                    atlas = packed;
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Creates a view showing one image from resources/images, cut from the texture atlas if the
+     * image is packed there.
+     *
+     * @param filename Only image file name (e.g. "paddle.png")
+     * @return a new ImageView
+     */
+    public static ImageView createImageView(String filename) {
+        TextureAtlas sprites = getAtlas();
+        Rectangle2D region = sprites.getRegion(filename);
+        if (region == null) {
+            return new ImageView(loadImage(filename));
+        }
+        ImageView view = new ImageView(sprites.getImage());
+        view.setViewport(region);
+        return view;
+    }
+
+    /**
+     * Load music from resources/music folder. Each file is opened once.
      *
      * @param filename Only music file name (e.g. "background.mp3")
      * @return MediaPlayer object
      */
     public static Media loadMusic(String filename) {
-        return new Media(load("/resources/music/" + filename));
+        return music.computeIfAbsent(filename, name -> new Media(load("/resources/music/" + name)));
     }
 
+    /**
+     * Load a sound effect from resources/sfx folder. Each file is decoded once.
+     *
+     * @param filename Only sound file name (e.g. "brick_hit.wav")
+     * @return AudioClip object
+     */
     public static AudioClip loadSFX(String filename) {
-        return new AudioClip(load("/resources/sfx/" + filename));
+        return sfx.computeIfAbsent(filename, name -> new AudioClip(load("/resources/sfx/" + name)));
     }
 
+    /**
+     * Load a font from resources/fonts folder. Each file and size is loaded once.
+     *
+     * @param filename Only font file name (e.g. "pixel.otf")
+     * @param size font size
+     * @return Font object, or {@code null} if the font could not be loaded
+     */
     public static Font loadFont(String filename, double size) {
-        return Font.loadFont(load("/resources/fonts/" + filename), size);
+        return fonts.computeIfAbsent(filename + "@" + size,
+                key -> Font.loadFont(load("/resources/fonts/" + filename), size));
     }
 }
@@ -0,0 +1,172 @@
+package com.raumania.utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Many small sprites packed into one image.
+ *
+ * <p>The sprites are decoded once, when the atlas is packed, and copied onto a single {@link
+ * WritableImage}. Everything drawn from the atlas then shares one texture: creating a brick or
+ * spawning an effect only needs the sprite's {@link #getRegion(String) region}, never the PNG
+ * decoder, and the canvas renderer draws all sprites from the same image.
+ *
+ * <p>Sprites are packed on shelves, tallest first. Every sprite gets a slot rounded up to a
+ * multiple of {@link #CELL} pixels, the frame size of the game's sprite sheets, so a frame
+ * viewport at the edge of a sprite that is a bit smaller than its frames (e.g. an 11 px power-up
+ * in 16 px frames) reads transparent pixels instead of reaching into the neighbouring sprite.
+ *
+ * <p>Every slot is also surrounded by a {@link #GUTTER} filled with copies of its edge pixels.
+ * The canvas renderer scales sprites with smoothing, which samples a little outside the source
+ * rectangle; with the gutter those samples repeat the sprite's own border instead of bleeding in
+ * the neighbour, even for sprites whose sizes are already multiples of {@link #CELL} (brick hit
+ * frames, power-up strips, the explosion).
+ */
+public final class TextureAtlas {
+    /** Slot sizes are rounded up to a multiple of this. */
+    public static final int CELL = 16;
+    /** Pixels around every slot that repeat its edge pixels. */
+    public static final int GUTTER = 1;
+
+    private final Image image;
+    private final Map<String, Rectangle2D> regions;
+
+    private TextureAtlas(Image image, Map<String, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Decodes the given sprites and packs them into a new atlas.
+     *
+     * @param names resource names of the sprites
+     * @param loader decodes a sprite
+     * @param width width of the atlas, at least as wide as the widest sprite
+     * @return the packed atlas
+     */
+    public static TextureAtlas pack(String[] names, Function<String, Image> loader, int width) {
+        Image[] sprites = new Image[names.length];
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < names.length; i++) {
+            sprites[i] = loader.apply(names[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> slot(sprites[i].getHeight()))
+                .reversed());
+
+        // shelf packing: fill a row left to right, start a new one below when it is full
+        int[] slotX = new int[names.length];
+        int[] slotY = new int[names.length];
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int w = slot(sprites[i].getWidth()) + 2 * GUTTER;
+            int h = slot(sprites[i].getHeight()) + 2 * GUTTER;
+            if (w > width) {
+                throw new IllegalArgumentException(
+                        "Sprite " + names[i] + " is wider than the atlas: " + w + " > " + width);
+            }
+            if (x + w > width) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            slotX[i] = x;
+            slotY[i] = y;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+
+        WritableImage atlas = new WritableImage(width, Math.max(1, y + shelfHeight));
+        PixelWriter writer = atlas.getPixelWriter();
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            Image sprite = sprites[i];
+            int w = (int) sprite.getWidth();
+            int h = (int) sprite.getHeight();
+            PixelReader reader = sprite.getPixelReader();
+            if (reader == null) {
+                throw new IllegalStateException("Sprite could not be decoded: " + names[i]);
+            }
+            int left = slotX[i] + GUTTER;
+            int top = slotY[i] + GUTTER;
+            writer.setPixels(left, top, w, h, reader, 0, 0);
+            extrude(writer, reader, left, top, w, h, slot(w), slot(h));
+            regions.put(names[i], new Rectangle2D(left, top, w, h));
+        }
+        return new TextureAtlas(atlas, regions);
+    }
+
+    /**
+     * Fills the gutter around a slot of {@code slotW x slotH} pixels at {@code (left, top)} with
+     * the nearest pixel of the slot: the sprite's edge where the sprite reaches the slot border,
+     * transparent where the slot pads a smaller sprite.
+     */
+    private static void extrude(PixelWriter writer, PixelReader reader, int left, int top,
+                                int w, int h, int slotW, int slotH) {
+        for (int x = -GUTTER; x < slotW + GUTTER; x++) {
+            for (int g = 1; g <= GUTTER; g++) {
+                writer.setArgb(left + x, top - g, nearest(reader, w, h, slotW, slotH, x, 0));
+                writer.setArgb(left + x, top + slotH - 1 + g,
+                        nearest(reader, w, h, slotW, slotH, x, slotH - 1));
+            }
+        }
+        for (int y = 0; y < slotH; y++) {
+            for (int g = 1; g <= GUTTER; g++) {
+                writer.setArgb(left - g, top + y, nearest(reader, w, h, slotW, slotH, 0, y));
+                writer.setArgb(left + slotW - 1 + g, top + y,
+                        nearest(reader, w, h, slotW, slotH, slotW - 1, y));
+            }
+        }
+    }
+
+    /** Returns the slot pixel nearest to {@code (x, y)}, transparent outside the sprite. */
+    private static int nearest(PixelReader reader, int w, int h, int slotW, int slotH,
+                               int x, int y) {
+        x = Math.max(0, Math.min(x, slotW - 1));
+        y = Math.max(0, Math.min(y, slotH - 1));
+        return x < w && y < h ? reader.getArgb(x, y) : 0;
+    }
+
+    private static int slot(double size) {
+        return ((int) Math.ceil(size) + CELL - 1) / CELL * CELL;
+    }
+
+    /**
+     * Returns the image all sprites are packed into.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns where a sprite is in the atlas image.
+     *
+     * @param name resource name of the sprite
+     * @return the sprite's bounds in the atlas, or {@code null} if it is not packed
+     */
+    public Rectangle2D getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Returns the number of sprites in the atlas.
+     *
+     * @return the sprite count
+     */
+    public int getSpriteCount() {
+        return regions.size();
+    }
+}
@@ -1,8 +1,11 @@
 package com.raumania.core;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.List;
 
 public class AStarInstructorTest {
@@ -32,4 +35,62 @@ public class AStarInstructorTest {
         List<int[]> path = AStarInstructor.findPath(grid, 0, 0, 2, 2, false);
         Assertions.assertTrue(path.isEmpty(), "No path should exist when middle row is blocked");
     }
+
+    @Test
+    public void testInstanceReuseMatchesFreshSearch() {
+        boolean[][] open = new boolean[28][13];
+        for (boolean[] row : open) Arrays.fill(row, true);
+        boolean[][] walled = new boolean[28][13];
+        for (boolean[] row : walled) Arrays.fill(row, true);
+        for (int c = 0; c < 12; c++) walled[10][c] = false;
+
+        AStarInstructor astar = new AStarInstructor();
+        int[] out = new int[28 * 13];
+        for (boolean[][] grid : new boolean[][][] {open, walled, open, walled}) {
+            int length = astar.findPath(grid, 0, 0, 27, 0, true, out);
+            List<int[]> expected = AStarInstructor.findPath(grid, 0, 0, 27, 0, true);
+            Assertions.assertEquals(expected.size(), length);
+            for (int i = 0; i < length; i++) {
+                Assertions.assertArrayEquals(expected.get(i), new int[]{out[i] / 13, out[i] % 13});
+                Assertions.assertTrue(grid[out[i] / 13][out[i] % 13]);
+            }
+        }
+        // the wall forces a detour through the gap in the last column
+        int length = astar.findPath(walled, 0, 0, 27, 0, true, out);
+        boolean throughGap = false;
+        for (int i = 0; i < length; i++) throughGap |= out[i] == 10 * 13 + 12;
+        Assertions.assertTrue(throughGap);
+    }
+
+    @Test
+    public void testOutputBufferTooSmall() {
+        boolean[][] grid = new boolean[1][5];
+        Arrays.fill(grid[0], true);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new AStarInstructor().findPath(grid, 0, 0, 0, 4, false, new int[3]));
+    }
+
+    @Test
+    public void testSteadyStateSearchDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        boolean[][] grid = new boolean[28][13];
+        for (boolean[] row : grid) Arrays.fill(row, true);
+        for (int c = 1; c < 13; c++) grid[14][c] = false;
+
+        AStarInstructor astar = new AStarInstructor();
+        int[] out = new int[28 * 13];
+        astar.findPath(grid, 0, 12, 27, 12, true, out); // grows the working arrays
+
+        long id = Thread.currentThread().threadId();
+        threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 1000; i++) {
+            astar.findPath(grid, 0, 12, 27, 12, true, out);
+        }
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        // a single boxed node per search would already be ~16 KB
+        Assertions.assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
 }
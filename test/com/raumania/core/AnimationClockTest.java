@@ -0,0 +1,94 @@
+package com.raumania.core;
+
+import com.raumania.utils.InitializeJavaFx;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AnimationClockTest extends InitializeJavaFx {
+    private final List<SpriteSheet> playing = new ArrayList<>();
+
+    private SpriteSheet newSprite(double fps) {
+        SpriteSheet sprite = new SpriteSheet(new WritableImage(96, 16), 16, 16, 6, 6);
+        sprite.setFps(fps);
+        sprite.play();
+        playing.add(sprite);
+        return sprite;
+    }
+
+    @AfterEach
+    void stopAll() {
+        for (SpriteSheet sprite : playing) {
+            sprite.stop();
+        }
+    }
+
+    @Test
+    public void testAdvancesPlayingSpritesOnly() {
+        AnimationClock clock = AnimationClock.getInstance();
+        int before = clock.getActiveCount();
+        SpriteSheet a = newSprite(10);
+        SpriteSheet b = newSprite(10);
+        Assertions.assertEquals(before + 2, clock.getActiveCount());
+
+        clock.advance(0.1);
+        Assertions.assertEquals(1, a.getCurrentFrame());
+        Assertions.assertEquals(1, b.getCurrentFrame());
+
+        a.stop();
+        Assertions.assertFalse(a.isPlaying());
+        Assertions.assertEquals(before + 1, clock.getActiveCount());
+        clock.advance(0.1);
+        Assertions.assertEquals(1, a.getCurrentFrame());
+        Assertions.assertEquals(2, b.getCurrentFrame());
+        Assertions.assertEquals(2 * 16, b.getView().getViewport().getMinX());
+    }
+
+    @Test
+    public void testNeverSkipsTheFinalFrame() {
+        SpriteSheet sprite = newSprite(15);
+        for (int i = 0; i < 5; i++) {
+            // a long hitch still moves on by a single frame
+            AnimationClock.getInstance().advance(1.0);
+        }
+        Assertions.assertTrue(sprite.isFinalFrame());
+    }
+
+    @Test
+    public void testViewportsAreShared() {
+        SpriteSheet a = newSprite(10);
+        SpriteSheet b = newSprite(10);
+        Assertions.assertSame(a.getView().getViewport(), b.getView().getViewport());
+        AnimationClock.getInstance().advance(0.1);
+        Assertions.assertSame(a.getView().getViewport(), b.getView().getViewport());
+    }
+
+    @Test
+    public void testTickDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        for (int i = 0; i < 200; i++) {
+            newSprite(60);
+        }
+        AnimationClock clock = AnimationClock.getInstance();
+        for (int i = 0; i < 100; i++) {
+            clock.advance(1.0 / 60);
+        }
+
+        long id = Thread.currentThread().threadId();
+        threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 1000; i++) {
+            clock.advance(1.0 / 60);
+        }
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        Assertions.assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
+}
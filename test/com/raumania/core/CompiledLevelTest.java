@@ -0,0 +1,125 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class CompiledLevelTest {
+
+    private static void assertSameLevel(MapLoader.LevelData json, CompiledLevel level) {
+        Assertions.assertEquals(json.name(), level.getName());
+        Assertions.assertEquals(json.levelNumber(), level.getLevelNumber());
+        Assertions.assertEquals(json.layout().size(), level.getRows());
+        boolean hasColors = json.colors() != null;
+        for (int r = 0; r < level.getRows(); r++) {
+            String row = json.layout().get(r);
+            for (int c = 0; c < row.length(); c++) {
+                String type = json.legend().get(String.valueOf(row.charAt(c)));
+                Assertions.assertEquals(type, CompiledLevel.BRICK_TYPES[level.getType(r, c)]);
+                int color = hasColors ? json.colors().get(r).charAt(c) - '0'
+                        : CompiledLevel.RANDOM_COLOR;
+                Assertions.assertEquals(color, level.getColor(r, c));
+            }
+        }
+        int bosses = json.bosses() == null ? 0 : json.bosses().size();
+        Assertions.assertEquals(bosses, level.getBossCount());
+        for (int i = 0; i < bosses; i++) {
+            MapLoader.BossData boss = json.bosses().get(i);
+            Assertions.assertEquals(boss.type(), CompiledLevel.BOSS_TYPES[level.getBossType(i)]);
+            Assertions.assertEquals(boss.x(), level.getBossX(i));
+            Assertions.assertEquals(boss.y(), level.getBossY(i));
+        }
+    }
+
+    @Test
+    public void testShippedLevelsMatchTheirJson() {
+        for (int i = 1; MapLoader.hasLevel("level_" + i); i++) {
+            String name = "level_" + i;
+            CompiledLevel level = MapLoader.loadCompiledLevel(name);
+            Assertions.assertNotNull(level, name);
+            assertSameLevel(MapLoader.loadLevel(name), level);
+        }
+    }
+
+    @Test
+    public void testShippedLevelsAreCompiledFromTheCurrentJson() throws IOException {
+        for (int i = 1; MapLoader.hasLevel("level_" + i); i++) {
+            String name = "/resources/levels/level_" + i;
+            try (InputStream json = CompiledLevelTest.class.getResourceAsStream(name + ".json");
+                 InputStream lvl = CompiledLevelTest.class.getResourceAsStream(
+                         name + MapLoader.COMPILED_EXTENSION)) {
+                Assertions.assertNotNull(lvl, name);
+                CompiledLevel level = CompiledLevel.read(ByteBuffer.wrap(lvl.readAllBytes()));
+                Assertions.assertEquals(CompiledLevel.sourceChecksum(json.readAllBytes()),
+                        level.getSourceChecksum(), name + " is out of date, run LevelCompiler");
+            }
+        }
+    }
+
+    @Test
+    public void testStaleCompiledLevelFallsBackToJson(@TempDir Path dir) throws IOException {
+        Path json = dir.resolve("edited.json");
+        Files.writeString(json, """
+                {"levelNumber": 3, "name": "Before",
+                 "legend": {"0": "empty", "1": "normal"}, "layout": ["11"]}
+                """);
+        Path lvl = dir.resolve("edited" + MapLoader.COMPILED_EXTENSION);
+        LevelCompiler.compile(json, lvl);
+        URL lvlUrl = lvl.toUri().toURL();
+        URL jsonUrl = json.toUri().toURL();
+        Assertions.assertEquals("Before",
+                MapLoader.readCompiledLevel("edited", lvlUrl, jsonUrl).getName());
+
+        Files.writeString(json, """
+                {"levelNumber": 3, "name": "After",
+                 "legend": {"0": "empty", "1": "normal"}, "layout": ["101"]}
+                """);
+        CompiledLevel level = MapLoader.readCompiledLevel("edited", lvlUrl, jsonUrl);
+        Assertions.assertEquals("After", level.getName());
+        Assertions.assertEquals(3, level.getCols());
+    }
+
+    @Test
+    public void testCompilerOutputReadsBackFromDirectBuffer(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve("tiny.json"), """
+                {"levelNumber": 7, "name": "Tiny",
+                 "legend": {"0": "empty", "1": "normal", "4": "explosive"},
+                 "layout": ["0141", "10"],
+                 "boss": [{"type": "pyramid", "x": 40, "y": 0}]}
+                """);
+        Assertions.assertEquals(1, LevelCompiler.compileAll(dir));
+
+        byte[] bytes = Files.readAllBytes(dir.resolve("tiny" + MapLoader.COMPILED_EXTENSION));
+        CompiledLevel level = CompiledLevel.read(
+                ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+        Assertions.assertEquals(2, level.getRows());
+        Assertions.assertEquals(4, level.getCols());
+        Assertions.assertEquals(4, level.getType(0, 2));
+        // the short row is padded with empty cells
+        Assertions.assertEquals(CompiledLevel.EMPTY, level.getType(1, 3));
+        Assertions.assertEquals(CompiledLevel.RANDOM_COLOR, level.getColor(0, 1));
+        Assertions.assertEquals(40, level.getBossX(0));
+    }
+
+    @Test
+    public void testRejectsInvalidInput() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompiledLevel.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6})));
+        byte[] truncated = CompiledLevel.toBytes(MapLoader.loadLevel("level_1"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompiledLevel.read(ByteBuffer.wrap(truncated, 0, truncated.length - 3)));
+        MapLoader.LevelData unknown = new MapLoader.LevelData(0, "bad", Map.of("1", "glass"),
+                List.of("1"), null, null);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompiledLevel.compile(unknown));
+    }
+}
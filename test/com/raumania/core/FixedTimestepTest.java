@@ -0,0 +1,47 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedTimestepTest {
+    @Test
+    void testStepsIndependentOfFrameRate() {
+        FixedTimestep at60 = new FixedTimestep(120, 8);
+        FixedTimestep at144 = new FixedTimestep(120, 8);
+        int steps60 = 0;
+        int steps144 = 0;
+        for (int i = 0; i < 60; i++) {
+            steps60 += at60.advance(1.0 / 60);
+        }
+        for (int i = 0; i < 144; i++) {
+            steps144 += at144.advance(1.0 / 144);
+        }
+        // one second of play is 120 steps (+/- one because of rounding of the remainder)
+        assertEquals(120, steps60, 1);
+        assertEquals(120, steps144, 1);
+    }
+
+    @Test
+    void testRemainderBecomesAlpha() {
+        FixedTimestep timestep = new FixedTimestep(100, 8);
+        assertEquals(2, timestep.advance(0.025));
+        assertEquals(0.5, timestep.getAlpha(), 1e-9);
+        assertEquals(1, timestep.advance(0.005));
+        assertEquals(0.0, timestep.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void testLongFrameIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(240, 4);
+        assertEquals(4, timestep.advance(1.0));
+        assertEquals(236, timestep.getDroppedSteps());
+        assertEquals(0, timestep.advance(0.0));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(120, 0));
+    }
+}
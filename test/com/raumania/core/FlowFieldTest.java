@@ -0,0 +1,123 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class FlowFieldTest {
+    private static final int ROWS = 28;
+    private static final int COLS = 13;
+
+    private static boolean[][] openGrid() {
+        boolean[][] grid = new boolean[ROWS][COLS];
+        for (boolean[] row : grid) Arrays.fill(row, true);
+        return grid;
+    }
+
+    /** Follows the field from a cell and returns the cost of the walk, or -1 if it stops early. */
+    private static double walk(FlowField field, int r, int c, int goal) {
+        double cost = 0;
+        int cell = r * COLS + c;
+        for (int steps = 0; steps < ROWS * COLS; steps++) {
+            if (cell == goal) return cost;
+            int next = field.nextCell(cell / COLS, cell % COLS);
+            if (next < 0 || next == cell) return -1;
+            boolean diagonal = next / COLS != cell / COLS && next % COLS != cell % COLS;
+            cost += diagonal ? Math.sqrt(2) : 1.0;
+            cell = next;
+        }
+        return -1;
+    }
+
+    @Test
+    public void testEveryCellDescendsAlongShortestPath() {
+        Random random = new Random(7);
+        boolean[][] grid = openGrid();
+        for (int r = 4; r < 12; r++) {
+            for (int c = 0; c < COLS; c++) grid[r][c] = random.nextDouble() > 0.6;
+        }
+        FlowField field = new FlowField(grid);
+        field.setGoal(ROWS - 1, 4);
+        field.update();
+
+        int goal = (ROWS - 1) * COLS + 4;
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                if (!grid[r][c]) continue;
+                List<int[]> path = AStarInstructor.findPath(grid, r, c, ROWS - 1, 4, true);
+                if (path.isEmpty()) {
+                    Assertions.assertFalse(field.isReachable(r, c));
+                    continue;
+                }
+                double expected = 0;
+                for (int i = 1; i < path.size(); i++) {
+                    boolean diagonal = path.get(i)[0] != path.get(i - 1)[0]
+                            && path.get(i)[1] != path.get(i - 1)[1];
+                    expected += diagonal ? Math.sqrt(2) : 1.0;
+                }
+                Assertions.assertEquals(expected, walk(field, r, c, goal), 1e-9, r + "," + c);
+            }
+        }
+    }
+
+    @Test
+    public void testRebuiltOnlyAfterChanges() {
+        boolean[][] grid = openGrid();
+        FlowField field = new FlowField(grid);
+        field.setGoal(ROWS - 1, 0);
+        field.update();
+        int version = field.getVersion();
+
+        field.setGoal(ROWS - 1, 0);
+        field.update();
+        Assertions.assertEquals(version, field.getVersion());
+
+        grid[10][0] = false;
+        field.cellChanged(10, 0);
+        field.update();
+        Assertions.assertEquals(version + 1, field.getVersion());
+    }
+
+    @Test
+    public void testPocketLeadsToClosestCellAndWaits() {
+        boolean[][] grid = openGrid();
+        Arrays.fill(grid[8], false);
+        FlowField field = new FlowField(grid);
+        field.setGoal(ROWS - 1, 2);
+        field.update();
+
+        Assertions.assertFalse(field.isReachable(0, 12));
+        // the closest cell of the pocket to the goal is right above the wall
+        int waiting = 7 * COLS + 2;
+        int cell = 0 * COLS + 12;
+        for (int steps = 0; steps < ROWS * COLS && cell != waiting; steps++) {
+            cell = field.nextCell(cell / COLS, cell % COLS);
+        }
+        Assertions.assertEquals(waiting, cell);
+        Assertions.assertEquals(waiting, field.nextCell(7, 2));
+
+        // opening the wall makes the goal reachable again
+        grid[8][5] = true;
+        field.cellChanged(8, 5);
+        field.update();
+        Assertions.assertTrue(field.isReachable(0, 12));
+        Assertions.assertTrue(walk(field, 0, 12, (ROWS - 1) * COLS + 2) > 0);
+    }
+
+    @Test
+    public void testAgentInsideBlockedCellIsLedOut() {
+        boolean[][] grid = openGrid();
+        grid[5][5] = false;
+        FlowField field = new FlowField(grid);
+        field.setGoal(ROWS - 1, 5);
+        field.update();
+
+        int next = field.nextCell(5, 5);
+        Assertions.assertTrue(next >= 0);
+        Assertions.assertTrue(grid[next / COLS][next % COLS]);
+        Assertions.assertEquals(6, next / COLS);
+    }
+}
@@ -0,0 +1,48 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameTimeHistogramTest {
+
+    @Test
+    void testPercentilesAreAccurateToOneBucket() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram(1_000, 100);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L - 500);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50_000, histogram.getPercentileNanos(50));
+        assertEquals(95_000, histogram.getPercentileNanos(95));
+        assertEquals(99_000, histogram.getPercentileNanos(99));
+        // never above the longest duration
+        assertEquals(99_500, histogram.getPercentileNanos(100));
+        assertEquals(50_000, histogram.getMeanNanos());
+    }
+
+    @Test
+    void testOverflowReportsTheMaximum() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram(1_000, 10);
+        histogram.record(500);
+        histogram.record(-5);
+        histogram.record(250_000);
+
+        assertEquals(1_000, histogram.getPercentileNanos(50));
+        assertEquals(250_000, histogram.getPercentileNanos(99));
+        assertEquals(250_000, histogram.getMaxNanos());
+    }
+
+    @Test
+    void testResetForgetsEverything() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram();
+        histogram.record(16_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+        assertEquals(0, histogram.getMaxNanos());
+        assertThrows(IllegalArgumentException.class, () -> new FrameTimeHistogram(0, 10));
+    }
+}
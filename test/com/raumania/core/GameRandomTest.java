@@ -0,0 +1,53 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    void testMatchesSplitMix64() {
+        // first outputs of the reference SplitMix64 seeded with 0
+        GameRandom random = new GameRandom(0);
+        assertEquals(0xe220a8397b1dcdafL, random.nextLong());
+        assertEquals(0x6e789e6aa1b965f4L, random.nextLong());
+        assertEquals(0x06c45d188009454fL, random.nextLong());
+    }
+
+    @Test
+    void testSameSeedGivesSameNumbers() {
+        GameRandom a = new GameRandom(42);
+        GameRandom b = new GameRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(a.nextInt(9), b.nextInt(9));
+            assertEquals(a.nextDouble(), b.nextDouble());
+        }
+        assertEquals(42, a.getSeed());
+    }
+
+    @Test
+    void testSplitStreamsAreIndependentAndReproducible() {
+        GameRandom parent = new GameRandom(7);
+        GameRandom first = parent.split();
+        GameRandom second = parent.split();
+        assertNotEquals(first.nextLong(), second.nextLong());
+
+        GameRandom again = new GameRandom(7);
+        assertEquals(new GameRandom(7).split().nextLong(), again.split().nextLong());
+    }
+
+    @Test
+    void testBoundedNumbersStayInRange() {
+        GameRandom random = new GameRandom(GameRandom.newSeed());
+        int[] seen = new int[9];
+        for (int i = 0; i < 9000; i++) {
+            seen[random.nextInt(9)]++;
+            double d = random.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+        }
+        for (int count : seen) {
+            assertTrue(count > 0);
+        }
+    }
+}
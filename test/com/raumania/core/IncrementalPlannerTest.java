@@ -0,0 +1,102 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class IncrementalPlannerTest {
+    private static final int ROWS = 28;
+    private static final int COLS = 13;
+
+    private static double aStarCost(boolean[][] grid, int sr, int sc, int gr, int gc) {
+        boolean[][] copy = new boolean[ROWS][];
+        for (int r = 0; r < ROWS; r++) copy[r] = grid[r].clone();
+        copy[gr][gc] = true;
+        List<int[]> path = AStarInstructor.findPath(copy, sr, sc, gr, gc, true);
+        if (path.isEmpty()) return Double.POSITIVE_INFINITY;
+        double cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            boolean diagonal = path.get(i)[0] != path.get(i - 1)[0]
+                    && path.get(i)[1] != path.get(i - 1)[1];
+            cost += diagonal ? Math.sqrt(2) : 1.0;
+        }
+        return cost;
+    }
+
+    @Test
+    public void testMatchesAStarUnderChanges() {
+        Random random = new Random(42);
+        boolean[][] grid = new boolean[ROWS][COLS];
+        for (boolean[] row : grid) Arrays.fill(row, true);
+        for (int r = 4; r < 12; r++) {
+            for (int c = 0; c < COLS; c++) grid[r][c] = random.nextDouble() > 0.7;
+        }
+
+        IncrementalPlanner planner = new IncrementalPlanner(grid);
+        int gc = 3;
+        planner.setGoal(ROWS - 1, gc);
+        for (int step = 0; step < 60; step++) {
+            if (random.nextInt(5) == 0) {
+                gc = random.nextInt(COLS);
+                planner.setGoal(ROWS - 1, gc);
+            } else {
+                int r = 4 + random.nextInt(8);
+                int c = random.nextInt(COLS);
+                grid[r][c] = !grid[r][c];
+                planner.cellChanged(r, c);
+            }
+            planner.computeAll();
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < COLS; c++) {
+                    if (!grid[r][c]) continue;
+                    Assertions.assertEquals(aStarCost(grid, r, c, ROWS - 1, gc),
+                            planner.getDistance(r, c), 1e-9, "step " + step + " " + r + "," + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSmallChangeIsRepairedLocally() {
+        boolean[][] grid = new boolean[ROWS][COLS];
+        for (boolean[] row : grid) Arrays.fill(row, true);
+        for (int c = 0; c < COLS - 1; c++) grid[8][c] = false;
+
+        IncrementalPlanner planner = new IncrementalPlanner(grid);
+        planner.setGoal(ROWS - 1, 0);
+        planner.computeAll();
+        long initial = planner.getExpansions();
+
+        // nothing changed: no work at all
+        planner.computeAll();
+        Assertions.assertEquals(initial, planner.getExpansions());
+
+        // a brick far from the goal appears in a corner
+        grid[2][COLS - 1] = false;
+        planner.cellChanged(2, COLS - 1);
+        planner.computeAll();
+        long repair = planner.getExpansions() - initial;
+        Assertions.assertTrue(repair < initial / 4, "repair " + repair + " vs initial " + initial);
+    }
+
+    @Test
+    public void testUnreachableGoal() {
+        boolean[][] grid = new boolean[ROWS][COLS];
+        for (boolean[] row : grid) Arrays.fill(row, true);
+        Arrays.fill(grid[8], false);
+
+        IncrementalPlanner planner = new IncrementalPlanner(grid);
+        planner.setGoal(ROWS - 1, 0);
+        planner.computeAll();
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, planner.getDistance(0, 0));
+
+        grid[8][5] = true;
+        planner.cellChanged(8, 5);
+        planner.computeAll();
+        Assertions.assertEquals(aStarCost(grid, 0, 0, ROWS - 1, 0), planner.getDistance(0, 0),
+                1e-9);
+    }
+}
@@ -0,0 +1,60 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+public class IndexedMinHeapTest {
+
+    @Test
+    public void testPopsInKeyOrderAfterUpdatesAndRemovals() {
+        Random random = new Random(3);
+        int n = 200;
+        double[] keys = new double[n];
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.ensureCapacity(n);
+        for (int cell = 0; cell < n; cell++) {
+            keys[cell] = random.nextDouble();
+            heap.push(cell, keys[cell]);
+        }
+        for (int i = 0; i < 100; i++) {
+            int cell = random.nextInt(n);
+            if (!heap.contains(cell)) continue;
+            if (random.nextBoolean()) {
+                keys[cell] = random.nextDouble();
+                heap.update(cell, keys[cell]);
+            } else {
+                heap.remove(cell);
+            }
+        }
+
+        PriorityQueue<Integer> expected =
+                new PriorityQueue<>((a, b) -> Double.compare(keys[a], keys[b]));
+        for (int cell = 0; cell < n; cell++) {
+            if (heap.contains(cell)) expected.add(cell);
+        }
+        while (!expected.isEmpty()) {
+            Assertions.assertEquals(keys[expected.poll()], heap.peekKey());
+            int cell = heap.pop();
+            Assertions.assertFalse(heap.contains(cell));
+        }
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testClearForgetsQueuedCells() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        heap.ensureCapacity(4);
+        heap.push(1, 2.0);
+        heap.push(3, 1.0);
+        heap.clear();
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertFalse(heap.contains(1));
+        Assertions.assertFalse(heap.contains(3));
+
+        heap.push(1, 5.0);
+        Assertions.assertEquals(1, heap.peek());
+    }
+}
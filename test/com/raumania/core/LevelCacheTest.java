@@ -0,0 +1,87 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LevelCacheTest {
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    private CompiledLevel load(String name) {
+        loads.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+        if (name.startsWith("missing")) {
+            return null;
+        }
+        return CompiledLevel.compile(new MapLoader.LevelData(0, name, Map.of("1", "normal"),
+                List.of("1"), null, null));
+    }
+
+    private int loadCount(String name) {
+        AtomicInteger count = loads.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    @Test
+    public void testHitsMissesAndLeastRecentlyUsedEviction() {
+        LevelCache cache = new LevelCache(2, this::load);
+        CompiledLevel a = cache.get("a");
+        cache.get("b");
+        Assertions.assertSame(a, cache.get("a"));
+        cache.get("c");
+
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(3, cache.getMisses());
+        Assertions.assertEquals(1, cache.getEvictions());
+        Assertions.assertTrue(cache.contains("a"));
+        Assertions.assertFalse(cache.contains("b"));
+        Assertions.assertEquals("c", cache.get("c").getName());
+        Assertions.assertEquals(1, loadCount("c"));
+    }
+
+    @Test
+    public void testMissingLevelIsNotCached() {
+        LevelCache cache = new LevelCache(2, this::load);
+        Assertions.assertNull(cache.get("missing"));
+        Assertions.assertFalse(cache.contains("missing"));
+        Assertions.assertNull(cache.get("missing"));
+        Assertions.assertEquals(2, loadCount("missing"));
+    }
+
+    @Test
+    public void testGetSharesTheRunningPrefetch() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        LevelCache cache = new LevelCache(4, name -> {
+            try {
+                Assertions.assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return load(name);
+        });
+        cache.prefetch("next");
+        cache.prefetch("next");
+        Assertions.assertEquals(1, cache.getPrefetches());
+        Assertions.assertTrue(cache.contains("next"));
+
+        release.countDown();
+        Assertions.assertEquals("next", cache.get("next").getName());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(0, cache.getMisses());
+        Assertions.assertEquals(1, loadCount("next"));
+    }
+
+    @Test
+    public void testMapLoaderPrefetchesNeighbours() {
+        MapLoader.prefetchAround(2);
+        LevelCache cache = MapLoader.getLevelCache();
+        Assertions.assertTrue(cache.contains("level_1"));
+        Assertions.assertTrue(cache.contains("level_3"));
+        Assertions.assertNotNull(MapLoader.loadCompiledLevel("level_3"));
+    }
+}
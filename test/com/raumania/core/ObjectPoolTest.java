@@ -0,0 +1,34 @@
+package com.raumania.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectPoolTest {
+
+    @Test
+    void testReleasedObjectsAreReused() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("test", StringBuilder::new);
+        StringBuilder first = pool.acquire();
+        pool.release(first);
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.getCreated());
+        assertEquals(1, pool.getReused());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testCapacityBoundsIdleObjects() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("test", StringBuilder::new, 2);
+        for (int i = 0; i < 3; i++) {
+            pool.release(new StringBuilder());
+        }
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(1, pool.getDropped());
+
+        pool.setCapacity(1);
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(2, pool.getDropped());
+        assertThrows(IllegalArgumentException.class, () -> pool.setCapacity(-1));
+    }
+}
@@ -0,0 +1,46 @@
+package com.raumania.core.jfr;
+
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.utils.InitializeJavaFx;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrSummaryTest extends InitializeJavaFx {
+
+    @Test
+    void testRecordedPhasesAreSummarised(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.jfr");
+        GameManager manager = new GameManager();
+        try (Recording recording = new Recording()) {
+            recording.enable(FramePhaseEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(LevelLoadEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            manager.setCurrentLvl(MapLoader.loadLevel("level_1"));
+            manager.startGame();
+            for (int i = 0; i < 30; i++) {
+                manager.update(1.0 / 120);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<JfrSummary.PhaseSummary> phases = JfrSummary.summarize(file);
+        JfrSummary.PhaseSummary collisions = phases.stream()
+                .filter(p -> p.getName().equals("FramePhase collisions")).findFirst().orElseThrow();
+        assertEquals(30, collisions.getCount());
+        assertEquals(1.0, collisions.getMean("balls"), 1e-9);
+        assertTrue(collisions.getMean("bricks") > 0);
+        assertTrue(collisions.getPercentileNanos(50) <= collisions.getMaxNanos());
+        assertTrue(phases.stream().anyMatch(p -> p.getName().equals("FramePhase bosses")));
+        assertTrue(phases.stream().anyMatch(p -> p.getName().equals("LevelLoad")));
+        assertTrue(JfrSummary.format(phases).contains("FramePhase collisions"));
+    }
+}
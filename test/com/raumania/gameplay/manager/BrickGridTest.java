@@ -0,0 +1,100 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.brick.StrongBrick;
+import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickGridTest extends InitializeJavaFx {
+
+    private static Brick brickAt(int r, int c) {
+        return new StrongBrick(c * Brick.BRICK_WIDTH, r * Brick.BRICK_HEIGHT,
+                Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT);
+    }
+
+    @Test
+    void testQueryReturnsOnlyTouchedCells() {
+        BrickGrid grid = new BrickGrid(28, 13);
+        Brick near = brickAt(2, 2);
+        Brick far = brickAt(10, 10);
+        grid.add(near);
+        grid.add(far);
+
+        Ball ball = new Ball(2 * Brick.BRICK_WIDTH + 5, 2 * Brick.BRICK_HEIGHT + 2);
+        List<Brick> out = new ArrayList<>();
+        grid.query(ball, out);
+        assertEquals(List.of(near), out);
+    }
+
+    @Test
+    void testQueryIncludesTouchingEdge() {
+        BrickGrid grid = new BrickGrid(28, 13);
+        Brick brick = brickAt(0, 0);
+        grid.add(brick);
+
+        // ball's left edge lies exactly on the brick's right edge
+        Ball ball = new Ball(Brick.BRICK_WIDTH, 0);
+        List<Brick> out = new ArrayList<>();
+        grid.query(ball, out);
+        assertEquals(List.of(brick), out);
+        assertTrue(ball.checkOverlap(brick));
+    }
+
+    @Test
+    void testQueryIsRowMajor() {
+        BrickGrid grid = new BrickGrid(28, 13);
+        Brick b00 = brickAt(3, 3);
+        Brick b01 = brickAt(3, 4);
+        Brick b10 = brickAt(4, 3);
+        grid.add(b10);
+        grid.add(b01);
+        grid.add(b00);
+
+        Ball ball = new Ball(4 * Brick.BRICK_WIDTH - Ball.BALL_RADIUS, 4 * Brick.BRICK_HEIGHT - Ball.BALL_RADIUS);
+        List<Brick> out = new ArrayList<>();
+        grid.query(ball, out);
+        assertEquals(List.of(b00, b01, b10), out);
+    }
+
+    @Test
+    void testRemoveKeepsGridInSync() {
+        BrickGrid grid = new BrickGrid(28, 13);
+        Brick brick = brickAt(5, 6);
+        grid.add(brick);
+        assertSame(brick, grid.get(5, 6));
+
+        assertTrue(grid.remove(brick));
+        assertNull(grid.get(5, 6));
+        assertFalse(grid.remove(brick));
+    }
+
+    @Test
+    void testChunksAreAllocatedOnDemand() {
+        BrickGrid grid = new BrickGrid(100, 100);
+        assertEquals(0, grid.getChunkCount());
+        Brick a = brickAt(0, 0);
+        Brick b = brickAt(1, 1);
+        Brick far = brickAt(99, 99);
+        grid.add(a);
+        grid.add(b);
+        grid.add(far);
+        assertEquals(2, grid.getChunkCount());
+
+        List<Brick> out = new ArrayList<>();
+        grid.query(0, 0, 100 * Brick.BRICK_WIDTH, 100 * Brick.BRICK_HEIGHT, out);
+        assertEquals(List.of(a, b, far), out);
+
+        grid.remove(far);
+        assertEquals(1, grid.getChunkCount());
+        grid.remove(a);
+        assertEquals(1, grid.getChunkCount());
+        grid.remove(b);
+        assertEquals(0, grid.getChunkCount());
+    }
+}
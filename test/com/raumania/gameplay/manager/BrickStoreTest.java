@@ -0,0 +1,46 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.brick.NormalBrick;
+import com.raumania.gameplay.objects.brick.StrongBrick;
+import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickStoreTest extends InitializeJavaFx {
+
+    @Test
+    void testRemoveMovesLastBrickIntoSlot() {
+        BrickStore store = new BrickStore();
+        Brick a = new NormalBrick(0, 0, Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT, 1);
+        Brick b = new StrongBrick(40, 0, Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT);
+        Brick c = new NormalBrick(80, 20, Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT, 2);
+        assertEquals(0, store.add(a));
+        assertEquals(1, store.add(b));
+        assertEquals(2, store.add(c));
+        assertEquals(2, store.getBreakableCount());
+
+        assertSame(c, store.removeAt(0));
+        assertEquals(2, store.size());
+        assertSame(c, store.getBrick(0));
+        assertEquals(80, store.getX(0));
+        assertEquals(20, store.getY(0));
+        assertEquals(1, store.getBreakableCount());
+
+        assertNull(store.removeAt(1));
+        assertEquals(1, store.size());
+        assertEquals(1, store.getBreakableCount());
+    }
+
+    @Test
+    void testGrowsPastInitialCapacity() {
+        BrickStore store = new BrickStore();
+        for (int i = 0; i < 1000; i++) {
+            store.add(new NormalBrick(i * Brick.BRICK_WIDTH, 0, Brick.BRICK_WIDTH,
+                    Brick.BRICK_HEIGHT, 0));
+        }
+        assertEquals(1000, store.size());
+        assertEquals(999 * Brick.BRICK_WIDTH, store.getX(999));
+    }
+}
@@ -1,8 +1,19 @@
 package com.raumania.gameplay.manager;
 
+import com.raumania.core.GameRandom;
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.objects.Ball;
+import com.raumania.math.Vec2f;
 import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class GameManagerTest extends InitializeJavaFx {
@@ -32,5 +43,248 @@ public class GameManagerTest extends InitializeJavaFx {
         assertEquals(GameManager.GameState.GAME_OVER, manager.getGameState());
     }
 
+    @Test
+    void testLevelResetEmitsSpawnEvents() {
+        List<GameEvent> events = new ArrayList<>();
+        manager.addListener(events::add);
+        manager.setCurrentLvl(MapLoader.loadLevel("level_1"));
+
+        assertEquals(GameEvent.Type.LEVEL_RESET, events.getFirst().type());
+        assertSame(manager.getPaddle(), events.getFirst().subject());
+        long spawned = events.stream().filter(e -> e.type() == GameEvent.Type.BRICK_SPAWNED).count();
+        assertEquals(manager.getBricks().size(), spawned);
+    }
+
+    @Test
+    void testStateChangeIsEmittedOnce() {
+        List<GameEvent> events = new ArrayList<>();
+        manager.addListener(events::add);
+        manager.setGameState(GameManager.GameState.PAUSED);
+        manager.setGameState(GameManager.GameState.PAUSED);
+
+        assertEquals(1, events.stream().filter(e -> e.type() == GameEvent.Type.STATE_CHANGED).count());
+    }
+
+    @Test
+    void testHeadlessSimulationAdvances() {
+        manager.setCurrentLvl(MapLoader.loadLevel("level_1"));
+        manager.update(1.0 / 60); // place the ball on the paddle
+        manager.startGame();
+        for (int i = 0; i < 600 && manager.getGameState() == GameManager.GameState.RUNNING; i++) {
+            manager.update(1.0 / 60);
+        }
+        assertTrue(manager.getElapsedTime() > 1.0);
+        assertTrue(manager.getScore() > 0);
+    }
+
+    @Test
+    void testFastBallHitsBrickInsteadOfTunnelling() {
+        List<String> layout = List.of("0000000000000", "0000000000000", "0000000000000",
+                "0000000000000", "1111111111111");
+        manager.setCurrentLvl(new MapLoader.LevelData(0, "row", Map.of("0", "empty", "1", "normal"),
+                layout, new ArrayList<>(), null));
+        manager.startGame();
+        Ball ball = manager.getBallsList().getFirst();
+        ball.setPosition(250, 290);
+        ball.setDirection(new Vec2f(0, -1));
+        ball.setSpeed(4000);
+
+        // 200 px per step: would skip the 20 px row with discrete checks
+        manager.update(0.05);
+        manager.update(0.05);
+        assertEquals(12, manager.getBricks().size());
+        assertTrue(ball.getDirection().y > 0);
+        assertTrue(ball.getY() > 100);
+    }
+
+    @Test
+    void testChainExplosionClearsConnectedBricks() {
+        List<String> layout = List.of("1000000000000", "0000000000000", "3000000000000",
+                "2222222222222", "2222222222222");
+        manager.setCurrentLvl(new MapLoader.LevelData(0, "chain",
+                Map.of("0", "empty", "1", "normal", "2", "explosive", "3", "strong"),
+                layout, new ArrayList<>(), null));
+        List<GameEvent> events = new ArrayList<>();
+        manager.addListener(events::add);
+        manager.startGame();
+        Ball ball = manager.getBallsList().getFirst();
+        ball.setPosition(250, 120);
+        ball.setDirection(new Vec2f(0, -1));
+        ball.setSpeed(400);
+
+        manager.update(0.05);
+        // only the isolated normal brick and the strong brick survive
+        assertEquals(2, manager.getBricks().size());
+        assertEquals(26, manager.getScore());
+        assertEquals(26, events.stream().filter(e -> e.type() == GameEvent.Type.BRICK_DESTROYED).count());
+        assertTrue(manager.getBricks().stream().anyMatch(b -> b.getX() == 0 && b.getY() == 0));
+        assertTrue(manager.getBricks().stream().anyMatch(b -> b.getX() == 0 && b.getY() == 40));
+    }
+
+    @Test
+    void testLargeLevelSizesTheWorld() {
+        List<String> layout = new ArrayList<>();
+        for (int r = 0; r < 60; r++) {
+            layout.add(r == 50 ? "1".repeat(40) : "0".repeat(40));
+        }
+        manager.setCurrentLvl(new MapLoader.LevelData(0, "wide", Map.of("0", "empty", "1", "normal"),
+                layout, new ArrayList<>(), null));
+
+        assertEquals(40 * 40, manager.getWorldWidth());
+        assertEquals(60, manager.getBrickGrid().getRows());
+        assertEquals(40, manager.getBrickGrid().getCols());
+        assertEquals(40, manager.getBricks().size());
+        // the paddle starts centred at the bottom of the whole world
+        assertEquals(manager.getWorldHeight() - 80, manager.getPaddle().getY());
+        assertEquals(manager.getWorldWidth() * 0.5,
+                manager.getPaddle().getX() + manager.getPaddle().getWidth() * 0.5, 1e-9);
+        // only the chunks holding the single row of bricks are allocated
+        assertEquals(3, manager.getBrickGrid().getChunkCount());
+    }
 
+    @Test
+    void testLostBallsAreReused() {
+        manager.startGame();
+        // a second ball keeps the game from respawning, which would reuse the lost ball at once
+        manager.spawnAdditionalBall(200, 200, new Vec2f(0, -1));
+        Ball lost = manager.getBallsList().getLast();
+        long released = manager.getBallPool().getReleased();
+        lost.deactivate();
+        manager.update(0.01);
+        assertEquals(released + 1, manager.getBallPool().getReleased());
+
+        manager.spawnAdditionalBall(100, 100, new Vec2f(0, -1));
+        Ball spawned = manager.getBallsList().getLast();
+        assertSame(lost, spawned);
+        assertTrue(spawned.isActive());
+        assertEquals(100, spawned.getX());
+        assertEquals(Ball.BALL_SPEED, spawned.getSpeed());
+    }
+
+    @Test
+    void testBrickStoreFollowsRemovedBricks() {
+        List<String> layout = List.of("1000000000000", "0000000000000", "3000000000000",
+                "2222222222222", "2222222222222");
+        manager.setCurrentLvl(new MapLoader.LevelData(0, "chain",
+                Map.of("0", "empty", "1", "normal", "2", "explosive", "3", "strong"),
+                layout, new ArrayList<>(), null));
+        manager.startGame();
+        Ball ball = manager.getBallsList().getFirst();
+        ball.setPosition(250, 120);
+        ball.setDirection(new Vec2f(0, -1));
+        ball.setSpeed(400);
+        manager.update(0.05);
+
+        BrickStore store = manager.getBrickStore();
+        assertEquals(manager.getBricks().size(), store.size());
+        for (int i = 0; i < store.size(); i++) {
+            assertSame(manager.getBricks().get(i), store.getBrick(i));
+            assertEquals(store.getBrick(i).getX(), store.getX(i));
+        }
+        assertEquals(1, store.getBreakableCount());
+    }
+
+    @Test
+    void testManyBallsStayInsideTheWorld() {
+        manager.startGame();
+        for (int i = 0; i < 1000; i++) {
+            manager.spawnAdditionalBall(260, 300, new Vec2f(0, -1));
+        }
+        for (Ball ball : manager.getBallsList()) {
+            ball.setImmortal(true);
+        }
+        for (int step = 0; step < 60; step++) {
+            manager.update(1.0 / 60);
+        }
+        assertEquals(1001, manager.getBallsList().size());
+        for (Ball ball : manager.getBallsList()) {
+            assertTrue(ball.getX() >= 0 && ball.getX() + ball.getWidth() <= manager.getWorldWidth());
+            assertTrue(ball.getY() >= 0 && ball.getY() + ball.getHeight() <= manager.getWorldHeight());
+        }
+    }
+
+    @Test
+    void testSameSeedPlaysTheSameMatch() {
+        GameManager first = playSeeded(1234);
+        GameManager second = playSeeded(1234);
+
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getBricks().size(), second.getBricks().size());
+        assertEquals(first.getPowerUps().size(), second.getPowerUps().size());
+        assertEquals(first.getBallsList().size(), second.getBallsList().size());
+        for (int i = 0; i < first.getBallsList().size(); i++) {
+            assertEquals(first.getBallsList().get(i).getX(), second.getBallsList().get(i).getX());
+            assertEquals(first.getBallsList().get(i).getY(), second.getBallsList().get(i).getY());
+        }
+        for (int i = 0; i < first.getBricks().size(); i++) {
+            assertEquals(first.getBricks().get(i).getColorIndex(),
+                    second.getBricks().get(i).getColorIndex());
+        }
+    }
+
+    private static GameManager playSeeded(long seed) {
+        GameManager seeded = new GameManager(seed);
+        seeded.setCurrentLvl(MapLoader.loadLevel("level_1"));
+        seeded.startGame();
+        for (int i = 0; i < 8; i++) {
+            seeded.spawnAdditionalBall(260, 400, new Vec2f(0, -1));
+        }
+        for (int step = 0; step < 600; step++) {
+            seeded.update(1.0 / 120);
+        }
+        return seeded;
+    }
+
+    @Test
+    void testRandomLevelDoesNotShareThePowerUpStream() {
+        GameManager seeded = new GameManager(2024);
+        GameRandom drops = seeded.getPowerUpRandom();
+        GameRandom level = GameRandom.forLevel(2024);
+        int same = 0;
+        for (int i = 0; i < 256; i++) {
+            if (drops.nextDouble() > 0.4 == level.nextDouble() > 0.25) {
+                same++;
+            }
+        }
+        // independent rolls agree 55% of the time, rolls of one stream 85% of the time
+        assertTrue(same < 200, "level and drop rolls agreed " + same + " times out of 256");
+        assertNotEquals(new GameManager(2024).getPowerUpRandom().nextLong(),
+                GameRandom.forLevel(2024).nextLong());
+    }
+
+    @Test
+    void testUpdateDoesNotAllocateWithoutRecording() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        // the normal brick keeps the level going, the strong row keeps the ball away from it
+        List<String> layout = List.of("1000000000000", "3333333333333");
+        manager.setCurrentLvl(new MapLoader.LevelData(0, "walled",
+                Map.of("0", "empty", "1", "normal", "3", "strong"), layout, new ArrayList<>(), null));
+        manager.startGame();
+        // the ball bounces between the strong row and the paddle, which stays under it
+        for (int i = 0; i < 50_000; i++) {
+            stepUnderBall();
+        }
+        assertEquals(GameManager.GameState.RUNNING, manager.getGameState());
+
+        long id = Thread.currentThread().threadId();
+        threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 2000; i++) {
+            stepUnderBall();
+        }
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        // a single iterator or flight recorder event per step would already be tens of KB
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+        assertEquals(GameManager.GameState.RUNNING, manager.getGameState());
+    }
+
+    private void stepUnderBall() {
+        Ball ball = manager.getBallsList().getFirst();
+        manager.getPaddle().setPosition(
+                ball.getX() + Ball.BALL_RADIUS - manager.getPaddle().getWidth() * 0.5,
+                manager.getPaddle().getY());
+        manager.update(1.0 / 120);
+    }
 }
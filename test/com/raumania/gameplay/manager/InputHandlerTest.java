@@ -0,0 +1,75 @@
+package com.raumania.gameplay.manager;
+
+import com.raumania.utils.InitializeJavaFx;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputHandlerTest extends InitializeJavaFx {
+    private GameManager manager;
+    private InputHandler input;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameManager();
+        input = new InputHandler(manager, KeyCode.A, KeyCode.D);
+        input.start();
+    }
+
+    @Test
+    void testKeysMoveThePaddleOnPoll() {
+        input.onKeyPressed(KeyCode.A);
+        // nothing happens until the game loop polls
+        assertEquals(0, manager.getPaddle().getDirectionX());
+
+        assertEquals(InputHandler.LEFT, input.poll());
+        assertEquals(-1, manager.getPaddle().getDirectionX());
+
+        input.onKeyPressed(KeyCode.D);
+        assertEquals(InputHandler.LEFT | InputHandler.RIGHT, input.poll());
+        assertEquals(0, manager.getPaddle().getDirectionX());
+
+        input.onKeyReleased(KeyCode.A);
+        assertEquals(InputHandler.RIGHT, input.poll());
+        assertEquals(1, manager.getPaddle().getDirectionX());
+    }
+
+    @Test
+    void testOnlyTransitionsAreRecorded() {
+        // key repeat sends the pressed event again and again
+        for (int i = 0; i < 10; i++) {
+            input.onKeyPressed(KeyCode.D);
+        }
+        input.onKeyPressed(KeyCode.W);
+        input.poll();
+
+        assertEquals(1, input.getLatencyCount());
+        assertTrue(input.getLastLatencyNanos() >= 0);
+        assertEquals(input.getLastLatencyNanos(), input.getMaxLatencyNanos());
+    }
+
+    @Test
+    void testOverflowCatchesUpWithHeldKeys() {
+        for (int i = 0; i < InputHandler.RING_CAPACITY + 5; i++) {
+            input.onKeyPressed(KeyCode.A);
+            input.onKeyReleased(KeyCode.A);
+        }
+        input.onKeyPressed(KeyCode.D);
+
+        assertEquals(InputHandler.RIGHT, input.poll());
+        assertEquals(1, manager.getPaddle().getDirectionX());
+    }
+
+    @Test
+    void testStoppedHandlerIgnoresKeys() {
+        input.onKeyPressed(KeyCode.A);
+        input.poll();
+        input.stop();
+
+        assertEquals(0, manager.getPaddle().getDirectionX());
+        input.onKeyPressed(KeyCode.D);
+        assertEquals(0, input.poll());
+    }
+}
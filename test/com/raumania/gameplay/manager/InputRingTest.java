@@ -0,0 +1,68 @@
+package com.raumania.gameplay.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputRingTest {
+
+    @Test
+    void testEntriesComeOutInOrder() {
+        InputRing ring = new InputRing(4);
+        assertTrue(ring.isEmpty());
+        ring.offer(1, 10);
+        ring.offer(2, 20);
+
+        assertEquals(2, ring.size());
+        assertEquals(1, ring.peekState());
+        assertEquals(10, ring.peekTime());
+        ring.remove();
+        assertEquals(2, ring.peekState());
+        assertEquals(20, ring.peekTime());
+        ring.remove();
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testFullRingRejectsEntries() {
+        InputRing ring = new InputRing(3);
+        assertEquals(4, ring.getCapacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i, i));
+        }
+        assertFalse(ring.offer(4, 4));
+
+        ring.remove();
+        assertTrue(ring.offer(4, 4));
+        // the slots wrap around
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, ring.peekState());
+            ring.remove();
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testEntriesCrossThreadsInOrder() throws InterruptedException {
+        InputRing ring = new InputRing(8);
+        int count = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!ring.offer(i, -i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+        for (int expected = 0; expected < count; expected++) {
+            while (ring.isEmpty()) {
+                Thread.onSpinWait();
+            }
+            assertEquals(expected, ring.peekState());
+            assertEquals(-expected, ring.peekTime());
+            ring.remove();
+        }
+        producer.join();
+        assertTrue(ring.isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package com.raumania.gameplay.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweptCollisionTest {
+    private final SweptCollision.Hit hit = new SweptCollision.Hit();
+
+    @Test
+    void testFaceHit() {
+        assertTrue(SweptCollision.sweepCircleAabb(0, 50, 5, 100, 0, 40, 40, 20, 20, hit));
+        assertEquals(0.35, hit.getTime(), 1e-9);
+        assertEquals(-1, hit.getNormalX(), 1e-9);
+        assertEquals(0, hit.getNormalY(), 1e-9);
+    }
+
+    @Test
+    void testFastCircleDoesNotTunnel() {
+        // moves 1000 px in one step through a 20 px high brick
+        assertTrue(SweptCollision.sweepCircleAabb(50, 600, 5, 0, -1000, 0, 100, 100, 20, hit));
+        assertEquals((600 - 125) / 1000.0, hit.getTime(), 1e-9);
+        assertEquals(1, hit.getNormalY(), 1e-9);
+    }
+
+    @Test
+    void testCornerHit() {
+        double d = 5 / Math.sqrt(2);
+        // heads straight for the top-left corner along the diagonal
+        assertTrue(SweptCollision.sweepCircleAabb(0, 0, 5, 50, 50, 40, 40, 20, 20, hit));
+        assertEquals((40 - d) / 50, hit.getTime(), 1e-9);
+        assertEquals(-Math.sqrt(0.5), hit.getNormalX(), 1e-9);
+        assertEquals(-Math.sqrt(0.5), hit.getNormalY(), 1e-9);
+    }
+
+    @Test
+    void testMissesRoundedCorner() {
+        // enters the grown box's corner square but passes outside the corner circle
+        assertFalse(SweptCollision.sweepCircleAabb(30, 0, 5, 0, 100, 40, 40, 20, 20, hit)
+                && hit.getTime() <= 1);
+        assertFalse(SweptCollision.sweepCircleAabb(0, 36, 5, 100, -100, 40, 40, 20, 20, hit));
+    }
+
+    @Test
+    void testOverlapOnlyHitsWhenMovingIn() {
+        assertTrue(SweptCollision.sweepCircleAabb(38, 50, 5, 10, 0, 40, 40, 20, 20, hit));
+        assertEquals(0, hit.getTime(), 1e-9);
+        assertEquals(-1, hit.getNormalX(), 1e-9);
+        assertFalse(SweptCollision.sweepCircleAabb(38, 50, 5, -10, 0, 40, 40, 20, 20, hit));
+    }
+
+    @Test
+    void testWalls() {
+        assertTrue(SweptCollision.sweepCircleWalls(50, 50, 5, -90, 0, 200, 200, false, hit));
+        assertEquals(0.5, hit.getTime(), 1e-9);
+        assertEquals(1, hit.getNormalX(), 1e-9);
+
+        assertFalse(SweptCollision.sweepCircleWalls(50, 150, 5, 0, 100, 200, 200, false, hit));
+        assertTrue(SweptCollision.sweepCircleWalls(50, 150, 5, 0, 100, 200, 200, true, hit));
+        assertEquals(-1, hit.getNormalY(), 1e-9);
+    }
+}
@@ -0,0 +1,92 @@
+package com.raumania.gameplay.objects.boss;
+
+import com.raumania.core.FlowField;
+import com.raumania.gameplay.manager.BrickGrid;
+import com.raumania.gameplay.objects.Paddle;
+import com.raumania.gameplay.objects.brick.Brick;
+import com.raumania.gameplay.objects.brick.NormalBrick;
+import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BossTest extends InitializeJavaFx {
+    private static final int ROWS = 28;
+    private static final int COLS = 26;
+
+    private static Brick brickAt(int r, int c) {
+        return new NormalBrick(c * Brick.BRICK_WIDTH, r * Brick.BRICK_HEIGHT,
+                Brick.BRICK_WIDTH, Brick.BRICK_HEIGHT, 0);
+    }
+
+    /** A boss walking to the right, with no path to follow, next to a brick at row 5, col 6. */
+    private static int walkIntoBrick(BrickGrid grid) {
+        grid.add(brickAt(5, 6));
+        Boss boss = new Pyramid(200, 100, Boss.BOSS_SIZE, Boss.BOSS_SIZE);
+        boss.setBounds(COLS * Brick.BRICK_WIDTH, ROWS * Brick.BRICK_HEIGHT);
+        // no goal: the boss walks at random
+        FlowField field = new FlowField(new boolean[ROWS][COLS]);
+        Paddle paddle = new Paddle(400, ROWS * Brick.BRICK_HEIGHT - 20, Paddle.PADDLE_WIDTH,
+                Paddle.PADDLE_HEIGHT);
+
+        boss.bossUpdate(0.1, paddle, field, grid, 0);
+        // pushed out of the brick and turned around
+        assertEquals(240 - Boss.BOSS_SIZE, boss.getX(), 1e-9);
+        boss.bossUpdate(0.1, paddle, field, grid, 0);
+        assertTrue(boss.getX() < 240 - Boss.BOSS_SIZE);
+        return boss.getNearbyBrickCount();
+    }
+
+    @Test
+    void testWalksBackFromABrick() {
+        walkIntoBrick(new BrickGrid(ROWS, COLS));
+    }
+
+    @Test
+    void testOnlyChecksTheBricksAroundIt() {
+        BrickGrid grid = new BrickGrid(ROWS, COLS);
+        int alone = walkIntoBrick(new BrickGrid(ROWS, COLS));
+        // fill every cell away from the boss
+        for (int r = 10; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                grid.add(brickAt(r, c));
+            }
+        }
+        int crowded = walkIntoBrick(grid);
+
+        assertEquals(1, alone);
+        assertEquals(alone, crowded);
+    }
+
+    @Test
+    void testUpdateDoesNotAllocateWithoutRecording() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        // the boss walks back and forth between two bricks
+        BrickGrid grid = new BrickGrid(ROWS, COLS);
+        grid.add(brickAt(5, 2));
+        grid.add(brickAt(5, 8));
+        Boss boss = new Pyramid(200, 100, Boss.BOSS_SIZE, Boss.BOSS_SIZE);
+        boss.setBounds(COLS * Brick.BRICK_WIDTH, ROWS * Brick.BRICK_HEIGHT);
+        FlowField field = new FlowField(new boolean[ROWS][COLS]);
+        Paddle paddle = new Paddle(400, ROWS * Brick.BRICK_HEIGHT - 20, Paddle.PADDLE_WIDTH,
+                Paddle.PADDLE_HEIGHT);
+        for (int i = 0; i < 50_000; i++) {
+            boss.bossUpdate(1.0 / 120, paddle, field, grid, 0);
+        }
+
+        long id = Thread.currentThread().threadId();
+        threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 2000; i++) {
+            boss.bossUpdate(1.0 / 120, paddle, field, grid, 0);
+        }
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+        assertTrue(boss.getX() > 80 && boss.getX() < 320 - Boss.BOSS_SIZE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.raumania.gameplay.replay;
+
+import com.raumania.core.GameRandom;
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.gameplay.manager.InputHandler;
+import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayPlayerTest extends InitializeJavaFx {
+    private static final int RATE = 120;
+
+    /** Plays a match with scripted input the way the game screen does, recording it. */
+    private static Replay recordMatch(long seed, int steps) {
+        GameManager manager = new GameManager(seed);
+        manager.setCurrentLevel(MapLoader.loadCompiledLevel(MapLoader.levelName(1)));
+        InputHandler input = new InputHandler(manager, null, null);
+        Replay replay = new Replay(manager.getSeed(), 1, RATE);
+        GameRandom player = new GameRandom(seed + 1);
+        int state = 0;
+        for (int i = 0; i < steps; i++) {
+            if (player.nextInt(30) == 0) {
+                state = player.nextInt(4);
+            }
+            input.apply(state);
+            int recorded = state;
+            if (i == 60) {
+                manager.startGame();
+                recorded |= Replay.LAUNCH;
+            }
+            replay.record(recorded);
+            manager.update(1.0 / RATE);
+        }
+        replay.finish(manager);
+        return replay;
+    }
+
+    @Test
+    void testPlaybackReproducesTheMatch() throws IOException {
+        Replay recorded = recordMatch(99, 3000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorded.write(out);
+        Replay replay = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        GameManager manager = new GameManager();
+        ReplayPlayer player = new ReplayPlayer(replay, manager, new InputHandler(manager, null, null));
+        player.prepare();
+        player.playToEnd();
+
+        assertTrue(player.isFinished());
+        assertEquals(3000, player.getTick());
+        assertEquals(99, manager.getSeed());
+        assertTrue(player.matchesRecording());
+        assertFalse(player.step());
+    }
+
+    @Test
+    void testDifferentSeedDiverges() {
+        Replay recorded = recordMatch(5, 3000);
+        Replay reseeded = new Replay(6, recorded.getLevelNumber(), recorded.getSimRate());
+        for (int run = 0; run < recorded.getRunCount(); run++) {
+            for (long i = 0; i < recorded.getRunLength(run); i++) {
+                reseeded.record(recorded.getRunState(run));
+            }
+        }
+
+        GameManager manager = new GameManager();
+        ReplayPlayer player = new ReplayPlayer(reseeded, manager, new InputHandler(manager, null, null));
+        player.prepare();
+        player.playToEnd();
+
+        assertNotEquals(recorded.getChecksum(), Replay.checksum(manager));
+    }
+}
@@ -0,0 +1,89 @@
+package com.raumania.gameplay.replay;
+
+import com.raumania.gameplay.manager.InputHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+
+    @Test
+    void testHeldStatesAreStoredAsRuns() {
+        Replay replay = new Replay(7, 1, 120);
+        for (int i = 0; i < 500; i++) {
+            replay.record(0);
+        }
+        replay.record(Replay.LAUNCH);
+        for (int i = 0; i < 40; i++) {
+            replay.record(InputHandler.LEFT);
+        }
+
+        assertEquals(541, replay.getTickCount());
+        assertEquals(3, replay.getRunCount());
+        assertEquals(0, replay.getRunState(0));
+        assertEquals(500, replay.getRunLength(0));
+        assertEquals(Replay.LAUNCH, replay.getRunState(1));
+        assertEquals(1, replay.getRunLength(1));
+        assertEquals(InputHandler.LEFT, replay.getRunState(2));
+        assertEquals(40, replay.getRunLength(2));
+    }
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        Replay replay = new Replay(0x1234_5678_9abc_def0L, 3, 240);
+        int[] states = {0, InputHandler.LEFT, InputHandler.RIGHT, 0, InputHandler.LEFT | InputHandler.RIGHT};
+        for (int i = 0; i < 10_000; i++) {
+            replay.record(states[(i / 37) % states.length]);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(3, read.getLevelNumber());
+        assertEquals(240, read.getSimRate());
+        assertEquals(replay.getTickCount(), read.getTickCount());
+        assertEquals(replay.getRunCount(), read.getRunCount());
+        for (int i = 0; i < replay.getRunCount(); i++) {
+            assertEquals(replay.getRunState(i), read.getRunState(i));
+            assertEquals(replay.getRunLength(i), read.getRunLength(i));
+        }
+        assertFalse(read.hasChecksum());
+        // 271 runs of 37 steps, two bytes each, plus the header
+        assertTrue(out.size() < 600, "replay took " + out.size() + " bytes");
+    }
+
+    @Test
+    void testRejectsOtherFiles() {
+        byte[] json = "{\"level\": 1}".getBytes();
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(json)));
+    }
+
+    @Test
+    void testRejectsRunCountLargerThanTheFile() throws IOException {
+        Replay replay = new Replay(7, 1, 120);
+        replay.record(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        byte[] valid = out.toByteArray();
+        // header up to the run count: magic, version, seed, level number, simulation rate
+        int header = 4 + 1 + 8 + 4 + 2;
+        byte[] corrupted = Arrays.copyOf(valid, header + 5);
+        // about two billion runs in a 24 byte file
+        corrupted[header] = (byte) 0xF0;
+        corrupted[header + 1] = (byte) 0xFF;
+        corrupted[header + 2] = (byte) 0xFF;
+        corrupted[header + 3] = (byte) 0xFF;
+        corrupted[header + 4] = 0x07;
+
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(corrupted)));
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 3);
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.raumania.gui.manager;
+
+import com.raumania.gui.screen.Screen;
+import com.raumania.gui.screen.ScreenType;
+import com.raumania.utils.InitializeJavaFx;
+import javafx.application.Platform;
+import javafx.scene.text.Font;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class SceneManagerTest extends InitializeJavaFx {
+    private final List<ScreenType> built = new ArrayList<>();
+
+    /** Runs the test body on the FX thread, where stages and scenes must be created. */
+    private static void onFxThread(Runnable body) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                body.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+        done.get(30, TimeUnit.SECONDS);
+    }
+
+    /** Builds empty screens; like the real one, the game over screen looks up the game screen. */
+    private Screen stubScreen(SceneManager manager, ScreenType type) {
+        built.add(type);
+        if (type == ScreenType.GAME_OVER) {
+            manager.getScreen(ScreenType.GAME);
+        }
+        return new Screen(manager) {};
+    }
+
+    @Test
+    public void testScreensAreBuiltOnFirstUse() throws Exception {
+        onFxThread(() -> {
+            SceneManager manager = new SceneManager(new Stage(), this::stubScreen, Font.getDefault());
+            Assertions.assertTrue(built.isEmpty());
+            for (ScreenType type : ScreenType.values()) {
+                Assertions.assertFalse(manager.isBuilt(type), type.name());
+                Assertions.assertEquals(-1, manager.getBuildNanos(type));
+            }
+
+            Screen gameOver = manager.getScreen(ScreenType.GAME_OVER);
+            Assertions.assertEquals(List.of(ScreenType.GAME_OVER, ScreenType.GAME), built);
+            Assertions.assertTrue(manager.isBuilt(ScreenType.GAME));
+            Assertions.assertFalse(manager.isBuilt(ScreenType.MULTIPLAYER));
+            Assertions.assertTrue(manager.getBuildNanos(ScreenType.GAME_OVER)
+                    >= manager.getBuildNanos(ScreenType.GAME));
+
+            Assertions.assertSame(gameOver, manager.getScreen(ScreenType.GAME_OVER));
+            Assertions.assertEquals(1, manager.getBuildCount(ScreenType.GAME_OVER));
+
+            String report = manager.getTimingReport();
+            Assertions.assertTrue(report.contains("GAME_OVER"));
+            Assertions.assertTrue(report.contains("not built"));
+        });
+    }
+
+    @Test
+    public void testSwitchPrewarmsLikelyNextScreenLater() throws Exception {
+        SceneManager[] manager = new SceneManager[1];
+        onFxThread(() -> {
+            manager[0] = new SceneManager(new Stage(), this::stubScreen, Font.getDefault());
+            manager[0].switchScreen(ScreenType.LEVEL_SELECT);
+            // the next screen is not built during the switch itself
+            Assertions.assertEquals(List.of(ScreenType.LEVEL_SELECT), built);
+        });
+        // runs after the pulse that pre-warms the game screen
+        onFxThread(() -> {
+            Assertions.assertTrue(manager[0].isBuilt(ScreenType.GAME));
+            manager[0].prewarm(ScreenType.GAME);
+            Assertions.assertEquals(1, manager[0].getBuildCount(ScreenType.GAME));
+        });
+    }
+
+    @Test
+    public void testReleasableScreenIsRebuiltAfterRelease() throws Exception {
+        onFxThread(() -> {
+            SceneManager manager = new SceneManager(new Stage(), this::stubScreen, Font.getDefault());
+            manager.setPrewarmEnabled(false);
+            manager.switchScreen(ScreenType.SKIN_SELECT);
+            Assertions.assertTrue(manager.isBuilt(ScreenType.SKIN_SELECT));
+            manager.switchScreen(ScreenType.SETTINGS);
+            Assertions.assertEquals(1, manager.getBuildCount(ScreenType.SKIN_SELECT));
+            // whether or not the collector dropped it, the screen is available again
+            Assertions.assertNotNull(manager.getScreen(ScreenType.SKIN_SELECT));
+            Assertions.assertTrue(manager.getBuildCount(ScreenType.SKIN_SELECT) >= 1);
+        });
+    }
+}
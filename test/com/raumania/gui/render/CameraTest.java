@@ -0,0 +1,84 @@
+package com.raumania.gui.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CameraTest {
+    private static final double FRAME = 1.0 / Camera.EASING_RATE;
+
+    @Test
+    void testStaysAtOriginWhenWorldFitsTheView() {
+        Camera camera = new Camera(520, 620);
+        camera.follow(400, 500, 520, 620);
+        assertEquals(0, camera.getX());
+        assertEquals(0, camera.getY());
+    }
+
+    @Test
+    void testCentresOnTargetAndClampsToWorld() {
+        Camera camera = new Camera(100, 100);
+        camera.follow(500, 500, 1000, 800);
+        assertEquals(450, camera.getX());
+        assertEquals(450, camera.getY());
+
+        camera.follow(10, 790, 1000, 800);
+        assertEquals(0, camera.getX());
+        assertEquals(700, camera.getY());
+
+        assertTrue(camera.isVisible(50, 750, 10, 10));
+        assertFalse(camera.isVisible(200, 750, 10, 10));
+    }
+
+    @Test
+    void testFollowsTheBallUpATallWorld() {
+        Camera camera = new Camera(520, 620);
+        // a ball resting on the paddle at the bottom of the world
+        camera.track(260, 1900, 520, 2000, FRAME);
+        assertEquals(1900 + Camera.FOLLOW_MARGIN - 620, camera.getY());
+        for (int i = 0; i < 100; i++) {
+            camera.track(260, 1900, 520, 2000, FRAME);
+        }
+        assertEquals(1380, camera.getY(), 0.5);
+
+        // the ball climbs: the camera never lets it leave the view
+        camera.track(260, 300, 520, 2000, FRAME);
+        assertTrue(camera.isVisible(250, 300, 10, 10));
+        assertEquals(300 - Camera.FOLLOW_MARGIN, camera.getY());
+
+        // and eases on until the top rows are shown
+        for (int i = 0; i < 100; i++) {
+            camera.track(260, 300, 520, 2000, FRAME);
+        }
+        assertEquals(0, camera.getY(), 0.5);
+        assertTrue(camera.isVisible(0, 0, 40, 20));
+    }
+
+    @Test
+    void testEasesInsteadOfJumping() {
+        Camera camera = new Camera(520, 620);
+        camera.track(260, 1900, 520, 2000, FRAME);
+        double start = camera.getY();
+        camera.track(260, 1500, 520, 2000, FRAME);
+        // the ball is still in view, so the camera only covers part of the way
+        double target = 1500 - 310;
+        assertEquals(start + (target - start) * Camera.VERTICAL_EASING, camera.getY(), 1e-9);
+    }
+
+    @Test
+    void testEasesAtTheSameSpeedAtAnyFrameRate() {
+        Camera at60 = new Camera(520, 620);
+        Camera at144 = new Camera(520, 620);
+        at60.track(260, 1900, 520, 2000, FRAME);
+        at144.track(260, 1900, 520, 2000, FRAME);
+        // the ball rises a bit, both cameras follow it for a quarter of a second
+        for (int i = 0; i < 15; i++) {
+            at60.track(260, 1500, 520, 2000, 1.0 / 60);
+        }
+        for (int i = 0; i < 36; i++) {
+            at144.track(260, 1500, 520, 2000, 1.0 / 144);
+        }
+        assertEquals(at60.getY(), at144.getY(), 1e-6);
+        assertTrue(at60.getY() < 1380);
+    }
+}
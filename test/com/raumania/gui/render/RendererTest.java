@@ -0,0 +1,48 @@
+package com.raumania.gui.render;
+
+import com.raumania.core.MapLoader;
+import com.raumania.gameplay.manager.GameManager;
+import com.raumania.utils.InitializeJavaFx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RendererTest extends InitializeJavaFx {
+    private GameManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameManager();
+        manager.setCurrentLvl(MapLoader.loadLevel("level_1"));
+    }
+
+    @Test
+    void testCanvasUsesOneNodeForTheWholeField() {
+        GameRenderer sceneGraph = RendererFactory.createRenderer(RenderMode.SCENE_GRAPH, manager);
+        GameRenderer canvas = RendererFactory.createRenderer(RenderMode.CANVAS, manager);
+        sceneGraph.render();
+        canvas.render();
+
+        assertTrue(sceneGraph.getRoot().getChildren().size() > manager.getBricks().size());
+        assertEquals(1, canvas.getRoot().getChildren().size());
+        assertEquals(RenderMode.CANVAS, canvas.getMode());
+        assertTrue(canvas.getLastRenderNanos() > 0);
+    }
+
+    @Test
+    void testDisposedRendererIgnoresEvents() {
+        GameRenderer sceneGraph = RendererFactory.createRenderer(RenderMode.SCENE_GRAPH, manager);
+        sceneGraph.dispose();
+        manager.initGame();
+        assertTrue(sceneGraph.getRoot().getChildren().isEmpty());
+    }
+
+    @Test
+    void testRenderModeFromName() {
+        assertEquals(RenderMode.CANVAS, RenderMode.fromName("canvas", RenderMode.SCENE_GRAPH));
+        assertEquals(RenderMode.SCENE_GRAPH, RenderMode.fromName(null, RenderMode.SCENE_GRAPH));
+        assertEquals(RenderMode.SCENE_GRAPH, RenderMode.fromName("vulkan", RenderMode.SCENE_GRAPH));
+        assertEquals(RenderMode.SCENE_GRAPH, RenderMode.CANVAS.next());
+    }
+}
@@ -2,7 +2,11 @@ package com.raumania.math;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class Vec2fTest {
     @Test
@@ -40,4 +44,49 @@ public class Vec2fTest {
         assertEquals(vec.x + vec2.x, result.x, 0);
         assertEquals(vec.y + vec2.y, result.y, 0);
     }
+
+    @Test
+    void testInPlaceOperations() {
+        Vec2f vec = new Vec2f(1, 2);
+        assertSame(vec, vec.addInPlace(new Vec2f(3, 4)).scaleInPlace(0.5).addInPlace(1, -1));
+        assertEquals(3.0, vec.x, 0);
+        assertEquals(2.0, vec.y, 0);
+
+        vec.setFromAngle(Math.PI * 0.5);
+        assertEquals(0.0, vec.x, 1e-12);
+        assertEquals(1.0, vec.y, 1e-12);
+    }
+
+    @Test
+    void testRotateIntoMatchesRotate() {
+        Vec2f vec = new Vec2f(1, 2);
+        Vec2f expected = vec.rotate(30);
+        Vec2f out = new Vec2f(0, 0);
+        assertSame(out, vec.rotateInto(30, out));
+        assertEquals(expected.x, out.x, 1e-12);
+        assertEquals(expected.y, out.y, 1e-12);
+        assertEquals(1.0, vec.x, 0);
+
+        // rotating into itself reads both components first
+        vec.rotateInto(30, vec);
+        assertEquals(expected.x, vec.x, 1e-12);
+        assertEquals(expected.y, vec.y, 1e-12);
+    }
+
+    @Test
+    void testInPlaceOperationsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Vec2f vec = new Vec2f(1, 0);
+        Vec2f step = new Vec2f(0.5, 0.25);
+        threads.getCurrentThreadAllocatedBytes();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            vec.rotateInto(1, vec).addInPlace(step).scaleInPlace(0.5).normalize();
+            vec.setFromAngle(i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        // a single Vec2f per iteration would be megabytes
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
 }
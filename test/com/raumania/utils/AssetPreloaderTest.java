@@ -0,0 +1,66 @@
+package com.raumania.utils;
+
+import com.raumania.core.MapLoader;
+import javafx.application.Platform;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssetPreloaderTest extends InitializeJavaFx {
+
+    @Test
+    public void testLoadsEverythingInParallelAndFinishesOnFxThread() throws Exception {
+        AssetPreloader preloader = new AssetPreloader(4);
+        CountDownLatch running = new CountDownLatch(4);
+        AtomicInteger loaded = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            preloader.add("asset" + i, () -> {
+                running.countDown();
+                try {
+                    // only passes if all four tasks run at the same time
+                    Assertions.assertTrue(running.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                loaded.incrementAndGet();
+            });
+        }
+        preloader.add("broken", () -> {
+            throw new IllegalStateException("missing");
+        });
+
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean onFxThread = new AtomicBoolean();
+        preloader.start(() -> {
+            onFxThread.set(Platform.isFxApplicationThread());
+            finished.countDown();
+        });
+        Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(4, loaded.get());
+        Assertions.assertTrue(onFxThread.get());
+        Assertions.assertEquals(List.of("broken"), preloader.getFailures());
+        Assertions.assertEquals(1.0, preloader.progressProperty().get());
+        Assertions.assertTrue(preloader.getElapsedNanos() >= 0);
+    }
+
+    @Test
+    public void testPreloadedAssetsAreShared() throws Exception {
+        AssetPreloader preloader = new AssetPreloader(2);
+        preloader.add("level_1", () -> MapLoader.loadCompiledLevel("level_1"));
+        preloader.add("atlas", ResourcesLoader::getAtlas);
+        CountDownLatch finished = new CountDownLatch(1);
+        preloader.start(finished::countDown);
+        Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(preloader.getFailures().isEmpty());
+        Assertions.assertTrue(MapLoader.getLevelCache().contains("level_1"));
+        Assertions.assertSame(MapLoader.loadCompiledLevel("level_1"),
+                MapLoader.loadCompiledLevel("level_1"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.raumania.utils;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ImageCacheTest extends InitializeJavaFx {
+    // 10x10 images take 400 bytes each
+    private static final Function<String, Image> LOADER = name -> new WritableImage(10, 10);
+
+    @Test
+    public void testCountsHitsAndMisses() {
+        ImageCache cache = new ImageCache(10_000);
+        Image first = cache.get("a", LOADER);
+        Assertions.assertSame(first, cache.get("a", LOADER));
+        cache.get("b", LOADER);
+
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+        Assertions.assertEquals(800, cache.getSizeBytes());
+        cache.resetStats();
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedOverBudget() {
+        ImageCache cache = new ImageCache(1000);
+        cache.get("a", LOADER);
+        cache.get("b", LOADER);
+        cache.get("a", LOADER);
+        cache.get("c", LOADER);
+
+        Assertions.assertEquals(1, cache.getEvictions());
+        Assertions.assertTrue(cache.contains("a"));
+        Assertions.assertFalse(cache.contains("b"));
+        Assertions.assertTrue(cache.contains("c"));
+        Assertions.assertTrue(cache.getSizeBytes() <= cache.getCapacityBytes());
+    }
+
+    @Test
+    public void testImageLargerThanBudgetIsNotCached() {
+        ImageCache cache = new ImageCache(100);
+        cache.get("a", LOADER);
+        Assertions.assertFalse(cache.contains("a"));
+        Assertions.assertEquals(0, cache.getSizeBytes());
+        Assertions.assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testResourcesLoaderSharesDecodedImages() {
+        Image background = ResourcesLoader.loadImage("gamepane_bg.png");
+        long hits = ResourcesLoader.getImageCache().getHits();
+        Assertions.assertSame(background, ResourcesLoader.loadImage("gamepane_bg.png"));
+        Assertions.assertEquals(hits + 1, ResourcesLoader.getImageCache().getHits());
+    }
+
+    @Test
+    public void testDecodesDifferentImagesInParallel() throws Exception {
+        ImageCache cache = new ImageCache(10_000);
+        CountDownLatch bothDecoding = new CountDownLatch(2);
+        // each decode waits for the other one to start, which only happens outside the lock
+        Function<String, Image> loader = name -> {
+            bothDecoding.countDown();
+            try {
+                if (!bothDecoding.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("decodes ran one at a time");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new WritableImage(10, 10);
+        };
+        CompletableFuture<Image> a = CompletableFuture.supplyAsync(() -> cache.get("a", loader));
+        CompletableFuture<Image> b = CompletableFuture.supplyAsync(() -> cache.get("b", loader));
+
+        Assertions.assertNotNull(a.get(10, TimeUnit.SECONDS));
+        Assertions.assertNotNull(b.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(800, cache.getSizeBytes());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneDecode() throws Exception {
+        ImageCache cache = new ImageCache(10_000);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger decodes = new AtomicInteger();
+        Function<String, Image> loader = name -> {
+            decodes.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new WritableImage(10, 10);
+        };
+        CompletableFuture<Image> first =
+                CompletableFuture.supplyAsync(() -> cache.get("a", loader));
+        while (!cache.contains("a")) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Image> second =
+                CompletableFuture.supplyAsync(() -> cache.get("a", loader));
+        release.countDown();
+
+        Assertions.assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, decodes.get());
+        Assertions.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testFailedDecodeIsNotCached() {
+        ImageCache cache = new ImageCache(10_000);
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get("a", name -> {
+            throw new IllegalStateException("broken");
+        }));
+        Assertions.assertFalse(cache.contains("a"));
+        Assertions.assertNotNull(cache.get("a", LOADER));
+    }
+}
@@ -0,0 +1,96 @@
+package com.raumania.utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class TextureAtlasTest extends InitializeJavaFx {
+
+    private static Image filled(int width, int height, Color color) {
+        WritableImage image = new WritableImage(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.getPixelWriter().setColor(x, y, color);
+            }
+        }
+        return image;
+    }
+
+    @Test
+    public void testSpritesDoNotOverlapAndKeepTheirPixels() {
+        Map<String, Image> sprites = Map.of(
+                "a", filled(40, 15, Color.RED),
+                "b", filled(96, 11, Color.BLUE),
+                "c", filled(96, 16, Color.LIME),
+                "d", filled(40, 15, Color.YELLOW));
+        String[] names = {"a", "b", "c", "d"};
+        TextureAtlas atlas = TextureAtlas.pack(names, sprites::get, 128);
+
+        PixelReader reader = atlas.getImage().getPixelReader();
+        for (int i = 0; i < names.length; i++) {
+            Rectangle2D region = atlas.getRegion(names[i]);
+            Image sprite = sprites.get(names[i]);
+            Assertions.assertEquals(sprite.getWidth(), region.getWidth());
+            Assertions.assertEquals(sprite.getHeight(), region.getHeight());
+            Assertions.assertEquals(sprite.getPixelReader().getArgb(0, 0),
+                    reader.getArgb((int) region.getMinX(), (int) region.getMinY()));
+            for (int j = i + 1; j < names.length; j++) {
+                Assertions.assertFalse(region.intersects(atlas.getRegion(names[j])),
+                        names[i] + " overlaps " + names[j]);
+            }
+        }
+        // the 11 px sprite is padded to a whole 16 px frame with transparent pixels
+        Rectangle2D b = atlas.getRegion("b");
+        Assertions.assertEquals(0, reader.getArgb((int) b.getMinX(), (int) b.getMinY() + 15));
+        Assertions.assertNull(atlas.getRegion("missing"));
+    }
+
+    @Test
+    public void testGutterRepeatsEdgePixels() {
+        // sizes that are already whole frames, like the brick hit strips, used to touch
+        Map<String, Image> sprites = Map.of(
+                "red", filled(32, 16, Color.RED),
+                "blue", filled(32, 16, Color.BLUE),
+                "short", filled(16, 11, Color.LIME));
+        String[] names = {"red", "blue", "short"};
+        TextureAtlas atlas = TextureAtlas.pack(names, sprites::get, 128);
+        PixelReader reader = atlas.getImage().getPixelReader();
+
+        for (String name : new String[] {"red", "blue"}) {
+            Rectangle2D region = atlas.getRegion(name);
+            int argb = sprites.get(name).getPixelReader().getArgb(0, 0);
+            int left = (int) region.getMinX();
+            int top = (int) region.getMinY();
+            int right = (int) region.getMaxX();
+            int bottom = (int) region.getMaxY();
+            Assertions.assertEquals(argb, reader.getArgb(left - 1, top), name + " left");
+            Assertions.assertEquals(argb, reader.getArgb(right, bottom - 1), name + " right");
+            Assertions.assertEquals(argb, reader.getArgb(left + 5, top - 1), name + " top");
+            Assertions.assertEquals(argb, reader.getArgb(left + 5, bottom), name + " bottom");
+            Assertions.assertEquals(argb, reader.getArgb(right, bottom), name + " corner");
+        }
+        // a sprite padded to a whole frame repeats the transparent padding, not its last row
+        Rectangle2D padded = atlas.getRegion("short");
+        Assertions.assertEquals(0, reader.getArgb((int) padded.getMinX(),
+                (int) padded.getMinY() + TextureAtlas.CELL));
+        Assertions.assertEquals(Color.LIME, reader.getColor((int) padded.getMinX() - 1,
+                (int) padded.getMinY() + 10));
+    }
+
+    @Test
+    public void testGameAtlasHoldsSprites() {
+        TextureAtlas atlas = ResourcesLoader.getAtlas();
+        Assertions.assertSame(atlas, ResourcesLoader.getAtlas());
+        Rectangle2D explosion = atlas.getRegion("ve_explosion.png");
+        Assertions.assertNotNull(explosion);
+        Assertions.assertEquals(176, explosion.getWidth());
+        Assertions.assertNotNull(atlas.getRegion("explosive_brick.png"));
+        Assertions.assertNull(atlas.getRegion("gamepane_bg.png"));
+    }
+}